@@ -0,0 +1,68 @@
+package java25;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java25.VectorApiExample.IntLanePredicate;
+
+/**
+ * parallelStreamExample의 "3과 5의 배수 세기" 작업을 스트림, 스칼라 루프, 벡터 커널로 비교하는 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorKernelBenchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private int[] data;
+    private int[] indices;
+    private IntLanePredicate divisibleBy15;
+
+    @Setup
+    public void setUp() {
+        data = IntStream.range(0, size).toArray();
+        indices = new int[size];
+        divisibleBy15 = IntLanePredicate.divisibleBy(3).and(IntLanePredicate.divisibleBy(5));
+    }
+
+    @Benchmark
+    public long sequentialStream() {
+        return IntStream.of(data).filter(n -> n % 3 == 0 && n % 5 == 0).count();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return IntStream.of(data).parallel().filter(n -> n % 3 == 0 && n % 5 == 0).count();
+    }
+
+    @Benchmark
+    public long scalarCount() {
+        return VectorApiExample.scalarCount(data, divisibleBy15);
+    }
+
+    @Benchmark
+    public long vectorCount() {
+        return VectorApiExample.count(data, divisibleBy15);
+    }
+
+    @Benchmark
+    public int vectorSelectIndices() {
+        return VectorApiExample.selectIndices(data, divisibleBy15, indices);
+    }
+
+    @Benchmark
+    public long vectorMaskedSum() {
+        return VectorApiExample.sum(data, divisibleBy15);
+    }
+}
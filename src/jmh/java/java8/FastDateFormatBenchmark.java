@@ -0,0 +1,72 @@
+package java8;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 같은 패턴의 타임스탬프를 DateTimeFormatter와 FastDateFormat으로 만드는 비용을 비교하는 벤치마크
+ * 
+ * 할당량은 gc 프로파일러로 확인합니다. (intoBuffer/fromEpochMillis는 호출당 0바이트가 목표)
+ *   java -jar build/libs/java-release-0.0.1-SNAPSHOT-jmh.jar FastDateFormatBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FastDateFormatBenchmark {
+
+    @Param({"yyyy-MM-dd HH:mm:ss", "ISO_LOCAL_DATE_TIME"})
+    public String pattern;
+
+    private LocalDateTime dateTime;
+    private long epochMillis;
+    private DateTimeFormatter formatter;
+    private FastDateFormat fastFormat;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        dateTime = LocalDateTime.of(2024, 3, 15, 14, 30, 45, 123_000_000);
+        epochMillis = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        if (pattern.equals("ISO_LOCAL_DATE_TIME")) {
+            formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+            fastFormat = FastDateFormat.ISO_LOCAL_DATE_TIME;
+        } else {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            fastFormat = FastDateFormat.of(pattern);
+        }
+        buffer = new byte[64];
+    }
+
+    // 기존 방식: 포맷한 String을 다시 바이트로 인코딩
+    @Benchmark
+    public byte[] dateTimeFormatter() {
+        return formatter.format(dateTime).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String fastFormatToString() {
+        return fastFormat.format(dateTime);
+    }
+
+    @Benchmark
+    public int intoBuffer() {
+        return fastFormat.format(dateTime, buffer, 0);
+    }
+
+    @Benchmark
+    public int fromEpochMillis() {
+        return fastFormat.format(epochMillis, ZoneOffset.UTC, buffer, 0);
+    }
+}
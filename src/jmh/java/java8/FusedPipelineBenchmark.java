@@ -0,0 +1,91 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java8.StreamApiExample.Student;
+
+/**
+ * filter/filter/mapToInt/sum 파이프라인을 스트림과 FusedPipeline으로 비교하는 벤치마크
+ * 
+ * 실제 서비스처럼 여러 파이프라인이 스트림 내부 코드를 공유하는 상황을 재현하기 위해,
+ * 측정 전에 서로 다른 람다를 사용하는 스트림을 여러 번 실행하여 스트림 내부의 호출 지점을 메가모픽으로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FusedPipelineBenchmark {
+
+    private static final String[] GENDERS = {"남성", "여성"};
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private List<Student> students;
+    private Student[] studentArray;
+    private FusedPipeline.Compiled<Student, Long> fused;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(new Student("학생" + i, 17 + random.nextInt(4), GENDERS[random.nextInt(2)],
+                    random.nextInt(101)));
+        }
+        studentArray = students.toArray(new Student[0]);
+
+        fused = FusedPipeline.<Student>start()
+                .filter(student -> student.getAge() == 19)
+                .filter(student -> "남성".equals(student.getGender()))
+                .mapToInt(Student::getScore)
+                .sum();
+
+        pollute();
+    }
+
+    @Benchmark
+    public long stream() {
+        return students.stream()
+                .filter(student -> student.getAge() == 19)
+                .filter(student -> "남성".equals(student.getGender()))
+                .mapToInt(Student::getScore)
+                .sum();
+    }
+
+    // ArrayList를 get(i)로 직접 순회 (복사 없음)
+    @Benchmark
+    public long fusedList() {
+        return fused.apply(students);
+    }
+
+    @Benchmark
+    public long fusedArray() {
+        return fused.apply(studentArray);
+    }
+
+    // 스트림 내부 Sink의 호출 지점에 여러 람다 타입을 기록
+    private void pollute() {
+        long blackhole = 0;
+        for (int round = 0; round < 200; round++) {
+            blackhole += students.stream().filter(s -> s.getScore() > 50).mapToInt(Student::getAge).sum();
+            blackhole += students.stream().filter(s -> s.getAge() < 19).mapToInt(s -> s.getName().length()).sum();
+            blackhole += students.stream().filter(s -> "여성".equals(s.getGender())).mapToInt(Student::getScore).sum();
+            blackhole += students.stream().map(Student::getName).filter(n -> n.endsWith("7")).count();
+        }
+        if (blackhole == 42) {
+            System.out.println(blackhole);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * StreamApiExample.parallelStreamExample의 순차/병렬 스트림 비교를 JMH로 측정하는 벤치마크
+ * 
+ * System.currentTimeMillis로 한 번만 측정하면 JIT 워밍업 시간이 결과를 지배하므로,
+ * 데이터 크기 · 요소 타입(박싱/기본형) · 파이프라인 형태별로 순차와 병렬의 평균 실행 시간을 측정합니다.
+ * 병렬이 유리해지는 크기(교차점)는 StreamCrossoverReport로 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamCrossoverBenchmark {
+
+    public enum ElementType { BOXED, PRIMITIVE }
+
+    public enum Shape { FILTER_COUNT, GROUPING_BY, REDUCE }
+
+    private static final int GROUPS = 16;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"BOXED", "PRIMITIVE"})
+    public ElementType elementType;
+
+    @Param({"FILTER_COUNT", "GROUPING_BY", "REDUCE"})
+    public Shape shape;
+
+    private List<Integer> boxed;
+    private IntColumn primitive;
+
+    @Setup
+    public void setUp() {
+        if (elementType == ElementType.BOXED) {
+            boxed = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                boxed.add(i);
+            }
+        } else {
+            primitive = IntColumn.range(0, size);
+        }
+    }
+
+    @Benchmark
+    public Object sequential() {
+        return run(false);
+    }
+
+    @Benchmark
+    public Object parallel() {
+        return run(true);
+    }
+
+    private Object run(boolean parallel) {
+        return elementType == ElementType.BOXED ? runBoxed(parallel) : runPrimitive(parallel);
+    }
+
+    private Object runBoxed(boolean parallel) {
+        var stream = parallel ? boxed.parallelStream() : boxed.stream();
+        return switch (shape) {
+            case FILTER_COUNT -> stream.filter(n -> n % 3 == 0 && n % 5 == 0).count();
+            case GROUPING_BY -> {
+                Map<Integer, Long> counts = stream.collect(
+                        Collectors.groupingBy(n -> n % GROUPS, Collectors.counting()));
+                yield counts;
+            }
+            case REDUCE -> stream.reduce(0, Integer::sum);
+        };
+    }
+
+    private Object runPrimitive(boolean parallel) {
+        var stream = parallel ? primitive.parallelStream() : primitive.stream();
+        return switch (shape) {
+            case FILTER_COUNT -> stream.filter(n -> n % 3 == 0 && n % 5 == 0).count();
+            // 기본형 스트림에는 groupingBy가 없으므로 그룹 수만큼의 카운터 배열로 집계
+            case GROUPING_BY -> stream.collect(
+                    () -> new long[GROUPS],
+                    (counts, n) -> counts[n % GROUPS]++,
+                    (left, right) -> {
+                        for (int i = 0; i < GROUPS; i++) {
+                            left[i] += right[i];
+                        }
+                    });
+            case REDUCE -> stream.reduce(0, Integer::sum);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package java8;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * StreamCrossoverBenchmark를 병렬도별로 실행하고 병렬 스트림이 순차 스트림보다 빨라지는 최소 크기를 출력합니다.
+ * 
+ * 실행 방법:
+ *   ./gradlew jmhJar
+ *   java -cp build/libs/java-release-0.0.1-SNAPSHOT-jmh.jar java8.StreamCrossoverReport 2 4 8
+ * 
+ * 인자는 공통 ForkJoinPool의 병렬도 목록이며, 생략하면 현재 머신의 코어 수를 사용합니다.
+ */
+public class StreamCrossoverReport {
+
+    public static void main(String[] args) throws RunnerException {
+        int[] parallelisms = args.length == 0
+                ? new int[] {Runtime.getRuntime().availableProcessors()}
+                : java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        for (int parallelism : parallelisms) {
+            Options options = new OptionsBuilder()
+                    .include(StreamCrossoverBenchmark.class.getSimpleName())
+                    .jvmArgsAppend("-Xmx6g",
+                            "-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .forks(1)
+                    .build();
+
+            Collection<RunResult> results = new Runner(options).run();
+            printCrossover(parallelism, results);
+        }
+    }
+
+    private static void printCrossover(int parallelism, Collection<RunResult> results) {
+        // (요소 타입, 파이프라인 형태) -> 크기 -> [순차 점수, 병렬 점수]
+        Map<String, TreeMap<Integer, double[]>> scores = new TreeMap<>();
+
+        for (RunResult result : results) {
+            var params = result.getParams();
+            String key = params.getParam("elementType") + " / " + params.getParam("shape");
+            int size = Integer.parseInt(params.getParam("size"));
+            boolean parallel = params.getBenchmark().endsWith(".parallel");
+
+            double[] pair = scores.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(size, s -> new double[2]);
+            pair[parallel ? 1 : 0] = result.getPrimaryResult().getScore();
+        }
+
+        System.out.println("\n=== 병렬도 " + parallelism + " 교차점 ===");
+        scores.forEach((key, bySize) -> {
+            Integer crossover = null;
+            for (Map.Entry<Integer, double[]> entry : bySize.entrySet()) {
+                double[] pair = entry.getValue();
+                if (pair[1] > 0 && pair[1] < pair[0]) {
+                    crossover = entry.getKey();
+                    break;
+                }
+            }
+            System.out.println(key + ": " + (crossover == null ? "병렬이 유리한 크기 없음" : crossover + "개부터 병렬이 유리"));
+        });
+    }
+}
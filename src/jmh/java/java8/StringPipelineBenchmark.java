@@ -0,0 +1,78 @@
+package java8;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java8.InterfaceEnhancementsExample.StringProcessor;
+
+/**
+ * trim -> 대문자 -> 치환 -> 접미사 -> 접두사 처리를 StringProcessor 체인과 StringPipeline으로 비교하는 벤치마크
+ * 
+ * 할당량은 gc 프로파일러로 확인합니다. (gc.alloc.rate.norm: 호출 1회당 할당 바이트)
+ *   java -jar build/libs/java-release-0.0.1-SNAPSHOT-jmh.jar StringPipelineBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringPipelineBenchmark {
+
+    @Param({"16", "256"})
+    public int length;
+
+    private String input;
+    private StringProcessor chained;
+    private StringPipeline pipeline;
+    private StringPipeline.Buffer buffer;
+    private StringBuilder out;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("  ");
+        while (sb.length() < length) {
+            sb.append("java stream api ");
+        }
+        input = sb.append("  ").toString();
+
+        StringProcessor trim = String::trim;
+        chained = trim
+                .andThen(String::toUpperCase)
+                .andThen(s -> s.replace("API", "Api"))
+                .andThen(s -> s + "!")
+                .andThen(s -> "결과: " + s);
+        pipeline = StringPipeline.builder()
+                .trim()
+                .upperCase()
+                .replace("API", "Api")
+                .suffix("!")
+                .prefix("결과: ")
+                .build();
+        buffer = new StringPipeline.Buffer();
+        out = new StringBuilder(length * 2);
+    }
+
+    @Benchmark
+    public String chainedProcessor() {
+        return chained.process(input);
+    }
+
+    // 결과 String 하나만 할당
+    @Benchmark
+    public String pipelineToString() {
+        return pipeline.process(input);
+    }
+
+    // 버퍼에서 바로 재사용 StringBuilder로 복사 (할당 없음)
+    @Benchmark
+    public int pipelineIntoBuffer() {
+        out.setLength(0);
+        return pipeline.process(input, buffer).appendTo(out).length();
+    }
+}
@@ -0,0 +1,73 @@
+package java8;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 사용자명 조회 지연 시간 분포를 UserDirectory와 HashMap으로 비교하는 벤치마크
+ * 
+ * SampleTime 모드로 측정하므로 결과에 p50/p90/p99/p99.9 백분위가 함께 출력됩니다.
+ * hit는 존재하는 사용자, miss는 존재하지 않는 사용자를 조회합니다. (miss는 블룸 필터 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class UserDirectoryBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private String[] present;
+    private String[] absent;
+    private UserDirectory directory;
+    private Map<String, String> hashMap;
+
+    @Setup
+    public void setUp() {
+        present = new String[size];
+        absent = new String[Math.min(size, 1 << 20)];
+        directory = new UserDirectory(size);
+        hashMap = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            present[i] = "user" + i;
+            directory.put(present[i], "이름" + i);
+            hashMap.put(present[i], "이름" + i);
+        }
+        for (int i = 0; i < absent.length; i++) {
+            absent[i] = "guest" + i;
+        }
+    }
+
+    @Benchmark
+    public String directoryHit() {
+        return directory.findName(present[ThreadLocalRandom.current().nextInt(present.length)]);
+    }
+
+    @Benchmark
+    public String directoryMiss() {
+        return directory.findName(absent[ThreadLocalRandom.current().nextInt(absent.length)]);
+    }
+
+    @Benchmark
+    public String hashMapHit() {
+        return hashMap.get(present[ThreadLocalRandom.current().nextInt(present.length)]);
+    }
+
+    @Benchmark
+    public String hashMapMiss() {
+        return hashMap.get(absent[ThreadLocalRandom.current().nextInt(absent.length)]);
+    }
+}
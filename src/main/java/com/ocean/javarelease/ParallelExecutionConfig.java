@@ -0,0 +1,32 @@
+package com.ocean.javarelease;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java8.ParallelExecution;
+
+/**
+ * 병렬 스트림 작업 부하별 전용 ForkJoinPool 설정
+ * 
+ * 무거운 분석 요청(analytics)이 공통 풀을 독점하여 다른 요청의 병렬 처리를 굶주리게 하지 않도록,
+ * 작업 부하마다 병렬도와 동시 실행 수를 따로 제한합니다. 풀은 애플리케이션 종료 시 close()로 정리됩니다.
+ * UserStatsController의 나이 통계 집계가 analytics 작업 부하에서 실행됩니다.
+ */
+@Configuration
+public class ParallelExecutionConfig {
+
+    @Bean
+    public ParallelExecution parallelExecution(
+            @Value("${parallel-execution.analytics.parallelism:2}") int analyticsParallelism,
+            @Value("${parallel-execution.analytics.max-in-flight:2}") int analyticsMaxInFlight,
+            @Value("${parallel-execution.default.parallelism:2}") int defaultParallelism,
+            @Value("${parallel-execution.default.max-in-flight:8}") int defaultMaxInFlight,
+            @Value("${parallel-execution.admission-timeout:100ms}") Duration admissionTimeout) {
+        return new ParallelExecution()
+                .register("analytics", analyticsParallelism, analyticsMaxInFlight, admissionTimeout)
+                .register("default", defaultParallelism, defaultMaxInFlight, admissionTimeout);
+    }
+}
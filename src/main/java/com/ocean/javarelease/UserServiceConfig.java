@@ -0,0 +1,28 @@
+package com.ocean.javarelease;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserService;
+import java8.InterfaceEnhancementsExample.UserServiceImpl;
+
+/**
+ * 사용자 조회/스트리밍 엔드포인트(UserStreamController)가 사용하는 UserService 설정
+ */
+@Configuration
+public class UserServiceConfig {
+
+    @Bean
+    public UserService userService() {
+        return new UserServiceImpl(List.of(
+                new User("홍길동", "admin", 35),
+                new User("김영희", "user", 28),
+                new User("이철수", "user", 42),
+                new User("박지영", "manager", 31),
+                new User("최민수", "user", 25)
+        ));
+    }
+}
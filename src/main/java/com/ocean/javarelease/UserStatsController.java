@@ -0,0 +1,69 @@
+package com.ocean.javarelease;
+
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserFilter;
+import java8.InterfaceEnhancementsExample.UserService;
+import java8.ParallelExecution;
+
+/**
+ * 사용자 나이 통계를 병렬로 집계하는 엔드포인트
+ * 
+ * GET /users/age-stats?role=user&minAge=30
+ * 집계는 ParallelExecution의 "analytics" 작업 부하 풀에서 실행되므로 공통 풀을 점유하지 않으며,
+ * 동시 실행 수를 넘어 제한 시간 안에 실행하지 못한 요청은 503으로 응답합니다.
+ * GET /parallel-execution/metrics는 작업 부하별 풀 상태와 처리/거절 수를 반환합니다.
+ */
+@RestController
+public class UserStatsController {
+
+    static final String WORKLOAD = "analytics";
+
+    private final UserService userService;
+    private final ParallelExecution parallelExecution;
+
+    public UserStatsController(UserService userService, ParallelExecution parallelExecution) {
+        this.userService = userService;
+        this.parallelExecution = parallelExecution;
+    }
+
+    @GetMapping("/users/age-stats")
+    public IntSummaryStatistics ageStats(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Integer minAge) {
+        UserFilter filter = UserFilter.all();
+        if (role != null) {
+            filter = filter.and(UserFilter.getRoleFilter(role));
+        }
+        if (minAge != null) {
+            filter = filter.and(UserFilter.getAgeFilter(minAge));
+        }
+        UserFilter compiled = filter.compile();
+        List<User> users = userService.getAllUsers();
+        return parallelExecution.execute(WORKLOAD, () -> users.parallelStream()
+                .filter(compiled::filter)
+                .mapToInt(User::getAge)
+                .summaryStatistics());
+    }
+
+    @GetMapping("/parallel-execution/metrics")
+    public Map<String, ParallelExecution.Metrics> metrics() {
+        return parallelExecution.metrics();
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> saturated(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+}
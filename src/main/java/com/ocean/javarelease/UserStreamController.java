@@ -0,0 +1,122 @@
+package com.ocean.javarelease;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Flow;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java8.InterfaceEnhancementsExample.UserFilter;
+import java8.InterfaceEnhancementsExample.UserService;
+import java8.UserBatchPublisher.UserBatch;
+
+/**
+ * 필터에 맞는 사용자를 NDJSON(한 줄에 배치 하나)으로 스트리밍하는 엔드포인트
+ * 
+ * GET /users/stream?role=user&minAge=30&batchSize=100&resumeToken=...
+ * batchSize는 1 이상 UserBatchPublisher.MAX_BATCH_SIZE(1000) 이하이며, 벗어나면 400으로 응답합니다.
+ * 각 줄은 {"users":[...],"resumeToken":"..."} 형태이며, 연결이 끊어지면 마지막 줄의 resumeToken으로 이어서 요청할 수 있습니다.
+ * 응답 스레드가 한 배치를 쓰고 flush한 뒤에 다음 배치를 요청하므로, 느린 클라이언트 앞에서 스캔이 앞서 나가지 않습니다.
+ */
+@RestController
+public class UserStreamController {
+
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    public UserStreamController(UserService userService, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(value = "/users/stream", produces = APPLICATION_NDJSON)
+    public StreamingResponseBody streamUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(defaultValue = "100") int batchSize,
+            @RequestParam(required = false) String resumeToken) {
+        UserFilter filter = UserFilter.all();
+        if (role != null) {
+            filter = filter.and(UserFilter.getRoleFilter(role));
+        }
+        if (minAge != null) {
+            filter = filter.and(UserFilter.getAgeFilter(minAge));
+        }
+        // 잘못된 배치 크기나 토큰은 응답을 쓰기 전에 여기서 예외가 발생
+        Flow.Publisher<UserBatch> publisher =
+                userService.streamUsers(filter.compile(), batchSize, resumeToken, Runnable::run);
+        return out -> {
+            NdjsonWriter writer = new NdjsonWriter(out, objectMapper);
+            publisher.subscribe(writer);
+            writer.rethrowFailure();
+        };
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    /**
+     * 배치를 한 줄씩 쓰고 flush한 뒤 다음 배치를 요청하는 구독자 (Runnable::run으로 응답 스레드에서 동기 실행)
+     */
+    private static final class NdjsonWriter implements Flow.Subscriber<UserBatch> {
+        private final OutputStream out;
+        private final ObjectMapper objectMapper;
+        private Flow.Subscription subscription;
+        private Throwable failure;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) {
+            this.out = out;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(UserBatch batch) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(batch));
+                out.write('\n');
+                out.flush();
+                subscription.request(1);
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등: 스캔을 멈춤
+                failure = e;
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        void rethrowFailure() throws IOException {
+            if (failure instanceof IOException e) {
+                throw e;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("사용자 스트리밍 중 오류가 발생했습니다.", failure);
+            }
+        }
+    }
+}
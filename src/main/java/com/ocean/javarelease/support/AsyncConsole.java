@@ -0,0 +1,159 @@
+package com.ocean.javarelease.support;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 예제 전체가 함께 쓰는 비동기 콘솔 출력
+ *
+ * System.out.println은 호출마다 PrintStream의 잠금을 잡고 한 줄씩 flush하므로, 병렬 스트림의 map 안에서 출력하면
+ * 작업 스레드들이 출력 잠금에서 줄을 서게 됩니다. AsyncConsole은 출력할 문자열을 미리 할당된 링 버퍼에 넣기만 하고
+ * (여러 생산자가 순번을 원자적으로 할당받아 각자의 칸에 기록), 백그라운드 작성 스레드 하나가 쌓인 줄을 모아
+ * System.out에 한 번에 쓰고 flush합니다. 버퍼가 가득 차면 생산자는 칸이 빌 때까지 기다리므로 출력이 버려지지 않습니다.
+ *
+ * 줄 순서는 순번을 할당받은 순서와 같습니다. JVM 종료 시 남은 출력은 종료 훅에서 모두 기록됩니다.
+ * System.out을 거쳐 쓰므로 System.setOut이나 System.out에 쓰는 로그와 같은 스트림을 공유하지만,
+ * 기록은 비동기이므로 System.out/System.err에 직접 쓰는 출력과 순서를 맞춰야 하면 그 전에 flush를 호출합니다.
+ * 작성 스레드가 멈춘 경우에는 호출한 스레드에서 System.out에 바로 씁니다.
+ */
+public final class AsyncConsole {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(String[].class);
+    private static final int CAPACITY = 1 << 13;
+    private static final int MAX_BATCH = 1024;
+    // 이보다 커진 묶음 버퍼는 다음 묶음에서 다시 만듦 (긴 출력 한 번으로 커진 버퍼를 계속 붙잡지 않도록)
+    private static final int MAX_RETAINED_CHARS = 64 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final AsyncConsole INSTANCE = new AsyncConsole(CAPACITY);
+
+    private final String[] slots;
+    // 칸마다 줄바꿈 여부 (문자열을 release로 게시하기 전에 기록)
+    private final boolean[] lineBreaks;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+    private volatile boolean writerWaiting;
+
+    private final Thread writer;
+
+    private AsyncConsole(int capacity) {
+        this.slots = new String[capacity];
+        this.lineBreaks = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.writer = new Thread(this::writeLoop, "async-console");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitWritten(claimed.get(), TimeUnit.SECONDS.toNanos(5))));
+    }
+
+    public static void println() {
+        INSTANCE.publish("", true);
+    }
+
+    public static void println(String text) {
+        INSTANCE.publish(String.valueOf(text), true);
+    }
+
+    public static void println(Object value) {
+        INSTANCE.publish(String.valueOf(value), true);
+    }
+
+    public static void print(String text) {
+        INSTANCE.publish(String.valueOf(text), false);
+    }
+
+    public static void print(Object value) {
+        INSTANCE.publish(String.valueOf(value), false);
+    }
+
+    /**
+     * 지금까지 호출된 출력이 모두 System.out에 기록될 때까지 기다립니다.
+     */
+    public static void flush() {
+        INSTANCE.awaitWritten(INSTANCE.claimed.get(), Long.MAX_VALUE);
+    }
+
+    private void publish(String text, boolean lineBreak) {
+        if (!writer.isAlive()) {
+            writeDirectly(text, lineBreak);
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        // 작성 스레드가 capacity칸 이상 뒤처져 있으면 칸이 빌 때까지 대기
+        for (int spins = 0; sequence - consumed >= slots.length; spins++) {
+            if (spins < 100) {
+                Thread.onSpinWait();
+            } else if (!writer.isAlive()) {
+                // 칸이 영영 비지 않으므로 직접 기록
+                writeDirectly(text, lineBreak);
+                return;
+            } else {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(10_000);
+            }
+        }
+        int index = (int) sequence & mask;
+        lineBreaks[index] = lineBreak;
+        SLOTS.setRelease(slots, index, text);
+        if (writerWaiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private static void writeDirectly(String text, boolean lineBreak) {
+        if (lineBreak) {
+            System.out.println(text);
+        } else {
+            System.out.print(text);
+            System.out.flush();
+        }
+    }
+
+    private void awaitWritten(long sequence, long timeoutNanos) {
+        long deadline = System.nanoTime() + Math.min(timeoutNanos, Long.MAX_VALUE / 2);
+        while (consumed < sequence && writer.isAlive() && System.nanoTime() - deadline < 0) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private void writeLoop() {
+        StringBuilder batch = new StringBuilder();
+        long next = 0;
+        while (true) {
+            String text = (String) SLOTS.getAcquire(slots, (int) next & mask);
+            if (text == null) {
+                writerWaiting = true;
+                if (SLOTS.getAcquire(slots, (int) next & mask) == null) {
+                    LockSupport.parkNanos(1_000_000);
+                }
+                writerWaiting = false;
+                continue;
+            }
+            // 이미 게시된 연속된 칸을 한 묶음으로 기록
+            long end = next;
+            do {
+                int index = (int) end & mask;
+                batch.append(text);
+                if (lineBreaks[index]) {
+                    batch.append(LINE_SEPARATOR);
+                }
+                slots[index] = null;
+                end++;
+            } while (end - next < MAX_BATCH && (text = (String) SLOTS.getAcquire(slots, (int) end & mask)) != null);
+            try {
+                System.out.append(batch);
+                System.out.flush();
+            } catch (Throwable e) {
+                // 작성 스레드가 멈추면 생산자가 기다리게 되므로 이 묶음은 버리고 계속 진행
+            }
+            batch = batch.length() > MAX_RETAINED_CHARS ? new StringBuilder() : batch.delete(0, batch.length());
+            next = end;
+            consumed = next;
+        }
+    }
+}
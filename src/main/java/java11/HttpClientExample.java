@@ -9,6 +9,8 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 11 HTTP 클라이언트 API 예제
  * 
@@ -19,7 +21,7 @@ import java.util.concurrent.ExecutionException;
 public class HttpClientExample {
 
     public static void main(String[] args) throws Exception {
-        System.out.println("Java 11 HTTP 클라이언트 API 예제");
+        AsyncConsole.println("Java 11 HTTP 클라이언트 API 예제");
         
         // 예제 1: 기본 GET 요청
         simpleGetRequest();
@@ -41,7 +43,7 @@ public class HttpClientExample {
      * 예제 1: 기본 GET 요청
      */
     private static void simpleGetRequest() throws IOException, InterruptedException {
-        System.out.println("\n=== 기본 GET 요청 ===");
+        AsyncConsole.println("\n=== 기본 GET 요청 ===");
         
         // HttpClient 생성
         HttpClient client = HttpClient.newHttpClient();
@@ -56,16 +58,16 @@ public class HttpClientExample {
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
         
         // 응답 출력
-        System.out.println("상태 코드: " + response.statusCode());
-        System.out.println("응답 헤더: " + response.headers());
-        System.out.println("응답 본문 (일부): " + response.body().substring(0, Math.min(response.body().length(), 200)) + "...");
+        AsyncConsole.println("상태 코드: " + response.statusCode());
+        AsyncConsole.println("응답 헤더: " + response.headers());
+        AsyncConsole.println("응답 본문 (일부): " + response.body().substring(0, Math.min(response.body().length(), 200)) + "...");
     }
     
     /**
      * 예제 2: POST 요청
      */
     private static void postRequest() throws IOException, InterruptedException {
-        System.out.println("\n=== POST 요청 ===");
+        AsyncConsole.println("\n=== POST 요청 ===");
         
         // 요청 본문 데이터
         String requestBody = "{\"name\":\"홍길동\",\"age\":30}";
@@ -80,15 +82,15 @@ public class HttpClientExample {
         
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
         
-        System.out.println("상태 코드: " + response.statusCode());
-        System.out.println("응답 본문 (일부): " + response.body().substring(0, Math.min(response.body().length(), 200)) + "...");
+        AsyncConsole.println("상태 코드: " + response.statusCode());
+        AsyncConsole.println("응답 본문 (일부): " + response.body().substring(0, Math.min(response.body().length(), 200)) + "...");
     }
     
     /**
      * 예제 3: 비동기 요청
      */
     private static void asyncRequest() throws ExecutionException, InterruptedException {
-        System.out.println("\n=== 비동기 요청 ===");
+        AsyncConsole.println("\n=== 비동기 요청 ===");
         
         HttpClient client = HttpClient.newHttpClient();
         
@@ -96,7 +98,7 @@ public class HttpClientExample {
                 .uri(URI.create("https://httpbin.org/delay/1")) // 의도적으로 지연된 응답
                 .build();
         
-        System.out.println("비동기 요청 전송 중...");
+        AsyncConsole.println("비동기 요청 전송 중...");
         
         // 비동기 요청 전송
         CompletableFuture<HttpResponse<String>> futureResponse = 
@@ -104,24 +106,24 @@ public class HttpClientExample {
         
         // 비동기 처리 콜백
         futureResponse.thenAccept(response -> {
-            System.out.println("비동기 응답 수신 완료!");
-            System.out.println("상태 코드: " + response.statusCode());
-            System.out.println("응답 헤더: " + response.headers().firstValue("content-type").orElse(""));
+            AsyncConsole.println("비동기 응답 수신 완료!");
+            AsyncConsole.println("상태 코드: " + response.statusCode());
+            AsyncConsole.println("응답 헤더: " + response.headers().firstValue("content-type").orElse(""));
         });
         
         // 추가 작업을 할 수 있음
-        System.out.println("다른 작업을 수행하는 중...");
+        AsyncConsole.println("다른 작업을 수행하는 중...");
         
         // 결과 대기 (실제 앱에서는 다른 작업과 조합하여 사용)
         HttpResponse<String> response = futureResponse.get();
-        System.out.println("비동기 요청 완료, 응답 본문 길이: " + response.body().length());
+        AsyncConsole.println("비동기 요청 완료, 응답 본문 길이: " + response.body().length());
     }
     
     /**
      * 예제 4: 타임아웃 설정
      */
     private static void withTimeoutRequest() throws IOException, InterruptedException {
-        System.out.println("\n=== 타임아웃 설정 ===");
+        AsyncConsole.println("\n=== 타임아웃 설정 ===");
         
         // HttpClient 생성 시 타임아웃 설정
         HttpClient client = HttpClient.newBuilder()
@@ -135,8 +137,8 @@ public class HttpClientExample {
         
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
         
-        System.out.println("상태 코드: " + response.statusCode());
-        System.out.println("응답 수신 완료 (타임아웃 미발생)");
+        AsyncConsole.println("상태 코드: " + response.statusCode());
+        AsyncConsole.println("응답 수신 완료 (타임아웃 미발생)");
         
         // 매우 짧은 타임아웃으로 예외 상황 시뮬레이션
         try {
@@ -146,9 +148,9 @@ public class HttpClientExample {
                     .build();
             
             client.send(timeoutRequest, HttpResponse.BodyHandlers.ofString());
-            System.out.println("예상치 못한 성공"); // 이 코드는 실행되지 않아야 함
+            AsyncConsole.println("예상치 못한 성공"); // 이 코드는 실행되지 않아야 함
         } catch (Exception e) {
-            System.out.println("예상된 타임아웃 예외 발생: " + e.getClass().getSimpleName());
+            AsyncConsole.println("예상된 타임아웃 예외 발생: " + e.getClass().getSimpleName());
         }
     }
     
@@ -156,7 +158,7 @@ public class HttpClientExample {
      * 예제 5: 헤더 추가 및 리다이렉트 처리
      */
     private static void headersAndRedirectRequest() throws IOException, InterruptedException {
-        System.out.println("\n=== 헤더 추가 및 리다이렉트 처리 ===");
+        AsyncConsole.println("\n=== 헤더 추가 및 리다이렉트 처리 ===");
         
         // 리다이렉트 정책을 설정한 클라이언트
         HttpClient client = HttpClient.newBuilder()
@@ -173,8 +175,8 @@ public class HttpClientExample {
         
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
         
-        System.out.println("상태 코드: " + response.statusCode());
-        System.out.println("응답 본문: " + response.body());
+        AsyncConsole.println("상태 코드: " + response.statusCode());
+        AsyncConsole.println("응답 본문: " + response.body());
         
         // 리다이렉트 예제
         HttpRequest redirectRequest = HttpRequest.newBuilder()
@@ -183,8 +185,8 @@ public class HttpClientExample {
         
         HttpResponse<String> redirectResponse = client.send(redirectRequest, HttpResponse.BodyHandlers.ofString());
         
-        System.out.println("\n리다이렉트 후 최종 상태 코드: " + redirectResponse.statusCode());
-        System.out.println("리다이렉트 후 최종 URI: " + redirectResponse.uri());
-        System.out.println("이전 응답 정보: " + redirectResponse.previousResponse().isPresent());
+        AsyncConsole.println("\n리다이렉트 후 최종 상태 코드: " + redirectResponse.statusCode());
+        AsyncConsole.println("리다이렉트 후 최종 URI: " + redirectResponse.uri());
+        AsyncConsole.println("이전 응답 정보: " + redirectResponse.previousResponse().isPresent());
     }
 }
@@ -1,5 +1,7 @@
 package java17;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 14에서 도입되고 Java 17 LTS에서 완전히 지원되는 instanceof 패턴 매칭 예제
  * 
@@ -41,7 +43,7 @@ public class InstanceofPatternMatchingExample {
         }
         
         public void fetch() {
-            System.out.println(getName() + "가 공을 가져옵니다.");
+            AsyncConsole.println(getName() + "가 공을 가져옵니다.");
         }
     }
     
@@ -63,7 +65,7 @@ public class InstanceofPatternMatchingExample {
         }
         
         public void purr() {
-            System.out.println(getName() + "가 그르렁거립니다.");
+            AsyncConsole.println(getName() + "가 그르렁거립니다.");
         }
     }
     
@@ -86,9 +88,9 @@ public class InstanceofPatternMatchingExample {
         
         public void fly() {
             if (canFly) {
-                System.out.println(getName() + "가 날아갑니다.");
+                AsyncConsole.println(getName() + "가 날아갑니다.");
             } else {
-                System.out.println(getName() + "는 날 수 없습니다.");
+                AsyncConsole.println(getName() + "는 날 수 없습니다.");
             }
         }
     }
@@ -138,20 +140,20 @@ public class InstanceofPatternMatchingExample {
     
     // 예제 1: 기본 instanceof 패턴 매칭 사용
     public static void describeAnimal(Animal animal) {
-        System.out.println("\n동물 소개:");
-        System.out.println("이름: " + animal.getName());
-        System.out.println("소리: " + animal.makeSound());
+        AsyncConsole.println("\n동물 소개:");
+        AsyncConsole.println("이름: " + animal.getName());
+        AsyncConsole.println("소리: " + animal.makeSound());
         
         // Java 17 패턴 매칭 사용
         if (animal instanceof Dog dog) {
             // 타입 체크와 캐스팅이 한 번에 이루어짐
-            System.out.println("견종: " + dog.getBreed());
+            AsyncConsole.println("견종: " + dog.getBreed());
             dog.fetch();
         } else if (animal instanceof Cat cat) {
-            System.out.println("실내고양이: " + (cat.isIndoor() ? "예" : "아니오"));
+            AsyncConsole.println("실내고양이: " + (cat.isIndoor() ? "예" : "아니오"));
             cat.purr();
         } else if (animal instanceof Bird bird) {
-            System.out.println("날 수 있나요: " + (bird.canFly() ? "예" : "아니오"));
+            AsyncConsole.println("날 수 있나요: " + (bird.canFly() ? "예" : "아니오"));
             bird.fly();
         }
     }
@@ -160,17 +162,17 @@ public class InstanceofPatternMatchingExample {
     public static void processObject(Object obj) {
         // 패턴 변수를 사용한 타입 확인 및 데이터 추출
         if (obj instanceof String s) {
-            System.out.println("문자열 처리: " + s.toUpperCase());
+            AsyncConsole.println("문자열 처리: " + s.toUpperCase());
         } else if (obj instanceof Integer i) {
-            System.out.println("정수 처리: " + (i * 2));
+            AsyncConsole.println("정수 처리: " + (i * 2));
         } else if (obj instanceof Double d) {
-            System.out.println("실수 처리: " + Math.round(d));
+            AsyncConsole.println("실수 처리: " + Math.round(d));
         } else if (obj instanceof Dog dog) {
-            System.out.println("개 처리: " + dog.getName() + "는 " + dog.getBreed() + " 견종입니다.");
+            AsyncConsole.println("개 처리: " + dog.getName() + "는 " + dog.getBreed() + " 견종입니다.");
         } else if (obj instanceof Animal animal) {
-            System.out.println("동물 처리: " + animal.getName() + "는 " + animal.makeSound() + " 소리를 냅니다.");
+            AsyncConsole.println("동물 처리: " + animal.getName() + "는 " + animal.makeSound() + " 소리를 냅니다.");
         } else {
-            System.out.println("기타 객체 처리: " + obj);
+            AsyncConsole.println("기타 객체 처리: " + obj);
         }
     }
     
@@ -178,38 +180,38 @@ public class InstanceofPatternMatchingExample {
     public static void checkSpecialAbilities(Animal animal) {
         // 패턴 매칭과 조건문 결합
         if (animal instanceof Dog dog && "그레이하운드".equals(dog.getBreed())) {
-            System.out.println(dog.getName() + "는 매우 빠른 개입니다!");
+            AsyncConsole.println(dog.getName() + "는 매우 빠른 개입니다!");
         } else if (animal instanceof Cat cat && !cat.isIndoor()) {
-            System.out.println(cat.getName() + "는 야외 고양이로 사냥을 잘합니다.");
+            AsyncConsole.println(cat.getName() + "는 야외 고양이로 사냥을 잘합니다.");
         } else if (animal instanceof Bird bird && bird.canFly()) {
-            System.out.println(bird.getName() + "는 하늘을 자유롭게 날 수 있습니다.");
+            AsyncConsole.println(bird.getName() + "는 하늘을 자유롭게 날 수 있습니다.");
         }
     }
     
     // 예제 4: 예전 방식과 새로운 패턴 매칭 비교
     public static void compareOldAndNewApproach(Animal animal) {
-        System.out.println("\n== 예전 방식 ==");
+        AsyncConsole.println("\n== 예전 방식 ==");
         // Java 16 이전 방식 - 타입 확인과 캐스팅이 분리됨
         if (animal instanceof Dog) {
             Dog dog = (Dog) animal; // 추가적인 캐스팅 필요
-            System.out.println(dog.getName() + "는 " + dog.getBreed() + " 견종이며 " + dog.makeSound() + " 소리를 냅니다.");
+            AsyncConsole.println(dog.getName() + "는 " + dog.getBreed() + " 견종이며 " + dog.makeSound() + " 소리를 냅니다.");
         }
         
-        System.out.println("== 새로운 방식 ==");
+        AsyncConsole.println("== 새로운 방식 ==");
         // Java 16 이후 방식 - 타입 확인과 캐스팅이 결합됨
         if (animal instanceof Dog dog) {
             // 패턴 변수 'dog'를 바로 사용 가능
-            System.out.println(dog.getName() + "는 " + dog.getBreed() + " 견종이며 " + dog.makeSound() + " 소리를 냅니다.");
+            AsyncConsole.println(dog.getName() + "는 " + dog.getBreed() + " 견종이며 " + dog.makeSound() + " 소리를 냅니다.");
         }
         
         // 부정적 매칭에서의 스코프 차이
-        System.out.println("\n== 스코프 차이 ==");
+        AsyncConsole.println("\n== 스코프 차이 ==");
         if (!(animal instanceof Dog dog)) {
             // dog 변수는 이 블록에서 사용할 수 없음
-            System.out.println("이 동물은 개가 아닙니다.");
+            AsyncConsole.println("이 동물은 개가 아닙니다.");
         } else {
             // dog 변수는 이 블록에서만 사용 가능
-            System.out.println("이 동물은 " + dog.getBreed() + " 견종의 개입니다.");
+            AsyncConsole.println("이 동물은 " + dog.getBreed() + " 견종의 개입니다.");
         }
     }
 }
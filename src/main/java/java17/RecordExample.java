@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 16에서 정식 도입된 레코드(Records) 예제
  * (Java 17 LTS에서 완전히 지원됨)
@@ -76,7 +78,7 @@ public class RecordExample {
         @Override
         public Address address() {
             // 반환값을 수정하거나 로깅할 수 있음
-            System.out.println("주소 접근: " + address);
+            AsyncConsole.println("주소 접근: " + address);
             return address;
         }
     }
@@ -85,7 +87,7 @@ public class RecordExample {
     public interface Vehicle {
         String getRegistrationNumber();
         default void printDetails() {
-            System.out.println("차량 등록 번호: " + getRegistrationNumber());
+            AsyncConsole.println("차량 등록 번호: " + getRegistrationNumber());
         }
     }
     
@@ -99,8 +101,8 @@ public class RecordExample {
         @Override
         public void printDetails() {
             Vehicle.super.printDetails();
-            System.out.println("모델: " + model);
-            System.out.println("연식: " + year);
+            AsyncConsole.println("모델: " + model);
+            AsyncConsole.println("연식: " + year);
         }
     }
     
@@ -147,40 +149,40 @@ public class RecordExample {
     public static void main(String[] args) {
         // 예제 1: 기본 레코드 사용
         Person person = new Person("홍길동", 30);
-        System.out.println("이름: " + person.name());
-        System.out.println("나이: " + person.age());
-        System.out.println("toString(): " + person);
+        AsyncConsole.println("이름: " + person.name());
+        AsyncConsole.println("나이: " + person.age());
+        AsyncConsole.println("toString(): " + person);
         
         // equals(), hashCode() 자동 생성
         Person anotherPerson = new Person("홍길동", 30);
-        System.out.println("동등성 검사: " + person.equals(anotherPerson));
+        AsyncConsole.println("동등성 검사: " + person.equals(anotherPerson));
         
         try {
             // 유효성 검사 테스트
             Person invalidPerson = new Person("", -5);
         } catch (IllegalArgumentException e) {
-            System.out.println("예상된 예외: " + e.getMessage());
+            AsyncConsole.println("예상된 예외: " + e.getMessage());
         }
         
         // 예제 2: 메서드가 있는 레코드 사용
         Rectangle rectangle = new Rectangle(5.0, 3.0);
-        System.out.println("사각형 면적: " + rectangle.area());
-        System.out.println("사각형 둘레: " + rectangle.perimeter());
+        AsyncConsole.println("사각형 면적: " + rectangle.area());
+        AsyncConsole.println("사각형 둘레: " + rectangle.perimeter());
         
         // 정적 팩토리 메서드
         Rectangle square = Rectangle.square(4.0);
-        System.out.println("정사각형: " + square);
-        System.out.println("정사각형 면적: " + square.area());
+        AsyncConsole.println("정사각형: " + square);
+        AsyncConsole.println("정사각형 면적: " + square.area());
         
         // 예제 3: 제네릭 레코드
         Pair<String, Integer> nameAge = new Pair<>("김철수", 25);
         Pair<Integer, String> ageFirstPair = nameAge.mapFirst(name -> name.length())
                                                    .mapSecond(age -> "나이: " + age);
-        System.out.println("변환된 쌍: " + ageFirstPair);
+        AsyncConsole.println("변환된 쌍: " + ageFirstPair);
         
         // 예제 4: 인터페이스 구현
         PrintablePerson printablePerson = new PrintablePerson("이영희", 28);
-        System.out.println("출력 형식: " + printablePerson.getPrintableForm());
+        AsyncConsole.println("출력 형식: " + printablePerson.getPrintableForm());
         
         // 예제 5: 중첩 레코드
         Address address = new Address("가로수길 123", "서울", "06000");
@@ -195,14 +197,14 @@ public class RecordExample {
         
         // 예제 7: 기존 클래스와 비교
         TraditionalPerson traditionalPerson = new TraditionalPerson("김민준", 35);
-        System.out.println("\n기존 클래스: " + traditionalPerson);
-        System.out.println("레코드: " + person);
+        AsyncConsole.println("\n기존 클래스: " + traditionalPerson);
+        AsyncConsole.println("레코드: " + person);
         
-        System.out.println("\n--- 레코드의 장점 ---");
-        System.out.println("1. 간결한 코드 (equals, hashCode, toString 자동 생성)");
-        System.out.println("2. 명확한 의도 (데이터 전달 목적임을 명시)");
-        System.out.println("3. 불변성 보장 (모든 필드는 final)");
-        System.out.println("4. 구조적 패턴 매칭과의 시너지");
+        AsyncConsole.println("\n--- 레코드의 장점 ---");
+        AsyncConsole.println("1. 간결한 코드 (equals, hashCode, toString 자동 생성)");
+        AsyncConsole.println("2. 명확한 의도 (데이터 전달 목적임을 명시)");
+        AsyncConsole.println("3. 불변성 보장 (모든 필드는 final)");
+        AsyncConsole.println("4. 구조적 패턴 매칭과의 시너지");
         
         // 예제 8: 레코드 컬렉션 처리
         List<Person> people = new ArrayList<>();
@@ -216,13 +218,13 @@ public class RecordExample {
                 .average()
                 .orElse(0);
                 
-        System.out.println("\n평균 나이: " + averageAge);
+        AsyncConsole.println("\n평균 나이: " + averageAge);
         
         // 이름이 가장 긴 사람 찾기
         Person personWithLongestName = people.stream()
                 .max((p1, p2) -> Integer.compare(p1.name().length(), p2.name().length()))
                 .orElse(null);
                 
-        System.out.println("가장 긴 이름을 가진 사람: " + personWithLongestName);
+        AsyncConsole.println("가장 긴 이름을 가진 사람: " + personWithLongestName);
     }
 }
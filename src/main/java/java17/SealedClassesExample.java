@@ -1,5 +1,7 @@
 package java17;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 17 봉인 클래스(Sealed Classes) 예제
  * 
@@ -176,18 +178,18 @@ public class SealedClassesExample {
         Shape rectangle = example.new Rectangle(4.0, 6.0);
         Shape triangle = example.new Triangle(3.0, 4.0);
         
-        System.out.println("원 면적: " + calculateArea(circle));
-        System.out.println("사각형 면적: " + calculateArea(rectangle));
-        System.out.println("삼각형 면적: " + calculateArea(triangle));
+        AsyncConsole.println("원 면적: " + calculateArea(circle));
+        AsyncConsole.println("사각형 면적: " + calculateArea(rectangle));
+        AsyncConsole.println("삼각형 면적: " + calculateArea(triangle));
         
         // 봉인 클래스 허용 검사를 통한 타입 안전성
         Vehicle car = example.new Car("CA-1234", 4);
         Vehicle truck = example.new Truck("TR-5678", 5000.0);
         Vehicle sportBike = example.new SportBike("SB-9012", false, 300);
         
-        System.out.println(car.getType() + ": " + ((Car)car).getNumDoors() + "개 문");
-        System.out.println(truck.getType() + ": " + ((Truck)truck).getLoadCapacity() + "kg 적재용량");
-        System.out.println(sportBike.getType() + ": " + ((SportBike)sportBike).getTopSpeed() + "km/h 최고속도");
+        AsyncConsole.println(car.getType() + ": " + ((Car)car).getNumDoors() + "개 문");
+        AsyncConsole.println(truck.getType() + ": " + ((Truck)truck).getLoadCapacity() + "kg 적재용량");
+        AsyncConsole.println(sportBike.getType() + ": " + ((SportBike)sportBike).getTopSpeed() + "km/h 최고속도");
         
         // 컴파일 타임 오류 예시 (실행 불가, 주석 처리)
         // class IllegalShape implements Shape { // 오류: Shape은 봉인되어 있고 IllegalShape은 허용되지 않음
@@ -1,5 +1,7 @@
 package java17;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 15에서 도입되고 Java 17 LTS에서 완전히 지원되는 텍스트 블록(Text Blocks) 예제
  * 
@@ -15,16 +17,16 @@ public class TextBlocksExample {
                 여러 줄에 걸친
                 텍스트 블록입니다.""";
         
-        System.out.println("=== 기본 텍스트 블록 ===");
-        System.out.println(textBlock);
+        AsyncConsole.println("=== 기본 텍스트 블록 ===");
+        AsyncConsole.println(textBlock);
         
         // 기존 방식과 비교
         String oldWay = "안녕하세요,\n" +
                         "여러 줄에 걸친\n" +
                         "문자열입니다.";
         
-        System.out.println("\n=== 기존 방식 ===");
-        System.out.println(oldWay);
+        AsyncConsole.println("\n=== 기존 방식 ===");
+        AsyncConsole.println(oldWay);
         
         // 예제 2: HTML 코드
         String html = """
@@ -40,8 +42,8 @@ public class TextBlocksExample {
                 </html>
                 """;
         
-        System.out.println("\n=== HTML 예제 ===");
-        System.out.println(html);
+        AsyncConsole.println("\n=== HTML 예제 ===");
+        AsyncConsole.println(html);
         
         // 예제 3: JSON 형식
         String json = """
@@ -59,8 +61,8 @@ public class TextBlocksExample {
                 }
                 """;
         
-        System.out.println("\n=== JSON 예제 ===");
-        System.out.println(json);
+        AsyncConsole.println("\n=== JSON 예제 ===");
+        AsyncConsole.println(json);
         
         // 예제 4: SQL 쿼리
         String sql = """
@@ -72,8 +74,8 @@ public class TextBlocksExample {
                 ORDER BY e.last_name, e.first_name;
                 """;
         
-        System.out.println("\n=== SQL 예제 ===");
-        System.out.println(sql);
+        AsyncConsole.println("\n=== SQL 예제 ===");
+        AsyncConsole.println(sql);
         
         // 예제 5: 들여쓰기 제어
         String indented = """
@@ -82,8 +84,8 @@ public class TextBlocksExample {
                     다시 원래 들여쓰기로 돌아옵니다.
                 """;
         
-        System.out.println("\n=== 들여쓰기 예제 ===");
-        System.out.println(indented);
+        AsyncConsole.println("\n=== 들여쓰기 예제 ===");
+        AsyncConsole.println(indented);
         
         // 들여쓰기 제거 예제
         String aligned = """
@@ -92,8 +94,8 @@ public class TextBlocksExample {
                 세 번째 줄
                 """;
         
-        System.out.println("\n=== 들여쓰기 정렬 예제 ===");
-        System.out.println(aligned);
+        AsyncConsole.println("\n=== 들여쓰기 정렬 예제 ===");
+        AsyncConsole.println(aligned);
         
         // 예제 6: 공백 제어 및 이스케이프 시퀀스
         String spaces = """
@@ -102,9 +104,9 @@ public class TextBlocksExample {
                 세 번째 줄은 "따옴표"와 \\백슬래시\\를 포함합니다.
                 """;
         
-        System.out.println("\n=== 공백 및 이스케이프 예제 ===");
-        System.out.println(spaces);
-        System.out.println("첫 번째 줄 길이: " + spaces.split("\n")[0].length());
+        AsyncConsole.println("\n=== 공백 및 이스케이프 예제 ===");
+        AsyncConsole.println(spaces);
+        AsyncConsole.println("첫 번째 줄 길이: " + spaces.split("\n")[0].length());
         
         // 예제 7: 문자열 포맷팅과 결합
         String name = "홍길동";
@@ -115,8 +117,8 @@ public class TextBlocksExample {
                 나이: %d
                 """.formatted(name, age);
         
-        System.out.println("\n=== 포맷팅 예제 ===");
-        System.out.println(formattedText);
+        AsyncConsole.println("\n=== 포맷팅 예제 ===");
+        AsyncConsole.println(formattedText);
         
         // 예제 8: 줄 결합
         String combined = """
@@ -124,8 +126,8 @@ public class TextBlocksExample {
                 하나의 줄로 \
                 결합됩니다.""";
         
-        System.out.println("\n=== 줄 결합 예제 ===");
-        System.out.println(combined);
+        AsyncConsole.println("\n=== 줄 결합 예제 ===");
+        AsyncConsole.println(combined);
         
         // 예제 9: 실제 사용 사례 - 이메일 템플릿
         String recipient = "김고객";
@@ -144,8 +146,8 @@ public class TextBlocksExample {
                 자바서점 드림
                 """.formatted(recipient, product, recipient, product);
         
-        System.out.println("\n=== 이메일 템플릿 예제 ===");
-        System.out.println(emailTemplate);
+        AsyncConsole.println("\n=== 이메일 템플릿 예제 ===");
+        AsyncConsole.println(emailTemplate);
         
         // 예제 10: 여러 줄 주석 작성용 텍스트 블록
         String documentation = """
@@ -158,7 +160,7 @@ public class TextBlocksExample {
                  */
                 """;
         
-        System.out.println("\n=== 문서화 예제 ===");
-        System.out.println(documentation);
+        AsyncConsole.println("\n=== 문서화 예제 ===");
+        AsyncConsole.println(documentation);
     }
 }
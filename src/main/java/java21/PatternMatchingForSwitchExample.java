@@ -1,5 +1,7 @@
 package java21;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 21 switch 문에서의 패턴 매칭(Pattern Matching for switch) 예제
  * 
@@ -30,7 +32,7 @@ public class PatternMatchingForSwitchExample {
             case null -> "null 값";
             default -> "기타 객체: " + obj.getClass().getSimpleName();
         };
-        System.out.println(result);
+        AsyncConsole.println(result);
         
         // 예제 2: when 가드 조건 사용
         Object value = 42;
@@ -44,12 +46,12 @@ public class PatternMatchingForSwitchExample {
             case String s -> s.length() + "글자 문자열";
             default -> "다른 타입";
         };
-        System.out.println("카테고리: " + category);
+        AsyncConsole.println("카테고리: " + category);
         
         // 예제 3: 도형 계층 구조와 switch
         Shape shape = new Rectangle(5.0, 3.0);
         double area = calculateArea(shape);
-        System.out.println("도형 면적: " + area);
+        AsyncConsole.println("도형 면적: " + area);
         
         // 예제 4: null 처리와 패턴 매칭 결합
         Object data = null;
@@ -64,7 +66,7 @@ public class PatternMatchingForSwitchExample {
                 name + "님은 " + dept + " 부서의 직원 ID " + id + "입니다.";
             default -> "처리할 수 없는 레코드";
         };
-        System.out.println(info);
+        AsyncConsole.println(info);
         
         // 예제 6: 중첩 패턴과 조건 결합
         Object[] items = {1, "2", 3.0, true, null};
@@ -80,7 +82,7 @@ public class PatternMatchingForSwitchExample {
                 case null -> "null 값";
                 default -> "기타 타입: " + item.getClass().getSimpleName();
             };
-            System.out.println(description);
+            AsyncConsole.println(description);
         }
     }
     
@@ -100,6 +102,6 @@ public class PatternMatchingForSwitchExample {
             case null -> "데이터 없음";
             default -> "알 수 없는 데이터 유형";
         };
-        System.out.println("데이터 상태: " + status);
+        AsyncConsole.println("데이터 상태: " + status);
     }
 }
@@ -1,5 +1,7 @@
 package java21;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 21 레코드 패턴(Record Patterns) 예제
  * 
@@ -27,7 +29,7 @@ public class RecordPatternsExample {
         // 예제 1: 기본 레코드 패턴
         Point point = new Point(10, 20);
         if (point instanceof Point(int x, int y)) {
-            System.out.println("점의 좌표: (" + x + ", " + y + ")");
+            AsyncConsole.println("점의 좌표: (" + x + ", " + y + ")");
         }
         
         // 예제 2: 중첩 레코드 패턴
@@ -35,8 +37,8 @@ public class RecordPatternsExample {
         if (rectangle instanceof Rectangle(Point(int x1, int y1), Point(int x2, int y2))) {
             int width = x2 - x1;
             int height = y2 - y1;
-            System.out.println("너비: " + width + ", 높이: " + height);
-            System.out.println("면적: " + (width * height));
+            AsyncConsole.println("너비: " + width + ", 높이: " + height);
+            AsyncConsole.println("면적: " + (width * height));
         }
         
         // 예제 3: switch 표현식과 레코드 패턴 활용
@@ -53,7 +55,7 @@ public class RecordPatternsExample {
                 "삼각형 (점: " + p1 + ", " + p2 + ", " + p3 + ")";
             default -> "알 수 없는 도형";
         };
-        System.out.println(description);
+        AsyncConsole.println(description);
         
         // 예제 4: 더 복잡한 중첩 패턴
         ColoredShape coloredShape = new ColoredShape(
@@ -65,27 +67,27 @@ public class RecordPatternsExample {
                 Shape(String type, Circle(Point(int cx, int cy), int r)),
                 Color(int red, int green, int blue)
             )) {
-            System.out.println("타입: " + type);
-            System.out.println("중심: (" + cx + ", " + cy + ")");
-            System.out.println("반지름: " + r);
-            System.out.println("색상: rgb(" + red + ", " + green + ", " + blue + ")");
+            AsyncConsole.println("타입: " + type);
+            AsyncConsole.println("중심: (" + cx + ", " + cy + ")");
+            AsyncConsole.println("반지름: " + r);
+            AsyncConsole.println("색상: rgb(" + red + ", " + green + ", " + blue + ")");
         }
         
         // 예제 5: var 패턴 변수와 when 절 조합
         Object obj = new Point(100, 200);
         switch (obj) {
             case Point(var x, var y) when x > 0 && y > 0 -> 
-                System.out.println("1사분면의 점: (" + x + ", " + y + ")");
+                AsyncConsole.println("1사분면의 점: (" + x + ", " + y + ")");
             case Point(var x, var y) when x < 0 && y > 0 -> 
-                System.out.println("2사분면의 점: (" + x + ", " + y + ")");
+                AsyncConsole.println("2사분면의 점: (" + x + ", " + y + ")");
             case Point(var x, var y) when x < 0 && y < 0 -> 
-                System.out.println("3사분면의 점: (" + x + ", " + y + ")");
+                AsyncConsole.println("3사분면의 점: (" + x + ", " + y + ")");
             case Point(var x, var y) when x > 0 && y < 0 -> 
-                System.out.println("4사분면의 점: (" + x + ", " + y + ")");
+                AsyncConsole.println("4사분면의 점: (" + x + ", " + y + ")");
             case Point(var x, var y) -> 
-                System.out.println("축 위의 점: (" + x + ", " + y + ")");
+                AsyncConsole.println("축 위의 점: (" + x + ", " + y + ")");
             default -> 
-                System.out.println("점이 아님");
+                AsyncConsole.println("점이 아님");
         }
     }
 }
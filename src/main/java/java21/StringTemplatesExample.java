@@ -3,6 +3,8 @@ package java21;
 import java.util.List;
 import java.util.Map;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 21 문자열 템플릿(String Templates) 예제 - 프리뷰 기능
  * 
@@ -32,7 +34,7 @@ public class StringTemplatesExample {
         
         // 일반 문자열 연결
         String greeting = "안녕하세요, " + name + "님! 당신은 " + age + "세입니다.";
-        System.out.println(greeting);
+        AsyncConsole.println(greeting);
         
         // 예제 2: 표현식 사용
         int a = 10;
@@ -43,7 +45,7 @@ public class StringTemplatesExample {
         
         // 일반 문자열 연결
         String calculation = a + " + " + b + " = " + (a + b);
-        System.out.println(calculation);
+        AsyncConsole.println(calculation);
         
         // 예제 3: 여러 줄 문자열
         Person person = new Person("김철수", 25, "개발자");
@@ -65,7 +67,7 @@ public class StringTemplatesExample {
               나이: """ + person.age() + """
               직업: """ + person.job() + """
             """;
-        System.out.println(personInfo);
+        AsyncConsole.println(personInfo);
         
         // 예제 4: 컬렉션과 함께 사용
         List<String> fruits = List.of("사과", "바나나", "오렌지");
@@ -75,7 +77,7 @@ public class StringTemplatesExample {
         
         // 일반 문자열 연결
         String fruitList = "과일 목록: " + String.join(", ", fruits);
-        System.out.println(fruitList);
+        AsyncConsole.println(fruitList);
         
         // 예제 5: 조건식 사용
         boolean isStudent = true;
@@ -85,7 +87,7 @@ public class StringTemplatesExample {
         
         // 일반 문자열 연결
         String status = "상태: " + (isStudent ? "학생" : "비학생");
-        System.out.println(status);
+        AsyncConsole.println(status);
         
         // 예제 6: 포맷팅이 필요한 경우
         double price = 12345.6789;
@@ -95,7 +97,7 @@ public class StringTemplatesExample {
         
         // 일반 문자열 연결
         String formattedPrice = "가격: " + String.format("%.2f", price) + "원";
-        System.out.println(formattedPrice);
+        AsyncConsole.println(formattedPrice);
         
         // 예제 7: 커스텀 템플릿 프로세서 (실제 코드에서는 아래와 같이 작성)
         /*
@@ -110,12 +112,12 @@ public class StringTemplatesExample {
         
         // 일반 문자열을 사용한 동등한 예제:
         String json = "{ \"name\": \"" + name + "\", \"age\": " + age + " }";
-        System.out.println("JSON: " + json);
+        AsyncConsole.println("JSON: " + json);
         
         String tableName = "users";
         String condition = "age > 18";
         String query = "SELECT * FROM " + tableName + " WHERE " + condition;
-        System.out.println("SQL: " + query);
+        AsyncConsole.println("SQL: " + query);
         
         // 예제 8: 프로그래밍 언어 코드 생성
         String className = "MyClass";
@@ -141,7 +143,7 @@ public class StringTemplatesExample {
         
         String javaCode = "public class " + className + " {\n    " 
                 + methodsStr + "\n}";
-        System.out.println("생성된 Java 코드:");
-        System.out.println(javaCode);
+        AsyncConsole.println("생성된 Java 코드:");
+        AsyncConsole.println(javaCode);
     }
 }
@@ -6,6 +6,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 21 가상 스레드(Virtual Threads) 예제
  * 
@@ -17,8 +19,8 @@ public class VirtualThreadsExample {
     public static void main(String[] args) throws InterruptedException {
         // 예제 1: 단일 가상 스레드 생성
         Thread vt = Thread.startVirtualThread(() -> {
-            System.out.println("Hello from Virtual Thread: " + Thread.currentThread());
-            System.out.println("Is Virtual: " + Thread.currentThread().isVirtual());
+            AsyncConsole.println("Hello from Virtual Thread: " + Thread.currentThread());
+            AsyncConsole.println("Is Virtual: " + Thread.currentThread().isVirtual());
         });
         vt.join();
         
@@ -26,7 +28,7 @@ public class VirtualThreadsExample {
         Thread namedVt = Thread.ofVirtual()
                 .name("custom-vt")
                 .start(() -> {
-                    System.out.println("Hello from named Virtual Thread: " + Thread.currentThread());
+                    AsyncConsole.println("Hello from named Virtual Thread: " + Thread.currentThread());
                 });
         namedVt.join();
         
@@ -51,26 +53,26 @@ public class VirtualThreadsExample {
         } // executor.close() 자동 호출
         
         long endTime = System.currentTimeMillis();
-        System.out.println("완료된 작업 수: " + counter.get());
-        System.out.println("소요 시간: " + (endTime - startTime) + "ms");
+        AsyncConsole.println("완료된 작업 수: " + counter.get());
+        AsyncConsole.println("소요 시간: " + (endTime - startTime) + "ms");
         
         // 예제 4: 가상 스레드 특성 비교
         Thread platformThread = Thread.ofPlatform().start(() -> {
-            System.out.println("Platform Thread: " + Thread.currentThread());
+            AsyncConsole.println("Platform Thread: " + Thread.currentThread());
         });
         
         Thread virtualThread = Thread.ofVirtual().start(() -> {
-            System.out.println("Virtual Thread: " + Thread.currentThread());
+            AsyncConsole.println("Virtual Thread: " + Thread.currentThread());
         });
         
         platformThread.join();
         virtualThread.join();
         
         // 예제 5: 가상 스레드 실행 상태 확인
-        System.out.println("\n가상 스레드 실행 상태 확인:");
+        AsyncConsole.println("\n가상 스레드 실행 상태 확인:");
         
         Thread vThread = Thread.startVirtualThread(() -> {
-            System.out.println("가상 스레드 내부: " + Thread.currentThread());
+            AsyncConsole.println("가상 스레드 내부: " + Thread.currentThread());
             try {
                 Thread.sleep(100);
             } catch (InterruptedException e) {
@@ -78,7 +80,7 @@ public class VirtualThreadsExample {
             }
         });
         
-        System.out.println("가상 스레드 상태: " + vThread.getState());
+        AsyncConsole.println("가상 스레드 상태: " + vThread.getState());
         vThread.join();
     }
 }
@@ -1,5 +1,7 @@
 package java25;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 25 예상 기능: 외부 메모리 API(Foreign Memory API)
  * 
@@ -9,7 +11,7 @@ package java25;
 public class ForeignMemoryApiExample {
 
     public static void main(String[] args) {
-        System.out.println("Java 25 외부 메모리 API 예제");
+        AsyncConsole.println("Java 25 외부 메모리 API 예제");
         
         // 예시 코드: Java 25 이전 버전에서는 컴파일되지 않을 수 있습니다.
         // 이것은 향후 Java 25에서 예상되는 구문 예시입니다.
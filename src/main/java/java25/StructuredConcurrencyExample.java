@@ -8,6 +8,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 25 예상 기능: 구조화된 동시성(Structured Concurrency) - JEP 453
  * 
@@ -17,10 +19,10 @@ import java.util.concurrent.Future;
 public class StructuredConcurrencyExample {
 
     public static void main(String[] args) throws Exception {
-        System.out.println("=== Java 25 구조화된 동시성(Structured Concurrency) 예제 ===");
+        AsyncConsole.println("=== Java 25 구조화된 동시성(Structured Concurrency) 예제 ===");
 
         // 예제 1: 간단한 구조화된 동시성 사용 예시
-        System.out.println("\n=== 간단한 병렬 작업 예제 ===");
+        AsyncConsole.println("\n=== 간단한 병렬 작업 예제 ===");
         exampleWithoutStructuredConcurrency();
         
         // Java 25에서 구조화된 동시성 사용 (예상 코드)
@@ -42,11 +44,11 @@ public class StructuredConcurrencyExample {
         */
         
         // 예제 2: 다중 작업 처리 시뮬레이션
-        System.out.println("\n=== 다중 작업 처리 시뮬레이션 ===");
+        AsyncConsole.println("\n=== 다중 작업 처리 시뮬레이션 ===");
         simulateMultipleTaskProcessing();
         
         // 예제 3: 가상 스레드와 구조화된 동시성
-        System.out.println("\n=== 가상 스레드와 병렬 처리 ===");
+        AsyncConsole.println("\n=== 가상 스레드와 병렬 처리 ===");
         processWithVirtualThreads();
     }
     
@@ -83,14 +85,14 @@ public class StructuredConcurrencyExample {
                 try {
                     results.add(future.get());
                 } catch (Exception e) {
-                    System.out.println("작업 실패: " + e.getMessage());
+                    AsyncConsole.println("작업 실패: " + e.getMessage());
                 }
             }
             
             // 결과 요약
-            System.out.println("처리된 작업 수: " + results.size());
+            AsyncConsole.println("처리된 작업 수: " + results.size());
             results.forEach(result -> 
-                System.out.println("작업 " + result.taskId() + " 결과: " + result.status()));
+                AsyncConsole.println("작업 " + result.taskId() + " 결과: " + result.status()));
         }
         
         // Java 25 구조화된 동시성 사용 예상 코드
@@ -113,14 +115,14 @@ public class StructuredConcurrencyExample {
                 try {
                     results.add(future.resultNow());
                 } catch (Exception e) {
-                    System.out.println("작업 실패: " + e.getMessage());
+                    AsyncConsole.println("작업 실패: " + e.getMessage());
                 }
             }
             
             // 결과 요약
-            System.out.println("처리된 작업 수: " + results.size());
+            AsyncConsole.println("처리된 작업 수: " + results.size());
             results.forEach(result -> 
-                System.out.println("작업 " + result.taskId() + " 결과: " + result.status()));
+                AsyncConsole.println("작업 " + result.taskId() + " 결과: " + result.status()));
         }
         */
     }
@@ -148,12 +150,12 @@ public class StructuredConcurrencyExample {
             }
             
             // 결과 출력
-            System.out.println("처리된 항목: " + results.size());
+            AsyncConsole.println("처리된 항목: " + results.size());
             for (int i = 0; i < 3 && i < results.size(); i++) {
-                System.out.println("항목 " + (i + 1) + " 결과: " + results.get(i));
+                AsyncConsole.println("항목 " + (i + 1) + " 결과: " + results.get(i));
             }
             if (results.size() > 3) {
-                System.out.println("... 그 외 " + (results.size() - 3) + "개 항목");
+                AsyncConsole.println("... 그 외 " + (results.size() - 3) + "개 항목");
             }
         }
         
@@ -172,12 +174,12 @@ public class StructuredConcurrencyExample {
             List<Map<String, Object>> results = scope.results();
             
             // 결과 출력
-            System.out.println("처리된 항목: " + results.size());
+            AsyncConsole.println("처리된 항목: " + results.size());
             for (int i = 0; i < 3 && i < results.size(); i++) {
-                System.out.println("항목 " + (i + 1) + " 결과: " + results.get(i));
+                AsyncConsole.println("항목 " + (i + 1) + " 결과: " + results.get(i));
             }
             if (results.size() > 3) {
-                System.out.println("... 그 외 " + (results.size() - 3) + "개 항목");
+                AsyncConsole.println("... 그 외 " + (results.size() - 3) + "개 항목");
             }
         }
         */
@@ -185,14 +187,14 @@ public class StructuredConcurrencyExample {
     
     // 사용자 정보 조회 시뮬레이션
     private static String findUser(String userId) throws InterruptedException {
-        System.out.println("사용자 조회 중: " + userId);
+        AsyncConsole.println("사용자 조회 중: " + userId);
         Thread.sleep(500); // 네트워크 지연 시뮬레이션
         return "User: " + userId + " (홍길동)";
     }
     
     // 주문 정보 조회 시뮬레이션
     private static List<Order> fetchOrders(String userId) throws InterruptedException {
-        System.out.println("주문 정보 조회 중: " + userId);
+        AsyncConsole.println("주문 정보 조회 중: " + userId);
         Thread.sleep(700); // 데이터베이스 지연 시뮬레이션
         return List.of(
             new Order(1, "상품A", 10000),
@@ -202,16 +204,16 @@ public class StructuredConcurrencyExample {
     
     // 결과 처리 시뮬레이션
     private static void processUserOrders(String user, List<Order> orders) {
-        System.out.println("처리 결과:");
-        System.out.println("- " + user);
-        System.out.println("- 주문 " + orders.size() + "건:");
+        AsyncConsole.println("처리 결과:");
+        AsyncConsole.println("- " + user);
+        AsyncConsole.println("- 주문 " + orders.size() + "건:");
         orders.forEach(order -> 
-            System.out.println("  * " + order.orderNumber() + ": " + order.productName() + " (" + order.amount() + "원)"));
+            AsyncConsole.println("  * " + order.orderNumber() + ": " + order.productName() + " (" + order.amount() + "원)"));
     }
     
     // 작업 처리 시뮬레이션
     private static Result processTask(int taskId) throws InterruptedException {
-        System.out.println("작업 " + taskId + " 처리 중...");
+        AsyncConsole.println("작업 " + taskId + " 처리 중...");
         Thread.sleep((long) (Math.random() * 1000)); // 무작위 처리 시간
         
         // 간혹 실패하는 작업 시뮬레이션
@@ -224,7 +226,7 @@ public class StructuredConcurrencyExample {
     
     // 항목 처리 시뮬레이션
     private static Map<String, Object> processItem(String item) throws InterruptedException {
-        System.out.println("항목 처리 중: " + item);
+        AsyncConsole.println("항목 처리 중: " + item);
         Thread.sleep((long) (Math.random() * 500)); // 처리 시간 시뮬레이션
         
         Map<String, Object> result = new HashMap<>();
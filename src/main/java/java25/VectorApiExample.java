@@ -1,19 +1,429 @@
 package java25;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
- * Java 25 예상 기능: 벡터 API(Vector API)
- * 
- * 이 클래스는 Java 25에서 예상되는 벡터 API 기능을 보여줍니다.
- * 실제 구현은 Java의 향후 버전에 따라 달라질 수 있습니다.
+ * Java 25 벡터 API(Vector API) 예제 - JEP 508 (인큐베이터)
+ *
+ * 벡터 API는 여러 값을 하나의 SIMD 명령어로 처리하는 연산을 자바 코드로 표현할 수 있게 해줍니다.
+ * 이 클래스는 StreamApiExample.parallelStreamExample의 "3과 5의 배수 세기" 작업을 대상으로
+ * 마스크 기반 조건 평가, 조건을 만족하는 인덱스의 압축 저장(compress-store), int/long/double 배열의
+ * 벡터화된 개수 세기와 합계 커널을 제공합니다. int 배열의 요소별 덧셈/뺄셈/곱셈 커널은
+ * java8.LambdaExample.Calculator의 내장 계산기가 사용합니다.
+ *
+ * 컴파일과 실행 시 --add-modules jdk.incubator.vector 옵션이 필요합니다. (build.gradle에 설정되어 있음)
+ * -Djava25.vector.disabled=true 로 실행하면 모든 커널이 스칼라 루프로 동작합니다.
  */
 public class VectorApiExample {
 
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // 레인이 하나뿐이면 벡터 연산이 이점이 없으므로 스칼라 경로를 사용
+    static final boolean VECTORIZED = !Boolean.getBoolean("java25.vector.disabled")
+            && INT_SPECIES.length() > 1;
+
     public static void main(String[] args) {
-        System.out.println("Java 25 벡터 API 예제");
-        
-        // 예시 코드: Java 25 이전 버전에서는 컴파일되지 않을 수 있습니다.
-        // 이것은 향후 Java 25에서 예상되는 구문 예시입니다.
-        // 실제 구현은 다를 수 있습니다.
+        AsyncConsole.println("=== Java 25 벡터 API 예제 ===");
+        AsyncConsole.println("선호 int 벡터: " + INT_SPECIES + " (벡터화 사용: " + VECTORIZED + ")");
+
+        // 예제 1: 마스크 기반 조건 평가
+        int[] data = IntStream.range(0, 10_000_000).toArray();
+        IntLanePredicate divisibleBy15 = IntLanePredicate.divisibleBy(3).and(IntLanePredicate.divisibleBy(5));
+
+        long startTime = System.nanoTime();
+        long scalarCount = scalarCount(data, divisibleBy15);
+        long scalarTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long vectorCount = count(data, divisibleBy15);
+        long vectorTime = System.nanoTime() - startTime;
+
+        AsyncConsole.println("\n3과 5의 배수 개수 (스칼라): " + scalarCount + " - " + scalarTime / 1_000_000 + "ms");
+        AsyncConsole.println("3과 5의 배수 개수 (벡터): " + vectorCount + " - " + vectorTime / 1_000_000 + "ms");
+        AsyncConsole.println("(정확한 비교는 VectorKernelBenchmark를 사용하세요)");
+
+        // 예제 2: 조건을 만족하는 인덱스 압축 저장
+        int[] small = IntStream.rangeClosed(1, 100).toArray();
+        int[] indices = new int[small.length];
+        int matched = selectIndices(small, divisibleBy15, indices);
+        AsyncConsole.println("\n1~100에서 15의 배수 위치: " + Arrays.toString(Arrays.copyOf(indices, matched)));
+
+        // 예제 3: 벡터화된 합계
+        long[] longs = java.util.stream.LongStream.rangeClosed(1, 1_000).toArray();
+        double[] doubles = java.util.stream.DoubleStream.iterate(0.5, d -> d + 0.5).limit(1_000).toArray();
+        AsyncConsole.println("\nint 배열 합계: " + sum(data));
+        AsyncConsole.println("15의 배수만 합계: " + sum(data, divisibleBy15));
+        AsyncConsole.println("long 배열 합계: " + sum(longs));
+        AsyncConsole.println("double 배열 합계: " + sum(doubles));
+        AsyncConsole.println("500보다 큰 long 개수: " + count(longs, VectorOperators.GT, 500));
+        AsyncConsole.println("100.0 이하 double 개수: " + count(doubles, VectorOperators.LE, 100.0));
+    }
+
+    /**
+     * int 레인 조건: 벡터 단위(마스크)와 스칼라 단위 평가를 함께 제공합니다.
+     */
+    public interface IntLanePredicate {
+        VectorMask<Integer> test(IntVector vector);
+
+        boolean test(int value);
+
+        default IntLanePredicate and(IntLanePredicate other) {
+            IntLanePredicate self = this;
+            return new IntLanePredicate() {
+                @Override
+                public VectorMask<Integer> test(IntVector vector) {
+                    return self.test(vector).and(other.test(vector));
+                }
+
+                @Override
+                public boolean test(int value) {
+                    return self.test(value) && other.test(value);
+                }
+            };
+        }
+
+        /**
+         * divisor의 배수인지 검사합니다.
+         *
+         * 정수 벡터 나눗셈은 대부분의 CPU에서 SIMD 명령어가 없으므로, 홀수 약수는 곱셈 역원을 이용한
+         * 나머지 0 검사(Hacker's Delight 10-17)로, 2의 거듭제곱 약수는 하위 비트 검사로 변환합니다.
+         */
+        static IntLanePredicate divisibleBy(int divisor) {
+            if (divisor <= 0) {
+                throw new IllegalArgumentException("약수는 양수여야 합니다: " + divisor);
+            }
+            int shift = Integer.numberOfTrailingZeros(divisor);
+            int odd = divisor >>> shift;
+            int lowBits = (1 << shift) - 1;
+            int inverse = multiplicativeInverse(odd);
+            int bias = Integer.MAX_VALUE / odd;
+            int limit = 2 * bias;
+
+            return new IntLanePredicate() {
+                @Override
+                public VectorMask<Integer> test(IntVector vector) {
+                    VectorMask<Integer> mask = odd == 1
+                            ? vector.species().maskAll(true)
+                            : vector.mul(inverse).add(bias).compare(VectorOperators.UNSIGNED_LE, limit);
+                    return lowBits == 0 ? mask : mask.and(vector.and(lowBits).compare(VectorOperators.EQ, 0));
+                }
+
+                @Override
+                public boolean test(int value) {
+                    return value % divisor == 0;
+                }
+            };
+        }
+
+        // 홀수 d에 대해 d * x ≡ 1 (mod 2^32)인 x (뉴턴 반복)
+        private static int multiplicativeInverse(int d) {
+            int x = d;
+            for (int i = 0; i < 5; i++) {
+                x *= 2 - d * x;
+            }
+            return x;
+        }
+    }
+
+    /**
+     * 조건을 만족하는 요소 수
+     */
+    public static long count(int[] array, IntLanePredicate predicate) {
+        if (!VECTORIZED) {
+            return scalarCount(array, predicate);
+        }
+        long count = 0;
+        int i = 0;
+        int upperBound = INT_SPECIES.loopBound(array.length);
+        for (; i < upperBound; i += INT_SPECIES.length()) {
+            IntVector vector = IntVector.fromArray(INT_SPECIES, array, i);
+            count += predicate.test(vector).trueCount();
+        }
+        for (; i < array.length; i++) {
+            if (predicate.test(array[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static long scalarCount(int[] array, IntLanePredicate predicate) {
+        long count = 0;
+        for (int value : array) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 조건을 만족하는 요소의 인덱스를 out에 차례대로 저장하고 개수를 반환합니다.
+     * out의 길이는 array 길이 이상이어야 합니다.
+     */
+    public static int selectIndices(int[] array, IntLanePredicate predicate, int[] out) {
+        if (out.length < array.length) {
+            throw new IllegalArgumentException("출력 배열이 너무 작습니다: " + out.length + " < " + array.length);
+        }
+        int written = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            IntVector laneIndex = IntVector.zero(INT_SPECIES).addIndex(1);
+            int upperBound = INT_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                VectorMask<Integer> mask = predicate.test(IntVector.fromArray(INT_SPECIES, array, i));
+                int matched = mask.trueCount();
+                if (matched > 0) {
+                    // 일치하는 레인의 인덱스를 앞쪽으로 모은 뒤 일치한 개수만큼만 저장
+                    laneIndex.add(i).compress(mask)
+                            .intoArray(out, written, INT_SPECIES.indexInRange(0, matched));
+                    written += matched;
+                }
+            }
+        }
+        for (; i < array.length; i++) {
+            if (predicate.test(array[i])) {
+                out[written++] = i;
+            }
+        }
+        return written;
     }
 
+    /**
+     * int 배열 합계 (오버플로 방지를 위해 long 레인으로 확장하여 누적)
+     */
+    public static long sum(int[] array) {
+        if (!VECTORIZED) {
+            long total = 0;
+            for (int value : array) {
+                total += value;
+            }
+            return total;
+        }
+        LongVector accumulator = LongVector.zero(LONG_SPECIES);
+        int i = 0;
+        int upperBound = INT_SPECIES.loopBound(array.length);
+        for (; i < upperBound; i += INT_SPECIES.length()) {
+            accumulator = addWidened(accumulator, IntVector.fromArray(INT_SPECIES, array, i));
+        }
+        long total = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < array.length; i++) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    /**
+     * 조건을 만족하는 int 요소의 합계
+     */
+    public static long sum(int[] array, IntLanePredicate predicate) {
+        long total = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int upperBound = INT_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                IntVector vector = IntVector.fromArray(INT_SPECIES, array, i);
+                VectorMask<Integer> mask = predicate.test(vector);
+                accumulator = addWidened(accumulator, vector.blend(0, mask.not()));
+            }
+            total = accumulator.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < array.length; i++) {
+            if (predicate.test(array[i])) {
+                total += array[i];
+            }
+        }
+        return total;
+    }
+
+    public static long sum(long[] array) {
+        long total = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            LongVector accumulator = LongVector.zero(LONG_SPECIES);
+            int upperBound = LONG_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += LONG_SPECIES.length()) {
+                accumulator = accumulator.add(LongVector.fromArray(LONG_SPECIES, array, i));
+            }
+            total = accumulator.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < array.length; i++) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    // 레인별로 나누어 더하므로 스칼라 루프와 부동소수점 반올림 순서가 다를 수 있습니다.
+    public static double sum(double[] array) {
+        double total = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            DoubleVector accumulator = DoubleVector.zero(DOUBLE_SPECIES);
+            int upperBound = DOUBLE_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += DOUBLE_SPECIES.length()) {
+                accumulator = accumulator.add(DoubleVector.fromArray(DOUBLE_SPECIES, array, i));
+            }
+            total = accumulator.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < array.length; i++) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    /**
+     * array[i] (op) operand 를 만족하는 long 요소 수
+     */
+    public static long count(long[] array, VectorOperators.Comparison op, long operand) {
+        long count = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = LONG_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += LONG_SPECIES.length()) {
+                count += LongVector.fromArray(LONG_SPECIES, array, i).compare(op, operand).trueCount();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (compareScalar(Long.compare(array[i], operand), Long.compareUnsigned(array[i], operand), op)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * array[i] (op) operand 를 만족하는 double 요소 수
+     */
+    public static long count(double[] array, VectorOperators.Comparison op, double operand) {
+        long count = 0;
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = DOUBLE_SPECIES.loopBound(array.length);
+            for (; i < upperBound; i += DOUBLE_SPECIES.length()) {
+                count += DoubleVector.fromArray(DOUBLE_SPECIES, array, i).compare(op, operand).trueCount();
+            }
+        }
+        for (; i < array.length; i++) {
+            double value = array[i];
+            // NaN은 벡터 비교와 마찬가지로 NE를 제외한 모든 비교에서 false
+            boolean matched = Double.isNaN(value) || Double.isNaN(operand)
+                    ? op == VectorOperators.NE
+                    : compareScalar(Double.compare(value, operand), 0, op);
+            if (matched) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * out[i] = a[i] + b[i]
+     */
+    public static void add(int[] a, int[] b, int[] out) {
+        checkLengths(a, b, out);
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = INT_SPECIES.loopBound(out.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                IntVector.fromArray(INT_SPECIES, a, i).add(IntVector.fromArray(INT_SPECIES, b, i)).intoArray(out, i);
+            }
+        }
+        for (; i < out.length; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * out[i] = a[i] - b[i]
+     */
+    public static void sub(int[] a, int[] b, int[] out) {
+        checkLengths(a, b, out);
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = INT_SPECIES.loopBound(out.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                IntVector.fromArray(INT_SPECIES, a, i).sub(IntVector.fromArray(INT_SPECIES, b, i)).intoArray(out, i);
+            }
+        }
+        for (; i < out.length; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * out[i] = a[i] * b[i]
+     */
+    public static void mul(int[] a, int[] b, int[] out) {
+        checkLengths(a, b, out);
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = INT_SPECIES.loopBound(out.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                IntVector.fromArray(INT_SPECIES, a, i).mul(IntVector.fromArray(INT_SPECIES, b, i)).intoArray(out, i);
+            }
+        }
+        for (; i < out.length; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * out[i] = (a[i] + b[i]) * factor
+     */
+    public static void scale(int[] a, int[] b, int factor, int[] out) {
+        checkLengths(a, b, out);
+        int i = 0;
+        if (VECTORIZED) {
+            int upperBound = INT_SPECIES.loopBound(out.length);
+            for (; i < upperBound; i += INT_SPECIES.length()) {
+                IntVector.fromArray(INT_SPECIES, a, i).add(IntVector.fromArray(INT_SPECIES, b, i)).mul(factor)
+                        .intoArray(out, i);
+            }
+        }
+        for (; i < out.length; i++) {
+            out[i] = (a[i] + b[i]) * factor;
+        }
+    }
+
+    private static void checkLengths(int[] a, int[] b, int[] out) {
+        if (a.length != out.length || b.length != out.length) {
+            throw new IllegalArgumentException("배열 길이가 같아야 합니다: "
+                    + a.length + ", " + b.length + ", " + out.length);
+        }
+    }
+
+    private static LongVector addWidened(LongVector accumulator, IntVector vector) {
+        int parts = INT_SPECIES.length() / LONG_SPECIES.length();
+        for (int part = 0; part < parts; part++) {
+            accumulator = accumulator.add(vector.convertShape(VectorOperators.I2L, LONG_SPECIES, part));
+        }
+        return accumulator;
+    }
+
+    private static boolean compareScalar(int signed, int unsigned, VectorOperators.Comparison op) {
+        if (op == VectorOperators.EQ) return signed == 0;
+        if (op == VectorOperators.NE) return signed != 0;
+        if (op == VectorOperators.LT) return signed < 0;
+        if (op == VectorOperators.LE) return signed <= 0;
+        if (op == VectorOperators.GT) return signed > 0;
+        if (op == VectorOperators.GE) return signed >= 0;
+        if (op == VectorOperators.UNSIGNED_LT) return unsigned < 0;
+        if (op == VectorOperators.UNSIGNED_LE) return unsigned <= 0;
+        if (op == VectorOperators.UNSIGNED_GT) return unsigned > 0;
+        if (op == VectorOperators.UNSIGNED_GE) return unsigned >= 0;
+        throw new IllegalArgumentException("지원하지 않는 비교 연산: " + op);
+    }
 }
@@ -0,0 +1,67 @@
+package java8;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드에서 동시에 사용할 수 있는 문자열 블룸 필터
+ * 
+ * mightContain이 false이면 해당 값은 확실히 추가된 적이 없으므로, 없는 키에 대한 조회를 해시 테이블까지 가지 않고
+ * 바로 끝낼 수 있습니다. true는 오탐(false positive)일 수 있으며 그 확률은 생성 시 지정한 값 근처로 유지됩니다.
+ * 해시 함수 k개는 64비트 해시 하나를 두 개로 나누어 조합하는 이중 해싱(Kirsch-Mitzenmacher)으로 만듭니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 삽입 수는 1 이상이어야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(CharSequence value) {
+        long hash = StringHash.hash64(value, 0, value.length());
+        long h1 = (int) hash;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = StringHash.hash64(value, 0, value.length());
+        long h1 = (int) hash;
+        long h2 = hash >>> 32;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+}
@@ -0,0 +1,180 @@
+package java8;
+
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 백그라운드 스레드가 일정 간격으로 갱신하는 저해상도 시계
+ *
+ * 이벤트마다 Instant.now()나 LocalDateTime.now()를 부르면 호출마다 시스템 시계를 읽고 객체를 만듭니다.
+ * (LocalDateTime.now()는 시간대 오프셋 조회도 포함) CoarseClock은 resolution 간격으로 깨어나는 스레드 하나가
+ * 현재 시각을 읽어 에포크 밀리초, LocalDateTime, 포맷된 문자열을 한 번만 만들어 게시하고,
+ * 다른 스레드들은 volatile 읽기 한 번으로 할당 없이 가져갑니다.
+ *
+ * 읽은 값은 최대 resolution(과 스레드 스케줄링 지연)만큼 늦을 수 있으므로, 로그 타임스탬프나 캐시 만료처럼
+ * 그 정도 오차가 허용되는 곳에 사용합니다. 시간대 오프셋은 ZoneBatchConverter, 문자열은 FastDateFormat으로 계산합니다.
+ *
+ * 갱신 스레드는 resolution마다 깨어나므로 (기본 10밀리초, 초당 100번) 다 쓴 시계는 반드시 close로 닫아야 합니다.
+ * 닫지 않은 시계가 더 이상 참조되지 않으면 GC 뒤에 Cleaner가 스레드를 멈추지만, 그 시점은 보장되지 않습니다.
+ *
+ * 사용 예:
+ *   try (CoarseClock clock = CoarseClock.builder().resolution(Duration.ofMillis(10)).build()) {
+ *       long now = clock.millis();
+ *       String stamp = clock.formatted();
+ *   }
+ */
+public final class CoarseClock implements AutoCloseable {
+
+    /**
+     * 한 번의 갱신에서 만든 값 (세 값은 항상 같은 시각을 나타냄)
+     */
+    public record Tick(long epochMillis, LocalDateTime localDateTime, String formatted) {
+    }
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // 갱신 스레드가 쓰는 상태 (시계 객체를 참조하지 않아야 시계가 수집되고 Cleaner가 실행될 수 있음)
+    private final Ticker ticker;
+    private final Cleaner.Cleanable cleanable;
+
+    private CoarseClock(Duration resolution, ZoneId zone, FastDateFormat format) {
+        this.ticker = new Ticker(resolution.toNanos(), ZoneBatchConverter.of(zone), format);
+        Thread thread = new Thread(ticker, "coarse-clock");
+        thread.setDaemon(true);
+        thread.start();
+        this.cleanable = CLEANER.register(this, new Stop(ticker, thread));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Duration resolution = Duration.ofMillis(10);
+        private ZoneId zone = ZoneId.systemDefault();
+        private FastDateFormat format = FastDateFormat.of("yyyy-MM-dd HH:mm:ss.SSS");
+
+        private Builder() {
+        }
+
+        // 갱신 간격 (1밀리초 이상, 기본 10밀리초)
+        public Builder resolution(Duration resolution) {
+            if (resolution.compareTo(Duration.ofMillis(1)) < 0) {
+                throw new IllegalArgumentException("갱신 간격은 1밀리초 이상이어야 합니다: " + resolution);
+            }
+            this.resolution = resolution;
+            return this;
+        }
+
+        // localDateTime과 formatted의 기준 시간대
+        public Builder zone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        public Builder format(FastDateFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        // 시계를 만들고 갱신 스레드를 시작
+        public CoarseClock build() {
+            return new CoarseClock(resolution, zone, format);
+        }
+    }
+
+    // 마지막으로 갱신된 에포크 밀리초
+    public long millis() {
+        return ticker.millis;
+    }
+
+    public LocalDateTime localDateTime() {
+        return ticker.tick.localDateTime();
+    }
+
+    public String formatted() {
+        return ticker.tick.formatted();
+    }
+
+    // 세 값을 일관되게 함께 읽어야 할 때 사용
+    public Tick tick() {
+        return ticker.tick;
+    }
+
+    public ZoneId getZone() {
+        return ticker.converter.getZone();
+    }
+
+    public Duration getResolution() {
+        return Duration.ofNanos(ticker.resolutionNanos);
+    }
+
+    /**
+     * 갱신 스레드를 멈춥니다. 이후에는 마지막 값이 그대로 유지됩니다.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * 갱신 스레드의 실행 내용과 게시된 값
+     */
+    private static final class Ticker implements Runnable {
+        private final long resolutionNanos;
+        private final ZoneBatchConverter converter;
+        private final FastDateFormat format;
+        private final byte[] formatBuffer;
+
+        private volatile long millis;
+        private volatile Tick tick;
+        private volatile boolean running = true;
+
+        Ticker(long resolutionNanos, ZoneBatchConverter converter, FastDateFormat format) {
+            this.resolutionNanos = resolutionNanos;
+            this.converter = converter;
+            this.format = format;
+            this.formatBuffer = new byte[format.maxLength() + 8];
+            update(System.currentTimeMillis());
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                LockSupport.parkNanos(resolutionNanos);
+                long now = System.currentTimeMillis();
+                // 시각이 바뀌지 않았으면(간격이 시스템 시계 해상도보다 짧은 경우 등) 객체를 다시 만들지 않음
+                if (now != millis) {
+                    update(now);
+                }
+            }
+        }
+
+        // 갱신 스레드(와 생성자)에서만 호출
+        private void update(long now) {
+            int end = format.format(now, converter.getOffset(now), formatBuffer, 0);
+            tick = new Tick(now, converter.toLocalDateTime(now), new String(formatBuffer, 0, end, StandardCharsets.UTF_8));
+            millis = now;
+        }
+    }
+
+    /**
+     * close나 Cleaner가 한 번만 실행하는 정지 동작
+     */
+    private record Stop(Ticker ticker, Thread thread) implements Runnable {
+        @Override
+        public void run() {
+            ticker.running = false;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock{zone=" + getZone() + ", resolution=" + getResolution() + ", millis=" + millis() + '}';
+    }
+}
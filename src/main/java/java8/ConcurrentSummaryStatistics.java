@@ -0,0 +1,165 @@
+package java8;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 여러 스레드가 동시에 값을 기록할 수 있는 요약 통계 (개수, 합계, 최솟값, 최댓값, 평균, 분산, 표준편차)
+ * 
+ * IntSummaryStatistics는 스레드 안전하지 않고, 하나의 AtomicLong으로 집계하면 모든 스레드가 같은 CAS 지점에서 경합합니다.
+ * ConcurrentSummaryStatistics는 LongAdder처럼 값을 여러 셀(stripe)에 나누어 기록합니다. 각 셀은 변경되지 않는
+ * Snapshot 하나를 가리키며, 기록은 값을 더한 새 Snapshot을 CAS로 바꿔 넣는 방식입니다. CAS가 실패했다면 다른 스레드의
+ * 기록이 성공한 것이므로 락 프리(lock-free)이고, 실패한 스레드는 다음부터 다른 셀을 사용합니다.
+ * 
+ * snapshot()은 각 셀의 현재 Snapshot을 읽어 병합할 뿐 기록 중인 스레드를 기다리지 않습니다. 셀 하나의 개수와 합계는
+ * 항상 서로 맞지만, 셀을 차례로 읽는 동안 들어온 기록은 일부 셀에만 반영될 수 있으므로 모든 셀에 걸친 특정 시점의
+ * 값은 아닙니다. 분산은 Welford 방식으로 누적하고 Chan의 병렬 알고리즘으로 병합합니다.
+ * 
+ * 기록마다 작은 Snapshot 객체를 하나 할당합니다.
+ */
+public class ConcurrentSummaryStatistics implements IntConsumer, LongConsumer {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Cell.class, "value", Snapshot.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // 스레드별 셀 선택 값 (경합 시 다른 값으로 변경)
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    private final Cell[] cells;
+
+    public ConcurrentSummaryStatistics() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ConcurrentSummaryStatistics(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("셀 수는 1 이상이어야 합니다: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes * 2 - 1);
+        cells = new Cell[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = new Cell();
+        }
+    }
+
+    @Override
+    public void accept(int value) {
+        accept((long) value);
+    }
+
+    @Override
+    public void accept(long value) {
+        int[] probe = PROBE.get();
+        int mask = cells.length - 1;
+        int h = probe[0];
+        while (true) {
+            Cell cell = cells[h & mask];
+            Snapshot current = cell.value;
+            if (VALUE.compareAndSet(cell, current, current.plus(value))) {
+                probe[0] = h;
+                return;
+            }
+            // 다른 스레드가 먼저 기록한 셀이면 xorshift로 다른 셀 선택
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+        }
+    }
+
+    /**
+     * 현재까지 기록된 값의 요약을 반환합니다. 기록 중인 스레드를 기다리지 않습니다.
+     */
+    public Snapshot snapshot() {
+        Snapshot result = Snapshot.EMPTY;
+        for (Cell cell : cells) {
+            result = result.combine(cell.value);
+        }
+        return result;
+    }
+
+    /**
+     * 셀 하나: 지금까지 이 셀에 기록된 값의 Snapshot을 가리킵니다.
+     * 앞뒤 패딩 필드는 인접한 셀이 같은 캐시 라인을 공유하지 않도록 하기 위한 것입니다.
+     */
+    @SuppressWarnings("unused")
+    private static final class Cell {
+        long p0, p1, p2, p3, p4, p5, p6;
+        volatile Snapshot value = Snapshot.EMPTY;
+        long q0, q1, q2, q3, q4, q5, q6;
+    }
+
+    /**
+     * 변경되지 않는 요약 통계 값. 서로 다른 인스턴스(샤드)의 스냅샷을 combine으로 병합할 수 있습니다.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, 0, Long.MAX_VALUE, Long.MIN_VALUE, 0, 0);
+
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+        private final double mean;
+        private final double m2;
+
+        private Snapshot(long count, long sum, long min, long max, double mean, double m2) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        // 값 하나를 더한 새 Snapshot (Welford)
+        Snapshot plus(long value) {
+            long total = count + 1;
+            double delta = value - mean;
+            double newMean = mean + delta / total;
+            return new Snapshot(total, sum + value, Math.min(min, value), Math.max(max, value),
+                    newMean, m2 + delta * (value - newMean));
+        }
+
+        public Snapshot combine(Snapshot other) {
+            if (other.count == 0) return this;
+            if (count == 0) return other;
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            double combinedMean = mean + delta * other.count / total;
+            double combinedM2 = m2 + other.m2 + delta * delta * ((double) count * other.count / total);
+            return new Snapshot(total, sum + other.sum, Math.min(min, other.min), Math.max(max, other.max),
+                    combinedMean, combinedM2);
+        }
+
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+        public long getMin() { return min; }
+        public long getMax() { return max; }
+        public double getAverage() { return count > 0 ? (double) sum / count : 0.0; }
+
+        // 모분산
+        public double getVariance() { return count > 0 ? m2 / count : 0.0; }
+
+        // 표본분산
+        public double getSampleVariance() { return count > 1 ? m2 / (count - 1) : 0.0; }
+
+        public double getStandardDeviation() { return Math.sqrt(getVariance()); }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s{count=%d, sum=%d, min=%d, average=%f, max=%d, stddev=%f}",
+                    getClass().getSimpleName(), count, sum, min, getAverage(), max, getStandardDeviation());
+        }
+    }
+}
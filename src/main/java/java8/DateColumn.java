@@ -0,0 +1,224 @@
+package java8;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 날짜를 에포크 일수(int)로 저장하는 가변 길이 컬럼
+ *
+ * List&lt;LocalDate&gt;에 plusDays나 TemporalAdjusters를 하나씩 적용하면 요소마다 LocalDate를 새로 만들고,
+ * 연/월/일 검증과 변환을 매번 다시 합니다. DateColumn은 날짜를 int[]에 1970-01-01 기준 일수로 연속 저장하고,
+ * 일괄 연산(plusDays, plusMonths, daysBetween, firstDayOfMonth, lastDayOfMonth, next)을 LocalDate 없이 정수 연산으로 처리합니다.
+ * plusDays와 daysBetween은 분기 없는 단순 루프라 JIT가 벡터화할 수 있습니다.
+ *
+ * 일괄 연산은 원본을 바꾸지 않고 결과를 새 컬럼으로 반환합니다. 결과는 LocalDate의 같은 연산과 같습니다.
+ * 저장할 수 있는 날짜는 에포크 일수가 int 범위인 날짜(약 ±580만 년)이며, 결과가 범위를 벗어나면 DateTimeException을 던집니다.
+ */
+public class DateColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // 결과가 int 범위의 에포크 일수를 확실히 벗어나는 월 수 (약 600만 년)
+    private static final long MAX_MONTHS = 12L * 6_000_000;
+
+    private int[] epochDays;
+    private int size;
+
+    public DateColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DateColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        this.epochDays = new int[initialCapacity];
+    }
+
+    private DateColumn(int[] epochDays, int size) {
+        this.epochDays = epochDays;
+        this.size = size;
+    }
+
+    public static DateColumn of(LocalDate... dates) {
+        DateColumn column = new DateColumn(dates.length);
+        for (LocalDate date : dates) {
+            column.add(date);
+        }
+        return column;
+    }
+
+    public static DateColumn ofEpochDays(int... epochDays) {
+        return new DateColumn(epochDays.clone(), epochDays.length);
+    }
+
+    public void add(LocalDate date) {
+        addEpochDay(toIntExact(date.toEpochDay()));
+    }
+
+    public void addEpochDay(int epochDay) {
+        if (size == epochDays.length) {
+            grow(size + 1);
+        }
+        epochDays[size++] = epochDay;
+    }
+
+    // 화면 출력 등 개별 요소가 필요할 때만 LocalDate를 만듭니다.
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(getEpochDay(index));
+    }
+
+    public int getEpochDay(int index) {
+        Objects.checkIndex(index, size);
+        return epochDays[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > epochDays.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public int[] toEpochDayArray() {
+        return Arrays.copyOf(epochDays, size);
+    }
+
+    public DateColumn plusDays(long days) {
+        int[] result = new int[size];
+        if (size == 0) {
+            return new DateColumn(result, 0);
+        }
+        // 최솟값/최댓값으로 범위를 한 번만 확인하고, 더하기 루프에는 검사를 두지 않음
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, epochDays[i]);
+            max = Math.max(max, epochDays[i]);
+        }
+        // days가 아주 커도 long 덧셈이 넘치지 않도록 잘라서 확인 (잘린 값도 이미 int 범위 밖)
+        toIntExact(min + Math.max(days, Integer.MIN_VALUE * 2L));
+        toIntExact(max + Math.min(days, Integer.MAX_VALUE * 2L));
+        int delta = (int) days;
+        for (int i = 0; i < size; i++) {
+            result[i] = epochDays[i] + delta;
+        }
+        return new DateColumn(result, size);
+    }
+
+    /**
+     * LocalDate.plusMonths와 같이 월을 더하고, 그 달에 없는 날짜는 말일로 맞춥니다. (1월 31일 + 1개월 = 2월 28/29일)
+     */
+    public DateColumn plusMonths(long months) {
+        if (Math.abs(months) > MAX_MONTHS) {
+            throw new DateTimeException("더할 개월 수가 너무 큽니다: " + months);
+        }
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            long civil = EpochDays.toCivil(epochDays[i]);
+            long monthCount = EpochDays.year(civil) * 12L + (EpochDays.month(civil) - 1) + months;
+            long year = Math.floorDiv(monthCount, 12);
+            int month = (int) Math.floorMod(monthCount, 12) + 1;
+            int day = Math.min(EpochDays.day(civil), EpochDays.lengthOfMonth(year, month));
+            result[i] = toIntExact(EpochDays.of(year, month, day));
+        }
+        return new DateColumn(result, size);
+    }
+
+    // TemporalAdjusters.firstDayOfMonth()
+    public DateColumn firstDayOfMonth() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = epochDays[i] - (EpochDays.day(EpochDays.toCivil(epochDays[i])) - 1);
+        }
+        return new DateColumn(result, size);
+    }
+
+    // TemporalAdjusters.lastDayOfMonth()
+    public DateColumn lastDayOfMonth() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            long civil = EpochDays.toCivil(epochDays[i]);
+            int length = EpochDays.lengthOfMonth(EpochDays.year(civil), EpochDays.month(civil));
+            result[i] = toIntExact((long) epochDays[i] + length - EpochDays.day(civil));
+        }
+        return new DateColumn(result, size);
+    }
+
+    // TemporalAdjusters.next(dayOfWeek): 같은 요일이면 7일 뒤
+    public DateColumn next(DayOfWeek dayOfWeek) {
+        return adjustToDayOfWeek(dayOfWeek, 1);
+    }
+
+    // TemporalAdjusters.nextOrSame(dayOfWeek)
+    public DateColumn nextOrSame(DayOfWeek dayOfWeek) {
+        return adjustToDayOfWeek(dayOfWeek, 0);
+    }
+
+    private DateColumn adjustToDayOfWeek(DayOfWeek dayOfWeek, int minimumDays) {
+        int target = dayOfWeek.ordinal();
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            // 1970-01-01은 목요일(ordinal 3)
+            long current = epochDays[i];
+            int dayOfWeekIndex = (int) Math.floorMod(current + 3, 7L);
+            int ahead = Math.floorMod(target - dayOfWeekIndex - minimumDays, 7) + minimumDays;
+            result[i] = toIntExact(current + ahead);
+        }
+        return new DateColumn(result, size);
+    }
+
+    /**
+     * 요소마다 ChronoUnit.DAYS.between(this[i], end[i])
+     */
+    public LongColumn daysBetween(DateColumn end) {
+        if (end.size != size) {
+            throw new IllegalArgumentException("컬럼 크기가 다릅니다: " + size + ", " + end.size);
+        }
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (long) end.epochDays[i] - epochDays[i];
+        }
+        return LongColumn.of(result);
+    }
+
+    // 요소마다 ChronoUnit.DAYS.between(this[i], end)
+    public LongColumn daysBetween(LocalDate end) {
+        long endDay = end.toEpochDay();
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = endDay - epochDays[i];
+        }
+        return LongColumn.of(result);
+    }
+
+    private static int toIntExact(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new DateTimeException("DateColumn에 저장할 수 있는 범위를 벗어난 날짜입니다: 에포크 일수 " + epochDay);
+        }
+        return (int) epochDay;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, epochDays.length + (epochDays.length >> 1));
+        epochDays = Arrays.copyOf(epochDays, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public String toString() {
+        return "DateColumn{size=" + size + '}';
+    }
+}
@@ -1,11 +1,14 @@
 package java8;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Locale;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 8 날짜와 시간 API 예제
  * 
@@ -37,53 +40,53 @@ public class DateTimeApiExample {
      * 타임존이 없는 날짜와 시간을 표현하는 클래스입니다.
      */
     private static void localDateTimeExample() {
-        System.out.println("\n=== LocalDate, LocalTime, LocalDateTime 예제 ===");
+        AsyncConsole.println("\n=== LocalDate, LocalTime, LocalDateTime 예제 ===");
         
         // 현재 날짜 구하기
         LocalDate today = LocalDate.now();
-        System.out.println("오늘 날짜: " + today);
+        AsyncConsole.println("오늘 날짜: " + today);
         
         // 특정 날짜 생성하기
         LocalDate birthDay = LocalDate.of(1990, 1, 1);
-        System.out.println("생년월일: " + birthDay);
+        AsyncConsole.println("생년월일: " + birthDay);
         
         // 날짜 정보 얻기
-        System.out.println("\n날짜 정보:");
-        System.out.println("연도: " + today.getYear());
-        System.out.println("월: " + today.getMonthValue());
-        System.out.println("일: " + today.getDayOfMonth());
-        System.out.println("요일: " + today.getDayOfWeek());
-        System.out.println("월의 길이: " + today.lengthOfMonth() + "일");
-        System.out.println("올해는 윤년인가? " + today.isLeapYear());
+        AsyncConsole.println("\n날짜 정보:");
+        AsyncConsole.println("연도: " + today.getYear());
+        AsyncConsole.println("월: " + today.getMonthValue());
+        AsyncConsole.println("일: " + today.getDayOfMonth());
+        AsyncConsole.println("요일: " + today.getDayOfWeek());
+        AsyncConsole.println("월의 길이: " + today.lengthOfMonth() + "일");
+        AsyncConsole.println("올해는 윤년인가? " + today.isLeapYear());
         
         // 현재 시간 구하기
         LocalTime now = LocalTime.now();
-        System.out.println("\n현재 시간: " + now);
+        AsyncConsole.println("\n현재 시간: " + now);
         
         // 특정 시간 생성하기
         LocalTime lunchTime = LocalTime.of(12, 30);
-        System.out.println("점심 시간: " + lunchTime);
+        AsyncConsole.println("점심 시간: " + lunchTime);
         
         // 시간 정보 얻기
-        System.out.println("\n시간 정보:");
-        System.out.println("시: " + now.getHour());
-        System.out.println("분: " + now.getMinute());
-        System.out.println("초: " + now.getSecond());
-        System.out.println("나노초: " + now.getNano());
+        AsyncConsole.println("\n시간 정보:");
+        AsyncConsole.println("시: " + now.getHour());
+        AsyncConsole.println("분: " + now.getMinute());
+        AsyncConsole.println("초: " + now.getSecond());
+        AsyncConsole.println("나노초: " + now.getNano());
         
         // 현재 날짜와 시간 구하기
         LocalDateTime dateTime = LocalDateTime.now();
-        System.out.println("\n현재 날짜와 시간: " + dateTime);
+        AsyncConsole.println("\n현재 날짜와 시간: " + dateTime);
         
         // 날짜와 시간 결합하기
         LocalDateTime meetingDateTime = LocalDateTime.of(today, lunchTime);
-        System.out.println("미팅 날짜와 시간: " + meetingDateTime);
+        AsyncConsole.println("미팅 날짜와 시간: " + meetingDateTime);
         
         // LocalDateTime에서 날짜와 시간 추출하기
         LocalDate meetingDate = meetingDateTime.toLocalDate();
         LocalTime meetingTime = meetingDateTime.toLocalTime();
-        System.out.println("미팅 날짜: " + meetingDate);
-        System.out.println("미팅 시간: " + meetingTime);
+        AsyncConsole.println("미팅 날짜: " + meetingDate);
+        AsyncConsole.println("미팅 시간: " + meetingTime);
     }
     
     /**
@@ -94,59 +97,69 @@ public class DateTimeApiExample {
      * Period: 두 날짜 사이의 간격
      */
     private static void instantDurationPeriodExample() {
-        System.out.println("\n=== Instant, Duration, Period 예제 ===");
+        AsyncConsole.println("\n=== Instant, Duration, Period 예제 ===");
         
         // Instant
         Instant now = Instant.now();
-        System.out.println("현재 Instant: " + now);
-        System.out.println("에포크 초: " + now.getEpochSecond());
+        AsyncConsole.println("현재 Instant: " + now);
+        AsyncConsole.println("에포크 초: " + now.getEpochSecond());
         
         Instant oneHourLater = now.plusSeconds(3600);
-        System.out.println("1시간 후 Instant: " + oneHourLater);
+        AsyncConsole.println("1시간 후 Instant: " + oneHourLater);
+
+        // 이벤트마다 시계를 읽는 대신, 백그라운드 스레드가 10ms마다 갱신하는 값을 할당 없이 읽기
+        try (CoarseClock clock = CoarseClock.builder().resolution(Duration.ofMillis(10)).build()) {
+            CoarseClock.Tick tick = clock.tick();
+            AsyncConsole.println("\nCoarseClock (" + clock.getResolution() + " 간격):");
+            AsyncConsole.println("에포크 밀리초: " + tick.epochMillis()
+                    + " (시스템 시계와의 차이: " + (System.currentTimeMillis() - tick.epochMillis()) + "ms)");
+            AsyncConsole.println("현지 날짜/시간: " + tick.localDateTime());
+            AsyncConsole.println("포맷된 시각: " + tick.formatted());
+        }
         
         // Duration - 시간 기반 간격
         Duration duration = Duration.between(now, oneHourLater);
-        System.out.println("\n두 시간 사이의 간격:");
-        System.out.println("초 단위: " + duration.getSeconds());
-        System.out.println("분 단위: " + duration.toMinutes());
-        System.out.println("시간 단위: " + duration.toHours());
+        AsyncConsole.println("\n두 시간 사이의 간격:");
+        AsyncConsole.println("초 단위: " + duration.getSeconds());
+        AsyncConsole.println("분 단위: " + duration.toMinutes());
+        AsyncConsole.println("시간 단위: " + duration.toHours());
         
         // 직접 Duration 생성
         Duration oneDay = Duration.ofDays(1);
         Duration oneMin = Duration.ofMinutes(1);
         Duration tenSeconds = Duration.ofSeconds(10);
-        System.out.println("\n직접 생성한 Duration:");
-        System.out.println("1일: " + oneDay);
-        System.out.println("1분: " + oneMin);
-        System.out.println("10초: " + tenSeconds);
+        AsyncConsole.println("\n직접 생성한 Duration:");
+        AsyncConsole.println("1일: " + oneDay);
+        AsyncConsole.println("1분: " + oneMin);
+        AsyncConsole.println("10초: " + tenSeconds);
         
         // Period - 날짜 기반 간격
         LocalDate today = LocalDate.now();
         LocalDate nextYear = today.plusYears(1);
         
         Period period = Period.between(today, nextYear);
-        System.out.println("\n두 날짜 사이의 간격:");
-        System.out.println("연도: " + period.getYears());
-        System.out.println("월: " + period.getMonths());
-        System.out.println("일: " + period.getDays());
+        AsyncConsole.println("\n두 날짜 사이의 간격:");
+        AsyncConsole.println("연도: " + period.getYears());
+        AsyncConsole.println("월: " + period.getMonths());
+        AsyncConsole.println("일: " + period.getDays());
         
         // 직접 Period 생성
         Period twoMonthsTenDays = Period.of(0, 2, 10);
-        System.out.println("\n2개월 10일의 기간: " + twoMonthsTenDays);
+        AsyncConsole.println("\n2개월 10일의 기간: " + twoMonthsTenDays);
         
         // Period와 Duration 응용
         LocalDate birthDate = LocalDate.of(1990, 1, 1);
         LocalDate currentDate = LocalDate.now();
         
         Period age = Period.between(birthDate, currentDate);
-        System.out.println("\n만 나이: " + age.getYears() + "세 " + age.getMonths() + "개월 " + age.getDays() + "일");
+        AsyncConsole.println("\n만 나이: " + age.getYears() + "세 " + age.getMonths() + "개월 " + age.getDays() + "일");
         
         // 두 시간 사이의 소요 시간
         LocalTime startTime = LocalTime.of(9, 0);
         LocalTime endTime = LocalTime.of(17, 30);
         
         Duration workDuration = Duration.between(startTime, endTime);
-        System.out.println("\n근무 시간: " + workDuration.toHours() + "시간 " 
+        AsyncConsole.println("\n근무 시간: " + workDuration.toHours() + "시간 " 
                 + (workDuration.toMinutes() % 60) + "분");
     }
     
@@ -156,41 +169,60 @@ public class DateTimeApiExample {
      * 타임존이 있는 날짜와 시간을 표현합니다.
      */
     private static void zonedDateTimeExample() {
-        System.out.println("\n=== ZonedDateTime과 시간대 처리 예제 ===");
+        AsyncConsole.println("\n=== ZonedDateTime과 시간대 처리 예제 ===");
         
         // 현재 시스템 기본 시간대의 날짜와 시간
         ZonedDateTime nowInSystemTz = ZonedDateTime.now();
-        System.out.println("현재 시간대 날짜/시간: " + nowInSystemTz);
+        AsyncConsole.println("현재 시간대 날짜/시간: " + nowInSystemTz);
         
         // 특정 시간대의 현재 날짜와 시간
         ZonedDateTime nowInSeoul = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
         ZonedDateTime nowInNY = ZonedDateTime.now(ZoneId.of("America/New_York"));
         ZonedDateTime nowInLondon = ZonedDateTime.now(ZoneId.of("Europe/London"));
         
-        System.out.println("\n각 도시의 현재 시간:");
-        System.out.println("서울: " + nowInSeoul.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        System.out.println("뉴욕: " + nowInNY.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        System.out.println("런던: " + nowInLondon.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        AsyncConsole.println("\n각 도시의 현재 시간:");
+        AsyncConsole.println("서울: " + nowInSeoul.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        AsyncConsole.println("뉴욕: " + nowInNY.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        AsyncConsole.println("런던: " + nowInLondon.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
         
         // 시간대 전환
         LocalDateTime localDateTime = LocalDateTime.of(2023, 1, 1, 12, 0);
         ZonedDateTime seoulDateTime = localDateTime.atZone(ZoneId.of("Asia/Seoul"));
         
-        System.out.println("\n서울 시간: " + seoulDateTime);
+        AsyncConsole.println("\n서울 시간: " + seoulDateTime);
         
         ZonedDateTime nyDateTime = seoulDateTime.withZoneSameInstant(ZoneId.of("America/New_York"));
-        System.out.println("뉴욕 시간 (같은 시점): " + nyDateTime);
+        AsyncConsole.println("뉴욕 시간 (같은 시점): " + nyDateTime);
+
+        // 많은 이벤트 시각은 시간대별 전환 시점 표로 한 번에 변환 (ZonedDateTime을 만들지 않음)
+        long[] eventMillis = {
+                Instant.parse("2024-03-10T06:59:00Z").toEpochMilli(),   // 뉴욕 서머타임 시작 직전
+                Instant.parse("2024-03-10T07:00:00Z").toEpochMilli(),   // 서머타임 시작
+                Instant.parse("2024-11-03T06:00:00Z").toEpochMilli()    // 서머타임 종료
+        };
+        ZoneBatchConverter nyConverter = ZoneBatchConverter.of(ZoneId.of("America/New_York"));
+        int[] offsets = new int[eventMillis.length];
+        long[] localMillis = new long[eventMillis.length];
+        nyConverter.offsets(eventMillis, offsets);
+        nyConverter.toLocalEpochMillis(eventMillis, localMillis);
+        AsyncConsole.println("\n일괄 변환 (" + nyConverter + "):");
+        byte[] line = new byte[32];
+        for (int i = 0; i < eventMillis.length; i++) {
+            int end = FastDateFormat.of("yyyy-MM-dd HH:mm:ss").format(localMillis[i], ZoneOffset.UTC, line, 0);
+            AsyncConsole.println(Instant.ofEpochMilli(eventMillis[i]) + " -> "
+                    + new String(line, 0, end, StandardCharsets.UTF_8) + " (UTC" + ZoneOffset.ofTotalSeconds(offsets[i]) + ")");
+        }
         
         // ZoneOffset 사용
         OffsetDateTime offsetDateTime = OffsetDateTime.now(ZoneOffset.of("+09:00"));
-        System.out.println("\n+09:00 오프셋 시간: " + offsetDateTime);
+        AsyncConsole.println("\n+09:00 오프셋 시간: " + offsetDateTime);
         
         // 사용 가능한 모든 시간대 확인
-        System.out.println("\n사용 가능한 시간대 일부:");
+        AsyncConsole.println("\n사용 가능한 시간대 일부:");
         ZoneId.getAvailableZoneIds().stream()
                 .filter(zoneId -> zoneId.startsWith("Asia") || zoneId.startsWith("Europe"))
                 .limit(5)
-                .forEach(System.out::println);
+                .forEach(AsyncConsole::println);
     }
     
     /**
@@ -199,7 +231,7 @@ public class DateTimeApiExample {
      * 날짜와 시간 클래스에서 제공하는 다양한 연산 메서드와 TemporalAdjusters를 활용한 예제입니다.
      */
     private static void dateCalculationsExample() {
-        System.out.println("\n=== 날짜 조정과 계산 예제 ===");
+        AsyncConsole.println("\n=== 날짜 조정과 계산 예제 ===");
         
         LocalDate today = LocalDate.now();
         
@@ -209,52 +241,52 @@ public class DateTimeApiExample {
         LocalDate nextMonth = today.plusMonths(1);
         LocalDate previousMonth = today.minusMonths(1);
         
-        System.out.println("오늘: " + today);
-        System.out.println("내일: " + tomorrow);
-        System.out.println("어제: " + yesterday);
-        System.out.println("다음 달 같은 날: " + nextMonth);
-        System.out.println("지난 달 같은 날: " + previousMonth);
+        AsyncConsole.println("오늘: " + today);
+        AsyncConsole.println("내일: " + tomorrow);
+        AsyncConsole.println("어제: " + yesterday);
+        AsyncConsole.println("다음 달 같은 날: " + nextMonth);
+        AsyncConsole.println("지난 달 같은 날: " + previousMonth);
         
         // 일, 월, 년 단위 조정
         LocalDateTime now = LocalDateTime.now();
-        System.out.println("\n현재 시간: " + now);
-        System.out.println("3시간 30분 후: " + now.plusHours(3).plusMinutes(30));
-        System.out.println("2주 전: " + now.minusWeeks(2));
+        AsyncConsole.println("\n현재 시간: " + now);
+        AsyncConsole.println("3시간 30분 후: " + now.plusHours(3).plusMinutes(30));
+        AsyncConsole.println("2주 전: " + now.minusWeeks(2));
         
         // ChronoUnit을 사용한 날짜 계산
-        System.out.println("\nChronoUnit을 사용한 날짜 계산:");
-        System.out.println("10일 후: " + today.plus(10, ChronoUnit.DAYS));
-        System.out.println("20주 후: " + today.plus(20, ChronoUnit.WEEKS));
-        System.out.println("15개월 전: " + today.minus(15, ChronoUnit.MONTHS));
+        AsyncConsole.println("\nChronoUnit을 사용한 날짜 계산:");
+        AsyncConsole.println("10일 후: " + today.plus(10, ChronoUnit.DAYS));
+        AsyncConsole.println("20주 후: " + today.plus(20, ChronoUnit.WEEKS));
+        AsyncConsole.println("15개월 전: " + today.minus(15, ChronoUnit.MONTHS));
         
         // TemporalAdjusters 사용
-        System.out.println("\nTemporalAdjusters 사용:");
+        AsyncConsole.println("\nTemporalAdjusters 사용:");
         
         // 이번 달의 첫 번째 날
         LocalDate firstDayOfMonth = today.with(TemporalAdjusters.firstDayOfMonth());
-        System.out.println("이번 달의 첫 번째 날: " + firstDayOfMonth);
+        AsyncConsole.println("이번 달의 첫 번째 날: " + firstDayOfMonth);
         
         // 이번 달의 마지막 날
         LocalDate lastDayOfMonth = today.with(TemporalAdjusters.lastDayOfMonth());
-        System.out.println("이번 달의 마지막 날: " + lastDayOfMonth);
+        AsyncConsole.println("이번 달의 마지막 날: " + lastDayOfMonth);
         
         // 다음 달의 첫 번째 월요일
         LocalDate firstMondayOfNextMonth = today.with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY))
                 .plusMonths(1);
-        System.out.println("다음 달의 첫 번째 월요일: " + firstMondayOfNextMonth);
+        AsyncConsole.println("다음 달의 첫 번째 월요일: " + firstMondayOfNextMonth);
         
         // 이번 해의 마지막 날
         LocalDate lastDayOfYear = today.with(TemporalAdjusters.lastDayOfYear());
-        System.out.println("이번 해의 마지막 날: " + lastDayOfYear);
+        AsyncConsole.println("이번 해의 마지막 날: " + lastDayOfYear);
         
         // 다음 번째 특정 요일 (다음 금요일)
         LocalDate nextFriday = today.with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
-        System.out.println("다음 금요일: " + nextFriday);
+        AsyncConsole.println("다음 금요일: " + nextFriday);
         
         // 두 날짜 사이의 일수 계산
         LocalDate futureDate = LocalDate.of(2024, 12, 31);
         long daysBetween = ChronoUnit.DAYS.between(today, futureDate);
-        System.out.println("\n오늘부터 2024년 12월 31일까지: " + daysBetween + "일");
+        AsyncConsole.println("\n오늘부터 2024년 12월 31일까지: " + daysBetween + "일");
         
         // 생일까지 남은 날짜 계산
         LocalDate birthday = LocalDate.of(today.getYear(), 8, 15);
@@ -262,7 +294,21 @@ public class DateTimeApiExample {
             birthday = birthday.plusYears(1);
         }
         long daysUntilBirthday = ChronoUnit.DAYS.between(today, birthday);
-        System.out.println("다음 생일까지 남은 날짜: " + daysUntilBirthday + "일");
+        AsyncConsole.println("다음 생일까지 남은 날짜: " + daysUntilBirthday + "일");
+
+        // 대량의 날짜는 DateColumn으로 한 번에 계산 (LocalDate 객체 없이 에포크 일수 배열로 처리)
+        AsyncConsole.println("\nDateColumn을 사용한 일괄 날짜 계산:");
+        DateColumn orderDates = DateColumn.of(
+                LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 14), LocalDate.of(2024, 3, 30));
+        DateColumn dueDates = orderDates.plusMonths(1);
+        DateColumn closingDates = orderDates.lastDayOfMonth();
+        DateColumn shippingDates = orderDates.next(DayOfWeek.FRIDAY);
+        LongColumn daysToDue = orderDates.daysBetween(dueDates);
+        for (int i = 0; i < orderDates.size(); i++) {
+            AsyncConsole.println("주문일 " + orderDates.get(i) + " -> 납기 " + dueDates.get(i)
+                    + " (" + daysToDue.get(i) + "일), 월말 마감 " + closingDates.get(i)
+                    + ", 출고(다음 금요일) " + shippingDates.get(i));
+        }
     }
     
     /**
@@ -271,62 +317,88 @@ public class DateTimeApiExample {
      * DateTimeFormatter를 사용하여 날짜와 시간을 다양한 형식으로 표시하는 예제입니다.
      */
     private static void dateFormattingExample() {
-        System.out.println("\n=== 날짜와 시간 포맷팅 예제 ===");
+        AsyncConsole.println("\n=== 날짜와 시간 포맷팅 예제 ===");
         
         LocalDateTime now = LocalDateTime.now();
         
         // 기본 제공 포맷터 사용
-        System.out.println("\n기본 제공 포맷터:");
-        System.out.println("ISO_LOCAL_DATE: " + now.format(DateTimeFormatter.ISO_LOCAL_DATE));
-        System.out.println("ISO_LOCAL_TIME: " + now.format(DateTimeFormatter.ISO_LOCAL_TIME));
-        System.out.println("ISO_LOCAL_DATE_TIME: " + now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        AsyncConsole.println("\n기본 제공 포맷터:");
+        AsyncConsole.println("ISO_LOCAL_DATE: " + now.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        AsyncConsole.println("ISO_LOCAL_TIME: " + now.format(DateTimeFormatter.ISO_LOCAL_TIME));
+        AsyncConsole.println("ISO_LOCAL_DATE_TIME: " + now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         
         // 패턴을 사용한 포맷팅
-        System.out.println("\n커스텀 패턴 포맷터:");
+        AsyncConsole.println("\n커스텀 패턴 포맷터:");
         
         DateTimeFormatter formatter1 = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
-        System.out.println("한국식 날짜 형식: " + now.format(formatter1));
+        AsyncConsole.println("한국식 날짜 형식: " + now.format(formatter1));
         
         DateTimeFormatter formatter2 = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
-        System.out.println("날짜 및 시간: " + now.format(formatter2));
+        AsyncConsole.println("날짜 및 시간: " + now.format(formatter2));
         
         DateTimeFormatter formatter3 = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 E요일", Locale.KOREAN);
-        System.out.println("요일 포함 한국어 형식: " + now.format(formatter3));
+        AsyncConsole.println("요일 포함 한국어 형식: " + now.format(formatter3));
         
         DateTimeFormatter formatter4 = DateTimeFormatter.ofPattern("EEEE, MMMM dd, yyyy", Locale.ENGLISH);
-        System.out.println("영어 전체 형식: " + now.format(formatter4));
-        
+        AsyncConsole.println("영어 전체 형식: " + now.format(formatter4));
+
+        // 미리 컴파일된 포맷터: 호출자가 준 byte 배열에 바로 기록 (로그 줄처럼 자주 만드는 타임스탬프용)
+        AsyncConsole.println("\nFastDateFormat (byte 버퍼에 직접 기록):");
+
+        byte[] line = new byte[64];
+        int end = FastDateFormat.ISO_LOCAL_DATE_TIME.format(now, line, 0);
+        AsyncConsole.println("ISO_LOCAL_DATE_TIME: " + new String(line, 0, end, StandardCharsets.UTF_8));
+
+        FastDateFormat fastFormatter = FastDateFormat.of("yyyy/MM/dd HH:mm:ss");
+        end = fastFormatter.format(now, line, 0);
+        AsyncConsole.println("날짜 및 시간: " + new String(line, 0, end, StandardCharsets.UTF_8)
+                + " (DateTimeFormatter와 같은가? " + fastFormatter.format(now).equals(now.format(formatter2)) + ")");
+
+        // 에포크 밀리초에서 바로 포맷 (LocalDateTime을 만들지 않음)
+        end = FastDateFormat.of("yyyy-MM-dd HH:mm:ss").format(System.currentTimeMillis(), ZoneOffset.ofHours(9), line, 0);
+        AsyncConsole.println("서울 시간 (UTC+9): " + new String(line, 0, end, StandardCharsets.UTF_8));
+
         // 날짜/시간 파싱
-        System.out.println("\n문자열에서 날짜/시간 파싱:");
+        AsyncConsole.println("\n문자열에서 날짜/시간 파싱:");
         
         String dateStr = "2023-06-15";
         LocalDate parsedDate = LocalDate.parse(dateStr);
-        System.out.println("기본 형식으로 파싱된 날짜: " + parsedDate);
+        AsyncConsole.println("기본 형식으로 파싱된 날짜: " + parsedDate);
         
         String dateTimeStr = "2023/06/15 14:30:00";
         LocalDateTime parsedDateTime = LocalDateTime.parse(
                 dateTimeStr, DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
-        System.out.println("커스텀 형식으로 파싱된 날짜/시간: " + parsedDateTime);
-        
+        AsyncConsole.println("커스텀 형식으로 파싱된 날짜/시간: " + parsedDateTime);
+
+        // 고정 폭 형식은 숫자를 직접 읽어 해석 (대량 로그 처리용, 다른 형식은 DateTimeFormatter로 처리)
+        LocalDateTime fastParsed = FastDateParser.parseLocalDateTime(dateTimeStr, formatter2);
+        AsyncConsole.println("FastDateParser로 파싱된 날짜/시간: " + fastParsed
+                + " (같은가? " + fastParsed.equals(parsedDateTime) + ")");
+
+        String logLine = "[2023-06-15T14:30:00.250] INFO 주문 처리 완료";
+        long epochSecond = FastDateParser.parseEpochSecond(
+                logLine, 1, 24, ZoneOffset.ofHours(9), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        AsyncConsole.println("로그 줄의 타임스탬프 (에포크 초, UTC+9 기준): " + epochSecond);
+
         // 날짜 정보 포맷팅
-        System.out.println("\n다양한 날짜 정보 포맷팅:");
+        AsyncConsole.println("\n다양한 날짜 정보 포맷팅:");
         
         DateTimeFormatter complexFormatter = DateTimeFormatter.ofPattern(
                 "yyyy년 MM월 dd일 (E) a hh시 mm분 ss초", Locale.KOREAN);
-        System.out.println("복합 형식: " + now.format(complexFormatter));
+        AsyncConsole.println("복합 형식: " + now.format(complexFormatter));
         
         ZonedDateTime zonedDateTime = ZonedDateTime.now();
         DateTimeFormatter zoneFormatter = DateTimeFormatter.ofPattern(
                 "yyyy-MM-dd HH:mm:ss z VV", Locale.KOREAN);
-        System.out.println("시간대 정보 포함: " + zonedDateTime.format(zoneFormatter));
+        AsyncConsole.println("시간대 정보 포함: " + zonedDateTime.format(zoneFormatter));
         
         // 시간 영역별 포맷팅
-        System.out.println("\n시간 영역별 포맷팅:");
+        AsyncConsole.println("\n시간 영역별 포맷팅:");
         
         DateTimeFormatter quarterFormatter = DateTimeFormatter.ofPattern("yyyy년 QQQ", Locale.KOREAN);
-        System.out.println("분기: " + now.format(quarterFormatter));
+        AsyncConsole.println("분기: " + now.format(quarterFormatter));
         
         DateTimeFormatter weekFormatter = DateTimeFormatter.ofPattern("yyyy년 w주차", Locale.KOREAN);
-        System.out.println("주차: " + now.format(weekFormatter));
+        AsyncConsole.println("주차: " + now.format(weekFormatter));
     }
 }
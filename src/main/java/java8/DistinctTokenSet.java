@@ -0,0 +1,142 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 원본 텍스트의 오프셋만 저장하는 고유 토큰 집합 (정확한 distinct)
+ * 
+ * distinct()는 모든 토큰을 문자열로 만들어 HashSet에 넣습니다. DistinctTokenSet은 토큰 문자열 대신
+ * (원본 번호, 시작, 끝, 해시)를 병렬 int 배열에 저장하고, 엔트리 번호를 담는 개방 주소법(선형 탐사) 해시 테이블로
+ * 중복을 판별합니다. 토큰마다 노드 객체나 문자열을 만들지 않으며, 결과가 필요할 때만 문자열로 변환합니다.
+ */
+public class DistinctTokenSet {
+
+    private static final int EMPTY = -1;
+
+    private final List<CharSequence> sources = new ArrayList<>();
+
+    // 엔트리 번호를 저장하는 해시 테이블 (크기는 2의 거듭제곱)
+    private int[] slots;
+
+    // 엔트리 정보 (삽입 순서대로 저장)
+    private int[] entrySource;
+    private int[] entryStart;
+    private int[] entryEnd;
+    private int[] entryHash;
+    private int size;
+
+    public DistinctTokenSet() {
+        this(16);
+    }
+
+    public DistinctTokenSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("예상 크기는 0 이상이어야 합니다: " + expectedSize);
+        }
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        int entries = Math.max(4, expectedSize);
+        entrySource = new int[entries];
+        entryStart = new int[entries];
+        entryEnd = new int[entries];
+        entryHash = new int[entries];
+    }
+
+    /**
+     * 텍스트를 토큰으로 나누어 모두 추가하고, 새로 추가된 토큰 수를 반환합니다.
+     * 텍스트는 복사되지 않으므로 집합을 사용하는 동안 변경하지 않아야 합니다.
+     */
+    public int addAll(CharSequence text) {
+        int sourceId = sources.size();
+        sources.add(text);
+        int before = size;
+        TextTokenizer.forEachToken(text, (start, end) -> add(sourceId, start, end));
+        if (size == before) {
+            // 새 토큰이 없으면 원본을 붙잡아 둘 필요가 없음
+            sources.remove(sourceId);
+        }
+        return size - before;
+    }
+
+    public boolean contains(CharSequence token) {
+        int hash = TextTokenizer.contentHash(token, 0, token.length());
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entryHash[entry] == hash && TextTokenizer.contentEquals(
+                    sources.get(entrySource[entry]), entryStart[entry], entryEnd[entry], token, 0, token.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 삽입 순서대로 고유 토큰을 문자열로 변환
+    public List<String> toList() {
+        List<String> result = new ArrayList<>(size);
+        for (int entry = 0; entry < size; entry++) {
+            result.add(sources.get(entrySource[entry]).subSequence(entryStart[entry], entryEnd[entry]).toString());
+        }
+        return result;
+    }
+
+    private void add(int sourceId, int start, int end) {
+        CharSequence source = sources.get(sourceId);
+        int hash = TextTokenizer.contentHash(source, start, end);
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != EMPTY) {
+            int entry = slots[slot];
+            if (entryHash[entry] == hash && TextTokenizer.contentEquals(
+                    sources.get(entrySource[entry]), entryStart[entry], entryEnd[entry], source, start, end)) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == entryHash.length) {
+            int newLength = size + (size >> 1);
+            entrySource = Arrays.copyOf(entrySource, newLength);
+            entryStart = Arrays.copyOf(entryStart, newLength);
+            entryEnd = Arrays.copyOf(entryEnd, newLength);
+            entryHash = Arrays.copyOf(entryHash, newLength);
+        }
+        entrySource[size] = sourceId;
+        entryStart[size] = start;
+        entryEnd[size] = end;
+        entryHash[size] = hash;
+        slots[slot] = size;
+        size++;
+
+        // 적재율 50%를 넘으면 테이블 확장
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] newSlots = new int[capacity];
+        Arrays.fill(newSlots, EMPTY);
+        int mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = spread(entryHash[entry]) & mask;
+            while (newSlots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = entry;
+        }
+        slots = newSlots;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,139 @@
+package java8;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 박싱 없이 double 값을 저장하는 가변 길이 컬럼
+ * 
+ * List&lt;Double&gt;는 요소마다 Double 객체를 만들기 때문에 대량의 데이터에서는 메모리 사용량이 크고
+ * 스트림 연산이 포인터를 따라다니는 비용에 좌우됩니다. DoubleColumn은 값을 double[]에 연속으로 저장하고,
+ * SIZED | SUBSIZED 스플리터레이터를 제공하여 병렬 스트림이 작업을 균등하게 분할할 수 있게 합니다.
+ */
+public class DoubleColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private int size;
+
+    public DoubleColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        this.values = new double[initialCapacity];
+    }
+
+    public static DoubleColumn of(double... values) {
+        DoubleColumn column = new DoubleColumn(values.length);
+        column.addAll(values);
+        return column;
+    }
+
+    public void add(double value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    public void addAll(double... source) {
+        ensureCapacity(size + source.length);
+        System.arraycopy(source, 0, values, size, source.length);
+        size += source.length;
+    }
+
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    public void set(int index, double value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < values.length) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // 값이 set/add로 바뀔 수 있으므로 IMMUTABLE은 보고하지 않습니다. 스트림 연산 중에는 컬럼을 수정하지 않아야 합니다.
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(values, 0, size, Spliterator.ORDERED);
+    }
+
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    public double sum() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    // 조건을 만족하는 요소 수 (순차, 박싱 없는 단순 루프)
+    public long count(DoublePredicate predicate) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 조건을 만족하는 요소 수 (병렬, 요소별 객체 할당 없음)
+    public long parallelCount(DoublePredicate predicate) {
+        return parallelStream().filter(predicate).count();
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleColumn{size=" + size + '}';
+    }
+}
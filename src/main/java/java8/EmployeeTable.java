@@ -0,0 +1,170 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+import java8.LambdaExample.Employee;
+
+/**
+ * 이름 · 부서 · 급여를 병렬 배열(컬럼)로 저장하는 직원 테이블
+ * 
+ * 급여를 인상할 때마다 Employee 객체와 ArrayList를 새로 만드는 대신, 급여 컬럼을 제자리에서 갱신합니다.
+ * 부서는 사전 인코딩하여 int 코드로 저장하므로, 부서별 규칙은 행마다 문자열 비교 대신 코드로 배열을 조회합니다.
+ * 갱신은 행 범위를 나누어 병렬로 수행하며, 같은 테이블을 동시에 갱신하지 않아야 합니다.
+ */
+public class EmployeeTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // 병렬 갱신 시 파티션 하나의 최소 행 수
+    private static final int MIN_ROWS_PER_PARTITION = 1 << 14;
+
+    private final Map<String, Integer> departmentCodes = new HashMap<>();
+    private final List<String> departments = new ArrayList<>();
+
+    private String[] names;
+    private int[] departmentColumn;
+    private double[] salaryColumn;
+    private int size;
+
+    public EmployeeTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EmployeeTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        names = new String[initialCapacity];
+        departmentColumn = new int[initialCapacity];
+        salaryColumn = new double[initialCapacity];
+    }
+
+    public static EmployeeTable from(List<Employee> employees) {
+        EmployeeTable table = new EmployeeTable(employees.size());
+        for (Employee employee : employees) {
+            table.add(employee.getName(), employee.getDepartment(), employee.getSalary());
+        }
+        return table;
+    }
+
+    public void add(String name, String department, double salary) {
+        Objects.requireNonNull(department, "department");
+        if (size == salaryColumn.length) {
+            int newCapacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            names = Arrays.copyOf(names, newCapacity);
+            departmentColumn = Arrays.copyOf(departmentColumn, newCapacity);
+            salaryColumn = Arrays.copyOf(salaryColumn, newCapacity);
+        }
+        names[size] = name;
+        departmentColumn[size] = departmentCodes.computeIfAbsent(department, d -> {
+            departments.add(d);
+            return departments.size() - 1;
+        });
+        salaryColumn[size] = salary;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int row) {
+        Objects.checkIndex(row, size);
+        return names[row];
+    }
+
+    public String getDepartment(int row) {
+        Objects.checkIndex(row, size);
+        return departments.get(departmentColumn[row]);
+    }
+
+    public double getSalary(int row) {
+        Objects.checkIndex(row, size);
+        return salaryColumn[row];
+    }
+
+    // 부서 코드 (등록되지 않은 부서는 -1)
+    public int departmentCode(String department) {
+        return departmentCodes.getOrDefault(department, -1);
+    }
+
+    /**
+     * 모든 행의 급여를 update 결과로 제자리 갱신합니다.
+     * 
+     * update에 전달되는 Row는 파티션마다 하나씩 재사용되는 커서이므로 함수 밖으로 보관하면 안 됩니다.
+     */
+    public void updateSalaries(ToDoubleFunction<Row> update) {
+        forEachPartition((from, to) -> {
+            Row row = new Row();
+            for (int i = from; i < to; i++) {
+                row.index = i;
+                salaryColumn[i] = update.applyAsDouble(row);
+            }
+        });
+    }
+
+    /**
+     * 부서별 인상률을 적용합니다. 목록에 없는 부서는 defaultMultiplier를 사용합니다.
+     * 
+     * 인상률은 부서 코드를 인덱스로 하는 배열로 한 번 변환되므로 행마다 문자열을 비교하지 않습니다.
+     */
+    public void applyRaise(Map<String, Double> multiplierByDepartment, double defaultMultiplier) {
+        double[] multipliers = new double[departments.size()];
+        Arrays.fill(multipliers, defaultMultiplier);
+        multiplierByDepartment.forEach((department, multiplier) -> {
+            int code = departmentCode(department);
+            if (code >= 0) {
+                multipliers[code] = multiplier;
+            }
+        });
+        forEachPartition((from, to) -> {
+            for (int i = from; i < to; i++) {
+                salaryColumn[i] *= multipliers[departmentColumn[i]];
+            }
+        });
+    }
+
+    public List<Employee> toEmployees() {
+        List<Employee> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new Employee(names[i], departments.get(departmentColumn[i]), salaryColumn[i]));
+        }
+        return result;
+    }
+
+    private void forEachPartition(RangeAction action) {
+        int partitions = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors() * 4, size / MIN_ROWS_PER_PARTITION));
+        int partitionSize = (size + partitions - 1) / partitions;
+        int rows = size;
+        IntStream stream = IntStream.range(0, partitions);
+        (partitions > 1 ? stream.parallel() : stream).forEach(partition -> {
+            int from = partition * partitionSize;
+            action.run(from, Math.min(rows, from + partitionSize));
+        });
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void run(int from, int to);
+    }
+
+    /**
+     * 테이블의 한 행을 가리키는 커서
+     */
+    public final class Row {
+        private int index;
+
+        public String getName() { return names[index]; }
+        public String getDepartment() { return departments.get(departmentColumn[index]); }
+        public int getDepartmentCode() { return departmentColumn[index]; }
+        public double getSalary() { return salaryColumn[index]; }
+    }
+}
@@ -0,0 +1,62 @@
+package java8;
+
+/**
+ * 에포크 일수(1970-01-01 기준 일수)와 연/월/일 사이의 변환 (그레고리력, 객체를 만들지 않는 정수 연산)
+ *
+ * 3월을 한 해의 시작으로 보면 윤일이 연도의 마지막 날이 되어, 400년 주기(146097일) 안에서 나눗셈 몇 번으로 변환할 수 있습니다.
+ * 연/월/일 세 값은 long 하나에 담아 돌려줍니다. (year << 16 | month << 8 | day)
+ */
+final class EpochDays {
+
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_CYCLE = 146_097;
+
+    private EpochDays() {
+    }
+
+    static long of(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    static long toCivil(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        long dayOfEra = z - era * DAYS_PER_CYCLE;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 16 | month << 8 | day;
+    }
+
+    static int year(long civil) {
+        return (int) (civil >> 16);
+    }
+
+    static int month(long civil) {
+        return (int) (civil >> 8) & 0xFF;
+    }
+
+    static int day(long civil) {
+        return (int) civil & 0xFF;
+    }
+
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
@@ -0,0 +1,329 @@
+package java8;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 패턴을 한 번만 해석해 두고, 날짜/시간을 호출자가 준 byte 배열에 UTF-8로 바로 쓰는 포맷터
+ *
+ * DateTimeFormatter.format은 호출마다 StringBuilder와 String을 만들고, 필드를 TemporalAccessor를 통해 하나씩 조회합니다.
+ * FastDateFormat은 패턴을 (필드 코드, 리터럴 바이트) 배열로 미리 컴파일하고, 숫자는 두 자리씩 표에서 꺼내 byte 배열에 씁니다.
+ * 같은 패턴은 레지스트리에서 같은 인스턴스를 돌려주며, 인스턴스는 불변이므로 여러 스레드에서 함께 쓸 수 있습니다.
+ *
+ * 지원 패턴 문자: yyyy(uuuu), MM, dd, HH, mm, ss, S(1~9자리 소수 초)와 작은따옴표로 감싼 문자열('' 는 작은따옴표), 그 밖의 기호와 비ASCII 문자.
+ * 선택 구간([ ])과 예약 문자({ } #)는 지원하지 않으며, 리터럴로 쓰려면 작은따옴표로 감쌉니다.
+ * 연도가 1~9999 범위를 벗어나면 (기원전 연도 등) 같은 패턴의 DateTimeFormatter로 대신 포맷합니다.
+ * ISO_LOCAL_DATE/ISO_LOCAL_TIME/ISO_LOCAL_DATE_TIME은 DateTimeFormatter의 같은 이름 상수와 출력이 같습니다. (소수 초는 뒤쪽 0을 생략)
+ *
+ * 사용 예:
+ *   FastDateFormat format = FastDateFormat.of("yyyy/MM/dd HH:mm:ss");
+ *   byte[] line = new byte[64];
+ *   int end = format.format(dateTime, line, 0);           // 할당 없음
+ *   end = format.format(epochMillis, ZoneOffset.UTC, line, 0);
+ */
+public final class FastDateFormat {
+
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int FRACTION = 7;
+    // ISO 형식의 소수 초: 0이면 생략, 아니면 '.'과 뒤쪽 0을 뺀 숫자
+    private static final int ISO_FRACTION = 8;
+
+    // "00" ~ "99"의 ASCII 바이트
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private static final Map<String, FastDateFormat> REGISTRY = new ConcurrentHashMap<>();
+
+    public static final FastDateFormat ISO_LOCAL_DATE =
+            new FastDateFormat("yyyy-MM-dd", DateTimeFormatter.ISO_LOCAL_DATE);
+    public static final FastDateFormat ISO_LOCAL_TIME =
+            new FastDateFormat("HH:mm:ss", DateTimeFormatter.ISO_LOCAL_TIME, true);
+    public static final FastDateFormat ISO_LOCAL_DATE_TIME =
+            new FastDateFormat("yyyy-MM-dd'T'HH:mm:ss", DateTimeFormatter.ISO_LOCAL_DATE_TIME, true);
+
+    private final String pattern;
+    private final int[] codes;
+    private final int[] widths;
+    private final byte[][] literals;
+    private final boolean hasDate;
+    private final boolean hasTime;
+    private final int maxLength;
+    private final DateTimeFormatter fallback;
+
+    private FastDateFormat(String pattern, DateTimeFormatter fallback) {
+        this(pattern, fallback, false);
+    }
+
+    private FastDateFormat(String pattern, DateTimeFormatter fallback, boolean isoFraction) {
+        List<int[]> parsed = new ArrayList<>();
+        List<byte[]> literalParts = new ArrayList<>();
+        compile(pattern, parsed, literalParts);
+        if (isoFraction) {
+            parsed.add(new int[] {ISO_FRACTION, 10});
+            literalParts.add(null);
+        }
+        this.pattern = pattern;
+        this.codes = new int[parsed.size()];
+        this.widths = new int[parsed.size()];
+        this.literals = literalParts.toArray(new byte[0][]);
+        boolean date = false;
+        boolean time = false;
+        int length = 0;
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = parsed.get(i)[0];
+            widths[i] = parsed.get(i)[1];
+            date |= codes[i] >= YEAR && codes[i] <= DAY;
+            time |= codes[i] >= HOUR;
+            length += codes[i] == LITERAL ? literals[i].length : widths[i];
+        }
+        this.hasDate = date;
+        this.hasTime = time;
+        this.maxLength = length;
+        this.fallback = fallback;
+    }
+
+    /**
+     * 패턴에 해당하는 포맷터 (처음 요청될 때 한 번만 컴파일)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 패턴 문자가 있는 경우
+     */
+    public static FastDateFormat of(String pattern) {
+        FastDateFormat format = REGISTRY.get(pattern);
+        if (format == null) {
+            format = REGISTRY.computeIfAbsent(pattern, p -> new FastDateFormat(p, DateTimeFormatter.ofPattern(p)));
+        }
+        return format;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    // 출력의 최대 바이트 수 (버퍼 크기 산정용, 범위를 벗어난 연도는 제외)
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public int format(LocalDateTime dateTime, byte[] buffer, int offset) {
+        return render(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), buffer, offset);
+    }
+
+    public int format(LocalDate date, byte[] buffer, int offset) {
+        if (hasTime) {
+            throw new IllegalArgumentException("시간 필드가 있는 패턴으로 LocalDate를 포맷할 수 없습니다: " + pattern);
+        }
+        return render(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), 0, 0, 0, 0, buffer, offset);
+    }
+
+    public int format(LocalTime time, byte[] buffer, int offset) {
+        if (hasDate) {
+            throw new IllegalArgumentException("날짜 필드가 있는 패턴으로 LocalTime을 포맷할 수 없습니다: " + pattern);
+        }
+        return render(1970, 1, 1, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), buffer, offset);
+    }
+
+    /**
+     * 에포크 밀리초를 주어진 오프셋의 현지 시각으로 포맷합니다. (LocalDateTime을 만들지 않음)
+     *
+     * @return 기록을 마친 다음 위치
+     */
+    public int format(long epochMillis, ZoneOffset offset, byte[] buffer, int position) {
+        long localMillis = epochMillis + offset.getTotalSeconds() * 1000L;
+        long epochDay = Math.floorDiv(localMillis, 86_400_000L);
+        int millisOfDay = (int) Math.floorMod(localMillis, 86_400_000L);
+
+        long civil = EpochDays.toCivil(epochDay);
+        int year = EpochDays.year(civil);
+        int month = EpochDays.month(civil);
+        int day = EpochDays.day(civil);
+
+        int secondOfDay = millisOfDay / 1000;
+        return render(year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                millisOfDay % 1000 * 1_000_000, buffer, position);
+    }
+
+    // 결과 String만 할당 (범위를 벗어난 연도의 부호와 추가 자릿수를 위해 여유를 둠)
+    public String format(LocalDateTime dateTime) {
+        byte[] buffer = new byte[maxLength + 8];
+        return toString(buffer, format(dateTime, buffer, 0));
+    }
+
+    private static String toString(byte[] buffer, int length) {
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int render(int year, int month, int day, int hour, int minute, int second, int nano,
+                       byte[] buffer, int offset) {
+        if (year < 1 || year > 9999) {
+            return renderFallback(LocalDateTime.of(year, month, day, hour, minute, second, nano), buffer, offset);
+        }
+        int p = offset;
+        for (int i = 0; i < codes.length; i++) {
+            switch (codes[i]) {
+                case LITERAL -> {
+                    byte[] literal = literals[i];
+                    System.arraycopy(literal, 0, buffer, p, literal.length);
+                    p += literal.length;
+                }
+                case YEAR -> {
+                    p = writePair(buffer, p, year / 100);
+                    p = writePair(buffer, p, year % 100);
+                }
+                case MONTH -> p = writePair(buffer, p, month);
+                case DAY -> p = writePair(buffer, p, day);
+                case HOUR -> p = writePair(buffer, p, hour);
+                case MINUTE -> p = writePair(buffer, p, minute);
+                case SECOND -> p = writePair(buffer, p, second);
+                case FRACTION -> p = writeFraction(buffer, p, nano, widths[i]);
+                default -> {
+                    if (nano != 0) {
+                        int digits = 9;
+                        int trimmed = nano;
+                        while (trimmed % 10 == 0) {
+                            trimmed /= 10;
+                            digits--;
+                        }
+                        buffer[p++] = '.';
+                        p = writeFraction(buffer, p, nano, digits);
+                    }
+                }
+            }
+        }
+        return p;
+    }
+
+    private int renderFallback(LocalDateTime dateTime, byte[] buffer, int offset) {
+        byte[] bytes;
+        if (!hasTime) {
+            bytes = fallback.format(dateTime.toLocalDate()).getBytes(StandardCharsets.UTF_8);
+        } else {
+            bytes = fallback.format(dateTime).getBytes(StandardCharsets.UTF_8);
+        }
+        System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+        return offset + bytes.length;
+    }
+
+    private static int writePair(byte[] buffer, int p, int value) {
+        buffer[p] = DIGIT_PAIRS[value * 2];
+        buffer[p + 1] = DIGIT_PAIRS[value * 2 + 1];
+        return p + 2;
+    }
+
+    // 나노초(9자리)의 앞쪽 digits자리
+    private static int writeFraction(byte[] buffer, int p, int nano, int digits) {
+        int value = nano;
+        for (int i = 9; i > digits; i--) {
+            value /= 10;
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[p + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return p + digits;
+    }
+
+    private static void compile(String pattern, List<int[]> codes, List<byte[]> literals) {
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                i = quoted(pattern, i, literal);
+                continue;
+            }
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                // DateTimeFormatter에서 '['와 ']'는 선택 구간, 나머지는 예약 문자이므로 리터럴로 쓰려면 따옴표로 감싸야 함
+                throw new IllegalArgumentException("선택 구간과 예약 문자([ ] { } #)는 지원하지 않습니다: '"
+                        + c + "' (" + pattern + ")");
+            }
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int run = 1;
+            while (i + run < pattern.length() && pattern.charAt(i + run) == c) {
+                run++;
+            }
+            int code = switch (c) {
+                case 'y', 'u' -> run == 4 ? YEAR : -1;
+                case 'M' -> run == 2 ? MONTH : -1;
+                case 'd' -> run == 2 ? DAY : -1;
+                case 'H' -> run == 2 ? HOUR : -1;
+                case 'm' -> run == 2 ? MINUTE : -1;
+                case 's' -> run == 2 ? SECOND : -1;
+                case 'S' -> run <= 9 ? FRACTION : -1;
+                default -> -1;
+            };
+            if (code < 0) {
+                throw new IllegalArgumentException("지원하지 않는 패턴 문자입니다: '"
+                        + pattern.substring(i, i + run) + "' (" + pattern + ")");
+            }
+            if (literal.length() > 0) {
+                codes.add(new int[] {LITERAL, 0});
+                literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                literal.setLength(0);
+            }
+            codes.add(new int[] {code, code == YEAR ? 4 : code == FRACTION ? run : 2});
+            literals.add(null);
+            i += run;
+        }
+        if (literal.length() > 0) {
+            codes.add(new int[] {LITERAL, 0});
+            literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * start의 작은따옴표부터 닫는 따옴표까지를 literal에 더하고 다음 위치를 반환합니다. (DateTimeFormatter.ofPattern과 같은 규칙)
+     * 따옴표 안의 ''는 작은따옴표 하나이며, 따옴표 밖의 ''도 작은따옴표 하나입니다. ('o''clock' -> o'clock)
+     */
+    private static int quoted(String pattern, int start, StringBuilder literal) {
+        int i = start + 1;
+        while (true) {
+            if (i >= pattern.length()) {
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다: " + pattern);
+            }
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    i += 2;
+                    literal.append('\'');
+                    continue;
+                }
+                if (i == start + 1) {
+                    literal.append('\'');
+                }
+                return i + 1;
+            }
+            literal.append(c);
+            i++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FastDateFormat[" + pattern + "]";
+    }
+}
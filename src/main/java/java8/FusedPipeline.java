@@ -0,0 +1,404 @@
+package java8;
+
+import static java.lang.constant.ConstantDescs.CD_List;
+import static java.lang.constant.ConstantDescs.CD_Long;
+import static java.lang.constant.ConstantDescs.CD_Object;
+import static java.lang.constant.ConstantDescs.CD_boolean;
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_long;
+import static java.lang.constant.ConstantDescs.CD_void;
+import static java.lang.constant.ConstantDescs.INIT_NAME;
+import static java.lang.constant.ConstantDescs.MTD_void;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.ClassHierarchyResolver;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.Label;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * filter/map/reduce 단계를 하나의 루프로 합친 클래스를 생성하여 실행하는 파이프라인
+ *
+ * 스트림의 각 단계는 Sink 객체로 연결되어 있어서, 여러 파이프라인이 같은 스트림 내부 코드를 공유하면
+ * 호출 지점이 메가모픽(megamorphic)이 되어 JIT가 람다를 인라인하지 못합니다.
+ * FusedPipeline은 단계 구성(단계 종류와 각 람다의 클래스)마다 ClassFile API로 전용 클래스를 만들고
+ * Lookup.defineHiddenClass로 정의합니다. 생성된 클래스의 호출 지점은 항상 같은 람다 클래스만 보므로
+ * JIT가 단계 전체를 하나의 촘촘한 루프로 인라인할 수 있습니다. 생성된 클래스는 구성별로 ShapeCache에 캐시됩니다.
+ *
+ * 사용 예:
+ *   FusedPipeline.Compiled&lt;Student, Long&gt; totalScore = FusedPipeline.&lt;Student&gt;start()
+ *           .filter(s -&gt; s.getAge() == 19)
+ *           .mapToInt(Student::getScore)
+ *           .sum();
+ *   long result = totalScore.apply(students);
+ */
+public final class FusedPipeline<S, T> {
+
+    private static final ClassDesc CD_KERNEL = ClassDesc.of(Kernel.class.getName());
+    private static final ClassDesc CD_OBJECT_ARRAY = CD_Object.arrayType();
+    private static final MethodTypeDesc MTD_APPLY_ARRAY = MethodTypeDesc.of(CD_Object, CD_OBJECT_ARRAY, CD_int, CD_int);
+    private static final MethodTypeDesc MTD_APPLY_LIST = MethodTypeDesc.of(CD_Object, CD_List, CD_int, CD_int);
+    private static final MethodTypeDesc MTD_GET = MethodTypeDesc.of(CD_Object, CD_int);
+    private static final MethodTypeDesc MTD_INIT = MethodTypeDesc.of(CD_void, CD_OBJECT_ARRAY);
+
+    // 생성된 apply 메서드의 지역 변수 슬롯
+    private static final int SLOT_THIS = 0;
+    private static final int SLOT_ELEMENTS = 1;
+    private static final int SLOT_FROM = 2;
+    private static final int SLOT_TO = 3;
+    private static final int SLOT_INDEX = 4;
+    private static final int SLOT_VALUE = 5;
+    private static final int SLOT_INT_VALUE = 6;
+    private static final int SLOT_LONG_RESULT = 7;
+    private static final int SLOT_OBJECT_RESULT = 9;
+
+    private static final ClassFile CLASS_FILE = ClassFile.of(ClassFile.ClassHierarchyResolverOption.of(
+            ClassHierarchyResolver.ofClassLoading(FusedPipeline.class.getClassLoader())));
+
+    // 단계 구성 -> 생성된 클래스의 생성자 (람다 클래스가 수집되면 함께 수집됨)
+    private static final ShapeCache<MethodHandle> KERNEL_CACHE = new ShapeCache<>();
+
+    private final List<Step> steps;
+
+    private FusedPipeline(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    public static <S> FusedPipeline<S, S> start() {
+        return new FusedPipeline<>(Collections.emptyList());
+    }
+
+    public FusedPipeline<S, T> filter(Predicate<? super T> predicate) {
+        return new FusedPipeline<>(append(steps, new Step(Kind.FILTER, predicate)));
+    }
+
+    public <R> FusedPipeline<S, R> map(Function<? super T, ? extends R> mapper) {
+        return new FusedPipeline<>(append(steps, new Step(Kind.MAP, mapper)));
+    }
+
+    public IntStage<S> mapToInt(ToIntFunction<? super T> mapper) {
+        return new IntStage<>(append(steps, new Step(Kind.MAP_TO_INT, mapper)));
+    }
+
+    public Compiled<S, Long> count() {
+        return compile(steps, new Step(Kind.COUNT, null));
+    }
+
+    public Compiled<S, T> reduce(T identity, BinaryOperator<T> accumulator) {
+        List<Step> withIdentity = append(steps, new Step(Kind.IDENTITY, identity));
+        return compile(withIdentity, new Step(Kind.REDUCE, accumulator));
+    }
+
+    // 각 요소를 consumer에 전달하고 전달한 요소 수를 반환
+    public Compiled<S, Long> forEach(Consumer<? super T> consumer) {
+        return compile(steps, new Step(Kind.FOR_EACH, consumer));
+    }
+
+    /**
+     * mapToInt 이후의 int 단계
+     */
+    public static final class IntStage<S> {
+        private final List<Step> steps;
+
+        private IntStage(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        public IntStage<S> filter(IntPredicate predicate) {
+            return new IntStage<>(append(steps, new Step(Kind.FILTER_INT, predicate)));
+        }
+
+        public IntStage<S> map(IntUnaryOperator mapper) {
+            return new IntStage<>(append(steps, new Step(Kind.MAP_INT, mapper)));
+        }
+
+        public Compiled<S, Long> sum() {
+            return compile(steps, new Step(Kind.SUM_INT, null));
+        }
+
+        public Compiled<S, Long> count() {
+            return compile(steps, new Step(Kind.COUNT, null));
+        }
+
+        public Compiled<S, Long> forEach(IntConsumer consumer) {
+            return compile(steps, new Step(Kind.FOR_EACH_INT, consumer));
+        }
+    }
+
+    /**
+     * 생성된 클래스에 단계 함수들을 담은 실행 가능한 파이프라인 (스레드 안전, 재사용 가능)
+     */
+    public static final class Compiled<S, R> {
+        private final Kernel kernel;
+
+        private Compiled(Kernel kernel) {
+            this.kernel = kernel;
+        }
+
+        // ArrayList 등 RandomAccess 리스트는 get(i)로 직접 순회하고, 그 밖의 리스트(LinkedList 등)는 배열로 복사한 뒤 실행
+        @SuppressWarnings("unchecked")
+        public R apply(List<? extends S> source) {
+            if (source instanceof RandomAccess) {
+                return (R) kernel.apply(source, 0, source.size());
+            }
+            return apply(source.toArray());
+        }
+
+        @SuppressWarnings("unchecked")
+        public R apply(Object[] source) {
+            return (R) kernel.apply(source, 0, source.length);
+        }
+
+        // 생성된 클래스 (같은 구성이 같은 클래스를 재사용하는지 확인용)
+        Class<?> kernelClass() {
+            return kernel.getClass();
+        }
+    }
+
+    /**
+     * 생성되는 클래스가 구현하는 인터페이스: elements[from, to)에 파이프라인을 적용합니다.
+     * 두 메서드는 요소를 읽는 방법(배열 접근, List.get)만 다르고 같은 루프로 생성됩니다.
+     */
+    interface Kernel {
+        Object apply(Object[] elements, int from, int to);
+
+        Object apply(List<?> elements, int from, int to);
+    }
+
+    private enum Kind {
+        FILTER(Predicate.class),
+        MAP(Function.class),
+        MAP_TO_INT(ToIntFunction.class),
+        FILTER_INT(IntPredicate.class),
+        MAP_INT(IntUnaryOperator.class),
+        IDENTITY(Object.class),
+        COUNT(null),
+        SUM_INT(null),
+        FOR_EACH(Consumer.class),
+        FOR_EACH_INT(IntConsumer.class),
+        REDUCE(BiFunction.class);
+
+        private final ClassDesc fieldType;
+
+        Kind(Class<?> fieldType) {
+            this.fieldType = fieldType == null ? null : ClassDesc.of(fieldType.getName());
+        }
+    }
+
+    private static final class Step {
+        private final Kind kind;
+        private final Object function;
+
+        Step(Kind kind, Object function) {
+            this.kind = kind;
+            this.function = function;
+        }
+    }
+
+    private static List<Step> append(List<Step> steps, Step step) {
+        List<Step> result = new ArrayList<>(steps.size() + 1);
+        result.addAll(steps);
+        result.add(step);
+        return Collections.unmodifiableList(result);
+    }
+
+    private static <S, R> Compiled<S, R> compile(List<Step> steps, Step terminal) {
+        List<Step> all = append(steps, terminal);
+
+        // 구성 키: 단계 종류와 람다 클래스 (같은 위치의 람다는 캡처 값이 달라도 클래스가 같음)
+        List<Object> shape = new ArrayList<>(all.size() * 2);
+        Object[] functions = new Object[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            Step step = all.get(i);
+            shape.add(step.kind);
+            shape.add(step.kind == Kind.IDENTITY || step.function == null ? null : step.function.getClass());
+            functions[i] = step.function;
+        }
+
+        MethodHandle constructor = KERNEL_CACHE.computeIfAbsent(shape, key -> defineKernel(all));
+        try {
+            return new Compiled<>((Kernel) constructor.invoke(functions));
+        } catch (Throwable e) {
+            throw new IllegalStateException("파이프라인 클래스를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private static MethodHandle defineKernel(List<Step> steps) {
+        ClassDesc thisClass = ClassDesc.of(FusedPipeline.class.getName() + "$Fused");
+        byte[] bytes = CLASS_FILE.build(thisClass, clb -> {
+            clb.withFlags(ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC);
+            clb.withSuperclass(CD_Object);
+            clb.withInterfaceSymbols(CD_KERNEL);
+
+            for (int i = 0; i < steps.size(); i++) {
+                ClassDesc fieldType = steps.get(i).kind.fieldType;
+                if (fieldType != null) {
+                    clb.withField(fieldName(i), fieldType, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+                }
+            }
+
+            // 생성자: 단계 함수 배열을 각 필드에 저장
+            clb.withMethodBody(INIT_NAME, MTD_INIT, ClassFile.ACC_PUBLIC, cob -> {
+                cob.aload(SLOT_THIS).invokespecial(CD_Object, INIT_NAME, MTD_void);
+                for (int i = 0; i < steps.size(); i++) {
+                    ClassDesc fieldType = steps.get(i).kind.fieldType;
+                    if (fieldType != null) {
+                        cob.aload(SLOT_THIS)
+                                .aload(1)
+                                .loadConstant(i)
+                                .aaload()
+                                .checkcast(fieldType)
+                                .putfield(thisClass, fieldName(i), fieldType);
+                    }
+                }
+                cob.return_();
+            });
+
+            clb.withMethodBody("apply", MTD_APPLY_ARRAY, ClassFile.ACC_PUBLIC,
+                    cob -> generateApply(cob, thisClass, steps, false));
+            clb.withMethodBody("apply", MTD_APPLY_LIST, ClassFile.ACC_PUBLIC,
+                    cob -> generateApply(cob, thisClass, steps, true));
+        });
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class))
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException("파이프라인 클래스를 정의할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * for (int i = from; i < to; i++) { value = elements[i]; 단계들...; 최종 연산 } 형태의 루프를 생성합니다.
+     * list가 true이면 elements[i] 대신 elements.get(i)로 읽습니다.
+     */
+    private static void generateApply(CodeBuilder cob, ClassDesc thisClass, List<Step> steps, boolean list) {
+        Label loop = cob.newLabel();
+        Label next = cob.newLabel();
+        Label end = cob.newLabel();
+
+        // 결과 변수 초기화
+        cob.lconst_0().lstore(SLOT_LONG_RESULT);
+        cob.aconst_null().astore(SLOT_OBJECT_RESULT);
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).kind == Kind.IDENTITY) {
+                loadField(cob, thisClass, i, Kind.IDENTITY);
+                cob.astore(SLOT_OBJECT_RESULT);
+            }
+        }
+
+        cob.iload(SLOT_FROM).istore(SLOT_INDEX);
+        cob.labelBinding(loop);
+        cob.iload(SLOT_INDEX).iload(SLOT_TO).if_icmpge(end);
+        cob.aload(SLOT_ELEMENTS).iload(SLOT_INDEX);
+        if (list) {
+            cob.invokeinterface(CD_List, "get", MTD_GET);
+        } else {
+            cob.aaload();
+        }
+        cob.astore(SLOT_VALUE);
+
+        for (int i = 0; i < steps.size(); i++) {
+            Kind kind = steps.get(i).kind;
+            switch (kind) {
+                case FILTER -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.aload(SLOT_VALUE)
+                            .invokeinterface(kind.fieldType, "test", MethodTypeDesc.of(CD_boolean, CD_Object))
+                            .ifeq(next);
+                }
+                case MAP -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.aload(SLOT_VALUE)
+                            .invokeinterface(kind.fieldType, "apply", MethodTypeDesc.of(CD_Object, CD_Object))
+                            .astore(SLOT_VALUE);
+                }
+                case MAP_TO_INT -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.aload(SLOT_VALUE)
+                            .invokeinterface(kind.fieldType, "applyAsInt", MethodTypeDesc.of(CD_int, CD_Object))
+                            .istore(SLOT_INT_VALUE);
+                }
+                case FILTER_INT -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.iload(SLOT_INT_VALUE)
+                            .invokeinterface(kind.fieldType, "test", MethodTypeDesc.of(CD_boolean, CD_int))
+                            .ifeq(next);
+                }
+                case MAP_INT -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.iload(SLOT_INT_VALUE)
+                            .invokeinterface(kind.fieldType, "applyAsInt", MethodTypeDesc.of(CD_int, CD_int))
+                            .istore(SLOT_INT_VALUE);
+                }
+                case IDENTITY -> {
+                    // 결과 변수 초기화에서 처리
+                }
+                case COUNT -> cob.lload(SLOT_LONG_RESULT).lconst_1().ladd().lstore(SLOT_LONG_RESULT);
+                case SUM_INT -> cob.lload(SLOT_LONG_RESULT)
+                        .iload(SLOT_INT_VALUE)
+                        .i2l()
+                        .ladd()
+                        .lstore(SLOT_LONG_RESULT);
+                case FOR_EACH -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.aload(SLOT_VALUE)
+                            .invokeinterface(kind.fieldType, "accept", MethodTypeDesc.of(CD_void, CD_Object));
+                    cob.lload(SLOT_LONG_RESULT).lconst_1().ladd().lstore(SLOT_LONG_RESULT);
+                }
+                case FOR_EACH_INT -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.iload(SLOT_INT_VALUE)
+                            .invokeinterface(kind.fieldType, "accept", MethodTypeDesc.of(CD_void, CD_int));
+                    cob.lload(SLOT_LONG_RESULT).lconst_1().ladd().lstore(SLOT_LONG_RESULT);
+                }
+                case REDUCE -> {
+                    loadField(cob, thisClass, i, kind);
+                    cob.aload(SLOT_OBJECT_RESULT)
+                            .aload(SLOT_VALUE)
+                            .invokeinterface(kind.fieldType, "apply",
+                                    MethodTypeDesc.of(CD_Object, CD_Object, CD_Object))
+                            .astore(SLOT_OBJECT_RESULT);
+                }
+            }
+        }
+
+        cob.labelBinding(next);
+        cob.iinc(SLOT_INDEX, 1).goto_(loop);
+
+        cob.labelBinding(end);
+        if (steps.get(steps.size() - 1).kind == Kind.REDUCE) {
+            cob.aload(SLOT_OBJECT_RESULT).areturn();
+        } else {
+            cob.lload(SLOT_LONG_RESULT)
+                    .invokestatic(CD_Long, "valueOf", MethodTypeDesc.of(CD_Long, CD_long))
+                    .areturn();
+        }
+    }
+
+    private static void loadField(CodeBuilder cob, ClassDesc thisClass, int index, Kind kind) {
+        cob.aload(SLOT_THIS).getfield(thisClass, fieldName(index), kind.fieldType);
+    }
+
+    private static String fieldName(int index) {
+        return "step" + index;
+    }
+}
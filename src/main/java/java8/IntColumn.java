@@ -0,0 +1,156 @@
+package java8;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 박싱 없이 int 값을 저장하는 가변 길이 컬럼
+ * 
+ * List&lt;Integer&gt;는 요소마다 Integer 객체를 만들기 때문에 대량의 데이터에서는 메모리 사용량이 크고
+ * 스트림 연산이 포인터를 따라다니는 비용에 좌우됩니다. IntColumn은 값을 int[]에 연속으로 저장하고,
+ * SIZED | SUBSIZED 스플리터레이터를 제공하여 병렬 스트림이 작업을 균등하게 분할할 수 있게 합니다.
+ */
+public class IntColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // 대부분의 JVM에서 만들 수 있는 가장 큰 배열 길이
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private int[] values;
+    private int size;
+
+    public IntColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        this.values = new int[initialCapacity];
+    }
+
+    // [startInclusive, endExclusive) 범위의 연속된 값으로 채운 컬럼 생성
+    public static IntColumn range(int startInclusive, int endExclusive) {
+        // int 차이는 넘칠 수 있으므로 long으로 계산 (예: range(Integer.MIN_VALUE, Integer.MAX_VALUE))
+        long length = Math.max(0, (long) endExclusive - startInclusive);
+        if (length > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "범위가 너무 큽니다: [" + startInclusive + ", " + endExclusive + ")");
+        }
+        IntColumn column = new IntColumn((int) length);
+        for (int i = startInclusive; i < endExclusive; i++) {
+            column.values[column.size++] = i;
+        }
+        return column;
+    }
+
+    public static IntColumn of(int... values) {
+        IntColumn column = new IntColumn(values.length);
+        column.addAll(values);
+        return column;
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    public void addAll(int... source) {
+        ensureCapacity(size + source.length);
+        System.arraycopy(source, 0, values, size, source.length);
+        size += source.length;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    public void set(int index, int value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < values.length) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // 값이 set/add로 바뀔 수 있으므로 IMMUTABLE은 보고하지 않습니다. 스트림 연산 중에는 컬럼을 수정하지 않아야 합니다.
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(values, 0, size, Spliterator.ORDERED);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    // 조건을 만족하는 요소 수 (순차, 박싱 없는 단순 루프)
+    public long count(IntPredicate predicate) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 조건을 만족하는 요소 수 (병렬, 요소별 객체 할당 없음)
+    public long parallelCount(IntPredicate predicate) {
+        return parallelStream().filter(predicate).count();
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public String toString() {
+        return "IntColumn{size=" + size + '}';
+    }
+}
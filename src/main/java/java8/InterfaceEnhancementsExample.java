@@ -1,12 +1,21 @@
 package java8;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Predicate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
+import java8.UserBatchPublisher.UserBatch;
+
 /**
  * Java 8 인터페이스 개선 기능 예제
  * 
@@ -36,7 +45,7 @@ public class InterfaceEnhancementsExample {
      * 예제 1: 기본 메서드(default method)
      */
     private static void defaultMethodExample() {
-        System.out.println("\n=== 기본 메서드 예제 ===");
+        AsyncConsole.println("\n=== 기본 메서드 예제 ===");
         
         // Vehicle 인터페이스의 기본 구현체
         Vehicle car = new Car("승용차", 5);
@@ -47,7 +56,7 @@ public class InterfaceEnhancementsExample {
         car.honk();
         car.stop();
         
-        System.out.println("\n" + bus.getType() + " 정보:");
+        AsyncConsole.println("\n" + bus.getType() + " 정보:");
         bus.displayInfo();
         
         // 오버라이드된 기본 메서드
@@ -60,41 +69,41 @@ public class InterfaceEnhancementsExample {
      * 예제 2: 정적 메서드(static method)
      */
     private static void staticMethodExample() {
-        System.out.println("\n=== 정적 메서드 예제 ===");
+        AsyncConsole.println("\n=== 정적 메서드 예제 ===");
         
         // 인터페이스의 정적 메서드 호출
         Vehicle.printVehicleSound();
         
         // 유틸리티 메서드 호출
         String vehicleInfo = Vehicle.getVehicleDescription("트럭", 2);
-        System.out.println(vehicleInfo);
+        AsyncConsole.println(vehicleInfo);
         
         // 타입 체크 유틸리티
         Vehicle car = new Car("SUV", 7);
         
         if (Vehicle.isPassengerVehicle(car)) {
-            System.out.println(car.getType() + "는 승객용 차량입니다.");
+            AsyncConsole.println(car.getType() + "는 승객용 차량입니다.");
         }
         
         // Calculator 인터페이스의 정적 메서드 사용
-        System.out.println("\n계산 유틸리티:");
-        System.out.println("10과 20의 합: " + Calculator.add(10, 20));
-        System.out.println("30과 15의 차: " + Calculator.subtract(30, 15));
-        System.out.println("7과 8의 곱: " + Calculator.multiply(7, 8));
-        System.out.println("100을 5로 나눈 값: " + Calculator.divide(100, 5));
+        AsyncConsole.println("\n계산 유틸리티:");
+        AsyncConsole.println("10과 20의 합: " + Calculator.add(10, 20));
+        AsyncConsole.println("30과 15의 차: " + Calculator.subtract(30, 15));
+        AsyncConsole.println("7과 8의 곱: " + Calculator.multiply(7, 8));
+        AsyncConsole.println("100을 5로 나눈 값: " + Calculator.divide(100, 5));
     }
     
     /**
      * 예제 3: 다중 상속과 기본 메서드 충돌 해결
      */
     private static void multipleInheritanceExample() {
-        System.out.println("\n=== 다중 상속과 기본 메서드 충돌 해결 예제 ===");
+        AsyncConsole.println("\n=== 다중 상속과 기본 메서드 충돌 해결 예제 ===");
         
         // 둘 이상의 인터페이스를 구현하고 기본 메서드 충돌을 해결하는 클래스
         SmartDevice tablet = new Tablet();
         
         // 각 인터페이스의 메서드 호출
-        System.out.println("=== 태블릿 기능 테스트 ===");
+        AsyncConsole.println("=== 태블릿 기능 테스트 ===");
         tablet.turnOn();
         tablet.connectToWifi();
         tablet.showScreen();
@@ -112,10 +121,10 @@ public class InterfaceEnhancementsExample {
      * 예제 4: 함수형 인터페이스
      */
     private static void functionalInterfaceExample() {
-        System.out.println("\n=== 함수형 인터페이스 예제 ===");
+        AsyncConsole.println("\n=== 함수형 인터페이스 예제 ===");
         
         // Math 작업 구현
-        System.out.println("=== 수학 연산 ===");
+        AsyncConsole.println("=== 수학 연산 ===");
         
         // 익명 클래스로 구현
         MathOperation addition = new MathOperation() {
@@ -136,13 +145,13 @@ public class InterfaceEnhancementsExample {
         int result3 = calculate(10, 5, multiplication);
         int result4 = calculate(10, 5, division);
         
-        System.out.println("10 + 5 = " + result1);
-        System.out.println("10 - 5 = " + result2);
-        System.out.println("10 * 5 = " + result3);
-        System.out.println("10 / 5 = " + result4);
+        AsyncConsole.println("10 + 5 = " + result1);
+        AsyncConsole.println("10 - 5 = " + result2);
+        AsyncConsole.println("10 * 5 = " + result3);
+        AsyncConsole.println("10 / 5 = " + result4);
         
         // StringProcessor 구현
-        System.out.println("\n=== 문자열 처리 ===");
+        AsyncConsole.println("\n=== 문자열 처리 ===");
         
         StringProcessor toUpperCase = s -> s.toUpperCase();
         StringProcessor toLowerCase = s -> s.toLowerCase();
@@ -154,17 +163,26 @@ public class InterfaceEnhancementsExample {
                 .andThen(s -> "결과: " + s);
         
         String text = "Java 8 Interface";
-        System.out.println("원본: " + text);
-        System.out.println("대문자: " + processString(text, toUpperCase));
-        System.out.println("소문자: " + processString(text, toLowerCase));
-        System.out.println("조합 처리: " + processString(text, combined));
+        AsyncConsole.println("원본: " + text);
+        AsyncConsole.println("대문자: " + processString(text, toUpperCase));
+        AsyncConsole.println("소문자: " + processString(text, toLowerCase));
+        AsyncConsole.println("조합 처리: " + processString(text, combined));
+        
+        // 같은 조합을 재사용 버퍼 위에서 처리 (대문자 변환과 입력 복사를 한 번의 순회로 합침)
+        StringPipeline pipeline = StringPipeline.builder()
+                .upperCase()
+                .suffix("!")
+                .prefix("결과: ")
+                .build();
+        StringProcessor buffered = pipeline::process;
+        AsyncConsole.println("버퍼 파이프라인 처리: " + processString(text, buffered));
     }
     
     /**
      * 예제 5: 실제 사용 사례
      */
     private static void realWorldExample() {
-        System.out.println("\n=== 실제 사용 사례 예제 ===");
+        AsyncConsole.println("\n=== 실제 사용 사례 예제 ===");
         
         // 사용자 목록
         List<User> users = Arrays.asList(
@@ -182,21 +200,73 @@ public class InterfaceEnhancementsExample {
         // 기본 필터 메서드와 조합(체이닝)
         UserFilter combinedFilter = adminFilter.or(ageFilter);
         
-        System.out.println("관리자 또는 30세 이상인 사용자:");
+        AsyncConsole.println("관리자 또는 30세 이상인 사용자:");
         filterAndPrintUsers(users, combinedFilter);
         
+        // 필터 트리 컴파일: 반복 평가하면서 관측한 선택도와 비용으로 조건 순서를 재조정
+        UserFilterCompiler.Compiled compiledFilter = UserFilterCompiler.compile(
+                UserFilter.getAgeFilter(30)
+                        .and(UserFilter.getAdminFilter().negate())
+                        .and(UserFilter.getManagerFilter().negate()));
+        long matched = 0;
+        for (int i = 0; i < 200_000; i++) {
+            if (compiledFilter.filter(users.get(i % users.size()))) {
+                matched++;
+            }
+        }
+        AsyncConsole.println("\n컴파일된 필터 일치 수: " + matched
+                + ", 평가 순서: " + compiledFilter.plan()
+                + ", 재최적화 횟수: " + compiledFilter.getReoptimizations());
+        
         // UserService 활용
         UserService userService = new UserServiceImpl(users);
         
-        System.out.println("\n모든 사용자:");
-        userService.getAllUsers().forEach(System.out::println);
-        
-        System.out.println("\n역할별 사용자 수:");
-        System.out.println(userService.countUsersByRole());
-        
-        System.out.println("\n수정 전 첫 번째 사용자: " + users.get(0));
+        AsyncConsole.println("\n모든 사용자:");
+        userService.getAllUsers().forEach(AsyncConsole::println);
+        
+        AsyncConsole.println("\n역할별 사용자 수:");
+        AsyncConsole.println(userService.countUsersByRole());
+        
+        // 변경 시점에 갱신되는 집계 (조회 시 전체 사용자를 훑지 않음)
+        User newUser = new User("정수진", "manager", 39);
+        userService.addUser(newUser);
+        userService.updateRole(users.get(1), "manager");
+        userService.updateAge(users.get(4), 26);
+        userService.removeUser(users.get(2));
+        AsyncConsole.println("변경 후 역할별 사용자 수: " + userService.countUsersByRole());
+        AsyncConsole.println("변경 후 평균 나이: " + userService.getAverageAge());
+        
+        // 배치 단위 스트리밍: 한 배치를 처리한 뒤에 다음 배치를 요청 (재개 토큰으로 이어받기 가능)
+        userService.streamUsers(UserFilter.getAgeFilter(26), 2, null, Runnable::run)
+                .subscribe(new Flow.Subscriber<>() {
+                    private Flow.Subscription subscription;
+                    
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(1);
+                    }
+                    
+                    @Override
+                    public void onNext(UserBatch batch) {
+                        AsyncConsole.println("배치 " + batch.users() + " (재개 토큰: " + batch.resumeToken() + ")");
+                        subscription.request(1);
+                    }
+                    
+                    @Override
+                    public void onError(Throwable throwable) {
+                        AsyncConsole.println("스트리밍 실패: " + throwable.getMessage());
+                    }
+                    
+                    @Override
+                    public void onComplete() {
+                        AsyncConsole.println("스트리밍 완료");
+                    }
+                });
+        
+        AsyncConsole.println("\n수정 전 첫 번째 사용자: " + users.get(0));
         userService.updateUsername(users.get(0), "홍길동2");
-        System.out.println("수정 후 첫 번째 사용자: " + users.get(0));
+        AsyncConsole.println("수정 후 첫 번째 사용자: " + users.get(0));
     }
     
     // 연산 실행 헬퍼 메서드
@@ -213,7 +283,7 @@ public class InterfaceEnhancementsExample {
     private static void filterAndPrintUsers(List<User> users, UserFilter filter) {
         users.stream()
                 .filter(filter::filter)
-                .forEach(System.out::println);
+                .forEach(AsyncConsole::println);
     }
     
     // === 인터페이스 선언 ===
@@ -228,25 +298,25 @@ public class InterfaceEnhancementsExample {
         
         // 기본 메서드 (구현 선택적)
         default void start() {
-            System.out.println(getType() + "가 출발합니다.");
+            AsyncConsole.println(getType() + "가 출발합니다.");
         }
         
         default void stop() {
-            System.out.println(getType() + "가 정지합니다.");
+            AsyncConsole.println(getType() + "가 정지합니다.");
         }
         
         default void honk() {
-            System.out.println("경적: 빵빵!");
+            AsyncConsole.println("경적: 빵빵!");
         }
         
         default void displayInfo() {
-            System.out.println("차량 유형: " + getType());
-            System.out.println("승객 수: " + getPassengerCount());
+            AsyncConsole.println("차량 유형: " + getType());
+            AsyncConsole.println("승객 수: " + getPassengerCount());
         }
         
         // 정적 메서드
         static void printVehicleSound() {
-            System.out.println("차량은 다양한 소리를 냅니다.");
+            AsyncConsole.println("차량은 다양한 소리를 냅니다.");
         }
         
         static String getVehicleDescription(String type, int passengerCount) {
@@ -291,15 +361,15 @@ public class InterfaceEnhancementsExample {
         void showScreen();
         
         default void turnOn() {
-            System.out.println("컴퓨터 전원을 켭니다.");
+            AsyncConsole.println("컴퓨터 전원을 켭니다.");
         }
         
         default void turnOff() {
-            System.out.println("컴퓨터 전원을 끕니다.");
+            AsyncConsole.println("컴퓨터 전원을 끕니다.");
         }
         
         default void charging() {
-            System.out.println("컴퓨터를 충전합니다.");
+            AsyncConsole.println("컴퓨터를 충전합니다.");
         }
     }
     
@@ -308,27 +378,27 @@ public class InterfaceEnhancementsExample {
         void text();
         
         default void turnOn() {
-            System.out.println("폰 전원을 켭니다.");
+            AsyncConsole.println("폰 전원을 켭니다.");
         }
         
         default void turnOff() {
-            System.out.println("폰 전원을 끕니다.");
+            AsyncConsole.println("폰 전원을 끕니다.");
         }
         
         default void charging() {
-            System.out.println("폰을 충전합니다.");
+            AsyncConsole.println("폰을 충전합니다.");
         }
     }
     
     interface Printable {
         default void print() {
-            System.out.println("인쇄를 시작합니다.");
+            AsyncConsole.println("인쇄를 시작합니다.");
         }
     }
     
     interface NetworkDevice {
         default void connectToWifi() {
-            System.out.println("Wi-Fi에 연결합니다.");
+            AsyncConsole.println("Wi-Fi에 연결합니다.");
         }
     }
     
@@ -336,19 +406,19 @@ public class InterfaceEnhancementsExample {
         // 모든 인터페이스로부터 상속받은 기본 메서드의 충돌을 해결해야 함
         @Override
         default void turnOn() {
-            System.out.println("스마트 기기 전원을 켭니다.");
+            AsyncConsole.println("스마트 기기 전원을 켭니다.");
             // Computer.super.turnOn(); // 부모 인터페이스의 기본 메서드를 호출할 수도 있음
         }
         
         @Override
         default void turnOff() {
-            System.out.println("스마트 기기 전원을 끕니다.");
+            AsyncConsole.println("스마트 기기 전원을 끕니다.");
         }
         
         // charging()은 여전히 충돌상태 - 구현 클래스에서 해결해야 함
         @Override
         default void charging() {
-            System.out.println("스마트 기기를 충전합니다.");
+            AsyncConsole.println("스마트 기기를 충전합니다.");
         }
     }
     
@@ -374,40 +444,65 @@ public class InterfaceEnhancementsExample {
      * 예제 5: 실제 사용 사례를 위한 인터페이스
      */
     @FunctionalInterface
-    interface UserFilter {
+    public interface UserFilter {
         boolean filter(User user);
         
-        // 기본 메서드를 통한 인터페이스 확장
+        // 기본 메서드를 통한 인터페이스 확장 (UserFilterCompiler가 해석할 수 있는 트리 노드를 생성)
         default UserFilter and(UserFilter other) {
-            return user -> this.filter(user) && other.filter(user);
+            return UserFilterCompiler.and(this, other);
         }
         
         default UserFilter or(UserFilter other) {
-            return user -> this.filter(user) || other.filter(user);
+            return UserFilterCompiler.or(this, other);
         }
         
         default UserFilter negate() {
-            return user -> !this.filter(user);
+            return UserFilterCompiler.negate(this);
         }
         
-        // 정적 팩토리 메서드
+        // 조건 트리를 하나의 평가 클래스로 컴파일하고 선택도에 따라 순서를 최적화
+        default UserFilter compile() {
+            return UserFilterCompiler.compile(this);
+        }
+        
+        // 부작용이 없고 다른 조건과 어떤 순서로 평가해도 안전한 조건임을 표시 (compile은 표시된 조건끼리만 순서를 바꿈)
+        static UserFilter reorderable(UserFilter filter) {
+            return UserFilterCompiler.reorderable(filter);
+        }
+        
+        // 정적 팩토리 메서드 (모두 순서에 무관한 조건)
         static UserFilter getAdminFilter() {
-            return user -> "admin".equals(user.getRole());
+            return reorderable(user -> "admin".equals(user.getRole()));
         }
         
         static UserFilter getManagerFilter() {
-            return user -> "manager".equals(user.getRole());
+            return reorderable(user -> "manager".equals(user.getRole()));
         }
         
         static UserFilter getAgeFilter(int minAge) {
-            return user -> user.getAge() >= minAge;
+            return reorderable(user -> user.getAge() >= minAge);
+        }
+        
+        static UserFilter getRoleFilter(String role) {
+            return reorderable(user -> role.equals(user.getRole()));
+        }
+        
+        static UserFilter all() {
+            return reorderable(user -> true);
         }
     }
     
-    interface UserService {
+    public interface UserService {
         List<User> getAllUsers();
         List<User> filterUsers(UserFilter filter);
         void updateUsername(User user, String newName);
+        void addUser(User user);
+        boolean removeUser(User user);
+        void updateRole(User user, String newRole);
+        void updateAge(User user, int newAge);
+        
+        // 필터에 맞는 사용자를 배치 단위로 내보내는 Publisher (resumeToken이 null이면 처음부터)
+        Flow.Publisher<UserBatch> streamUsers(UserFilter filter, int batchSize, String resumeToken, Executor executor);
         
         // 기본 메서드를 통한 추가 기능
         default Map<String, Long> countUsersByRole() {
@@ -470,47 +565,47 @@ public class InterfaceEnhancementsExample {
         // 기본 메서드 오버라이드
         @Override
         public void start() {
-            System.out.println("버스 출발 전 승객을 확인합니다.");
-            System.out.println(getType() + "가 출발합니다.");
+            AsyncConsole.println("버스 출발 전 승객을 확인합니다.");
+            AsyncConsole.println(getType() + "가 출발합니다.");
         }
         
         @Override
         public void honk() {
-            System.out.println("버스 경적: 빵빵빵!");
+            AsyncConsole.println("버스 경적: 빵빵빵!");
         }
     }
     
     static class Tablet implements SmartDevice {
         @Override
         public void process() {
-            System.out.println("태블릿이 작업을 처리합니다.");
+            AsyncConsole.println("태블릿이 작업을 처리합니다.");
         }
         
         @Override
         public void showScreen() {
-            System.out.println("태블릿 화면을 표시합니다.");
+            AsyncConsole.println("태블릿 화면을 표시합니다.");
         }
         
         @Override
         public void call() {
-            System.out.println("태블릿으로 전화를 겁니다.");
+            AsyncConsole.println("태블릿으로 전화를 겁니다.");
         }
         
         @Override
         public void text() {
-            System.out.println("태블릿으로 문자를 보냅니다.");
+            AsyncConsole.println("태블릿으로 문자를 보냅니다.");
         }
         
         // 충돌하는 메서드는 직접 구현해야 함
         @Override
         public void charging() {
-            System.out.println("태블릿을 USB-C로 충전합니다.");
+            AsyncConsole.println("태블릿을 USB-C로 충전합니다.");
             // 또는 부모 인터페이스 중 하나를 선택할 수도 있음
             // Computer.super.charging();
         }
     }
     
-    static class User {
+    public static class User {
         private String name;
         private String role;
         private int age;
@@ -533,10 +628,19 @@ public class InterfaceEnhancementsExample {
             return role;
         }
         
+        // 역할과 나이는 UserServiceImpl.updateRole/updateAge로만 변경 (집계와 어긋나지 않도록)
+        private void setRole(String role) {
+            this.role = role;
+        }
+        
         public int getAge() {
             return age;
         }
         
+        private void setAge(int age) {
+            this.age = age;
+        }
+        
         @Override
         public String toString() {
             return "User{" +
@@ -547,28 +651,136 @@ public class InterfaceEnhancementsExample {
         }
     }
     
-    static class UserServiceImpl implements UserService {
-        private List<User> users;
+    /**
+     * 역할별 사용자 수와 나이 합계를 변경 시점에 갱신하는 UserService 구현
+     * 
+     * countUsersByRole과 getAverageAge는 전체 사용자를 훑지 않고 미리 계산된 집계 스냅샷을 반환합니다.
+     * 변경 메서드는 this로 동기화되고, 집계 스냅샷은 불변 객체로 교체되므로 조회는 잠금 없이 수행됩니다.
+     * 역할과 나이는 반드시 updateRole/updateAge로 변경해야 집계가 맞게 유지됩니다.
+     * 사용자는 등록 순번으로 정렬된 ConcurrentSkipListMap에 보관되어, 조회와 스트리밍은 변경과 동시에 잠금 없이 진행됩니다.
+     */
+    public static class UserServiceImpl implements UserService {
+        // 등록 순번 -> 사용자 (스캔은 잠금 없이, 순번은 재개 토큰으로 사용)
+        private final ConcurrentSkipListMap<Long, User> usersBySequence = new ConcurrentSkipListMap<>();
+        private final Map<User, Long> sequences = new IdentityHashMap<>();
+        private long nextSequence;
+        private volatile Aggregates aggregates;
         
         public UserServiceImpl(List<User> users) {
-            this.users = users;
+            Map<String, Long> countsByRole = new HashMap<>();
+            long ageSum = 0;
+            for (User user : users) {
+                register(user);
+                countsByRole.merge(user.getRole(), 1L, Long::sum);
+                ageSum += user.getAge();
+            }
+            this.aggregates = new Aggregates(countsByRole, users.size(), ageSum);
         }
         
+        // 등록 순서대로 담은 읽기 전용 스냅샷 (수정할 수 없으며, 사용자 추가/삭제는 addUser/removeUser로)
         @Override
         public List<User> getAllUsers() {
-            return users;
+            return List.copyOf(usersBySequence.values());
         }
         
         @Override
         public List<User> filterUsers(UserFilter filter) {
-            return users.stream()
+            return usersBySequence.values().stream()
                     .filter(filter::filter)
                     .collect(Collectors.toList());
         }
         
+        @Override
+        public Flow.Publisher<UserBatch> streamUsers(UserFilter filter, int batchSize, String resumeToken,
+                                                      Executor executor) {
+            return new UserBatchPublisher(usersBySequence, filter, batchSize, resumeToken, executor);
+        }
+        
         @Override
         public void updateUsername(User user, String newName) {
             user.setName(newName);
         }
+        
+        @Override
+        public synchronized void addUser(User user) {
+            register(user);
+            aggregates = aggregates.with(user.getRole(), 1, user.getAge());
+        }
+        
+        @Override
+        public synchronized boolean removeUser(User user) {
+            Long sequence = sequences.remove(user);
+            if (sequence == null) {
+                return false;
+            }
+            usersBySequence.remove(sequence);
+            aggregates = aggregates.with(user.getRole(), -1, -user.getAge());
+            return true;
+        }
+        
+        // 등록되지 않은 사용자는 집계에 들어 있지 않으므로 값만 바꾸고 집계는 그대로 둠 (removeUser와 같이 예외 없음)
+        @Override
+        public synchronized void updateRole(User user, String newRole) {
+            if (sequences.containsKey(user)) {
+                aggregates = aggregates.with(user.getRole(), -1, -user.getAge())
+                        .with(newRole, 1, user.getAge());
+            }
+            user.setRole(newRole);
+        }
+        
+        @Override
+        public synchronized void updateAge(User user, int newAge) {
+            if (sequences.containsKey(user)) {
+                aggregates = aggregates.with(user.getRole(), 0, newAge - user.getAge());
+            }
+            user.setAge(newAge);
+        }
+        
+        private void register(User user) {
+            if (sequences.putIfAbsent(user, nextSequence) != null) {
+                throw new IllegalArgumentException("이미 등록된 사용자입니다: " + user);
+            }
+            usersBySequence.put(nextSequence++, user);
+        }
+        
+        // O(역할 수) - 스냅샷을 그대로 반환
+        @Override
+        public Map<String, Long> countUsersByRole() {
+            return aggregates.countsByRole;
+        }
+        
+        // O(1)
+        @Override
+        public double getAverageAge() {
+            Aggregates current = aggregates;
+            return current.userCount == 0 ? 0 : (double) current.ageSum / current.userCount;
+        }
+    }
+    
+    /**
+     * 역할별 사용자 수와 나이 합계의 불변 스냅샷
+     */
+    static final class Aggregates {
+        private final Map<String, Long> countsByRole;
+        private final long userCount;
+        private final long ageSum;
+        
+        Aggregates(Map<String, Long> countsByRole, long userCount, long ageSum) {
+            this.countsByRole = Collections.unmodifiableMap(countsByRole);
+            this.userCount = userCount;
+            this.ageSum = ageSum;
+        }
+        
+        // 한 역할의 사용자 수와 나이 합계를 변경한 새 스냅샷 (사용자가 없는 역할은 제거)
+        Aggregates with(String role, long countDelta, long ageDelta) {
+            Map<String, Long> counts = new HashMap<>(countsByRole);
+            long count = counts.getOrDefault(role, 0L) + countDelta;
+            if (count > 0) {
+                counts.put(role, count);
+            } else {
+                counts.remove(role);
+            }
+            return new Aggregates(counts, userCount + countDelta, ageSum + ageDelta);
+        }
     }
 }
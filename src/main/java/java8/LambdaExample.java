@@ -1,5 +1,6 @@
 package java8;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -9,6 +10,11 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.ocean.javarelease.support.AsyncConsole;
+
+import java25.VectorApiExample;
 
 /**
  * Java 8 람다 표현식(Lambda Expressions) 및 함수형 인터페이스 예제
@@ -18,6 +24,13 @@ import java.util.function.Supplier;
  */
 public class LambdaExample {
 
+    // 사용자명 -> 이름 디렉터리 (대량 적재 시 UserDirectory.load 사용)
+    private static final UserDirectory USER_DIRECTORY = new UserDirectory(16);
+
+    static {
+        USER_DIRECTORY.put("admin", "관리자");
+    }
+
     public static void main(String[] args) {
         // 예제 1: 기본 람다 표현식
         basicLambdaExample();
@@ -39,71 +52,86 @@ public class LambdaExample {
      * 예제 1: 기본 람다 표현식 사용법
      */
     private static void basicLambdaExample() {
-        System.out.println("\n=== 기본 람다 표현식 ===");
+        AsyncConsole.println("\n=== 기본 람다 표현식 ===");
         
         // 예제 1.1: 파라미터가 없는 람다 표현식
-        Runnable runnable = () -> System.out.println("Hello Lambda!");
+        Runnable runnable = () -> AsyncConsole.println("Hello Lambda!");
         runnable.run();
         
         // 예제 1.2: 한 개의 파라미터를 가진 람다 표현식 (괄호 생략 가능)
         List<String> names = Arrays.asList("김철수", "이영희", "박민수");
         
-        System.out.println("\n람다로 리스트 순회하기:");
-        names.forEach(name -> System.out.println(name));
+        AsyncConsole.println("\n람다로 리스트 순회하기:");
+        names.forEach(name -> AsyncConsole.println(name));
         
         // 예제 1.3: 여러 개의 파라미터를 가진 람다 표현식
         Calculator add = (a, b) -> a + b;
         Calculator subtract = (a, b) -> a - b;
         
-        System.out.println("\n람다로 계산하기:");
-        System.out.println("10 + 5 = " + add.calculate(10, 5));
-        System.out.println("10 - 5 = " + subtract.calculate(10, 5));
+        AsyncConsole.println("\n람다로 계산하기:");
+        AsyncConsole.println("10 + 5 = " + add.calculate(10, 5));
+        AsyncConsole.println("10 - 5 = " + subtract.calculate(10, 5));
         
         // 예제 1.4: 여러 문장이 있는 람다 표현식
         Calculator multiply = (a, b) -> {
-            System.out.println("곱하기 연산 수행 중...");
+            AsyncConsole.println("곱하기 연산 수행 중...");
             return a * b;
         };
         
-        System.out.println("\n10 * 5 = " + multiply.calculate(10, 5));
+        AsyncConsole.println("\n10 * 5 = " + multiply.calculate(10, 5));
         
         // 예제 1.5: 람다 표현식에서 변수 캡처
         int factor = 2;
         Calculator scale = (a, b) -> (a + b) * factor;
         
-        System.out.println("\n(10 + 5) * 2 = " + scale.calculate(10, 5));
+        AsyncConsole.println("\n(10 + 5) * 2 = " + scale.calculate(10, 5));
+        
+        // 예제 1.6: 배열 단위 일괄 계산
+        int[] left = IntStream.range(0, 1_000_000).toArray();
+        int[] right = IntStream.range(0, 1_000_000).map(i -> i * 2).toArray();
+        int[] result = new int[left.length];
+        
+        Calculator.add().calculateAll(left, right, result); // 벡터 연산
+        AsyncConsole.println("\n일괄 덧셈 결과 (마지막 요소): " + result[result.length - 1]);
+        
+        Calculator.scale(factor).calculateAll(left, right, result); // 벡터 연산
+        AsyncConsole.println("일괄 (a + b) * 2 결과 (마지막 요소): " + result[result.length - 1]);
+        
+        Calculator subtractLambda = (a, b) -> a - b;
+        subtractLambda.calculateAll(left, right, result); // 람다는 기본 구현(요소별 호출) 사용
+        AsyncConsole.println("람다 일괄 뺄셈 결과 (마지막 요소): " + result[result.length - 1]);
     }
     
     /**
      * 예제 2: 함수형 인터페이스와 Java의 내장 함수형 인터페이스 사용하기
      */
     private static void functionalInterfaceExample() {
-        System.out.println("\n=== 함수형 인터페이스 ===");
+        AsyncConsole.println("\n=== 함수형 인터페이스 ===");
         
         // Predicate<T>: T -> boolean
-        System.out.println("\nPredicate 예제:");
+        AsyncConsole.println("\nPredicate 예제:");
         Predicate<String> isLongString = s -> s.length() > 3;
         
-        System.out.println("'자바'는 길이가 3보다 긴가? " + isLongString.test("자바"));
-        System.out.println("'자바8'은 길이가 3보다 긴가? " + isLongString.test("자바8"));
+        AsyncConsole.println("'자바'는 길이가 3보다 긴가? " + isLongString.test("자바"));
+        AsyncConsole.println("'자바8'은 길이가 3보다 긴가? " + isLongString.test("자바8"));
         
         // Consumer<T>: T -> void
-        System.out.println("\nConsumer 예제:");
-        Consumer<String> printUpperCase = s -> System.out.println(s.toUpperCase());
+        AsyncConsole.println("\nConsumer 예제:");
+        Consumer<String> printUpperCase = s -> AsyncConsole.println(s.toUpperCase());
         
         printUpperCase.accept("hello lambda");
         
         // Consumer 체이닝
-        Consumer<String> printFirst = s -> System.out.print("첫 번째 출력: " + s);
-        Consumer<String> printSecond = s -> System.out.println(", 두 번째 출력: " + s + "!");
+        Consumer<String> printFirst = s -> AsyncConsole.print("첫 번째 출력: " + s);
+        Consumer<String> printSecond = s -> AsyncConsole.println(", 두 번째 출력: " + s + "!");
         
         printFirst.andThen(printSecond).accept("안녕하세요");
         
         // Function<T, R>: T -> R
-        System.out.println("\nFunction 예제:");
+        AsyncConsole.println("\nFunction 예제:");
         Function<String, Integer> stringToLength = s -> s.length();
         
-        System.out.println("'함수형 프로그래밍'의 길이: " + stringToLength.apply("함수형 프로그래밍"));
+        AsyncConsole.println("'함수형 프로그래밍'의 길이: " + stringToLength.apply("함수형 프로그래밍"));
         
         // Function 합성
         Function<Integer, Integer> multiply2 = i -> i * 2;
@@ -114,27 +142,38 @@ public class LambdaExample {
         // andThen: add1(multiply2(x))
         Function<Integer, Integer> multiply2ThenAdd1 = multiply2.andThen(add1);
         
-        System.out.println("(5 + 1) * 2 = " + add1ThenMultiply2.apply(5));
-        System.out.println("(5 * 2) + 1 = " + multiply2ThenAdd1.apply(5));
+        AsyncConsole.println("(5 + 1) * 2 = " + add1ThenMultiply2.apply(5));
+        AsyncConsole.println("(5 * 2) + 1 = " + multiply2ThenAdd1.apply(5));
+        
+        // 합성 함수 메모이제이션: 반복되는 입력은 캐시된 결과를 사용
+        Memoizer<Integer, Integer> memoized = Memoizer.builder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build(add1ThenMultiply2);
+        for (int i = 0; i < 100; i++) {
+            memoized.apply(i % 10);
+        }
+        AsyncConsole.println("메모이제이션 통계: " + memoized.stats()
+                + ", 적중률: " + memoized.stats().hitRate());
         
         // Supplier<T>: () -> T
-        System.out.println("\nSupplier 예제:");
+        AsyncConsole.println("\nSupplier 예제:");
         Supplier<Double> randomSupplier = () -> Math.random();
         
-        System.out.println("난수 생성: " + randomSupplier.get());
-        System.out.println("난수 생성: " + randomSupplier.get());
+        AsyncConsole.println("난수 생성: " + randomSupplier.get());
+        AsyncConsole.println("난수 생성: " + randomSupplier.get());
     }
     
     /**
      * 예제 3: 메서드 레퍼런스
      */
     private static void methodReferenceExample() {
-        System.out.println("\n=== 메서드 레퍼런스 ===");
+        AsyncConsole.println("\n=== 메서드 레퍼런스 ===");
         
         List<String> names = Arrays.asList("김철수", "이영희", "박민수", "정지영");
         
         // 정적 메서드 참조
-        System.out.println("\n정적 메서드 참조:");
+        AsyncConsole.println("\n정적 메서드 참조:");
         
         // 람다 표현식
         names.forEach(name -> StringUtils.printWithPrefix(name));
@@ -143,7 +182,7 @@ public class LambdaExample {
         names.forEach(StringUtils::printWithPrefix);
         
         // 인스턴스 메서드 참조
-        System.out.println("\n인스턴스 메서드 참조:");
+        AsyncConsole.println("\n인스턴스 메서드 참조:");
         StringUtils utils = new StringUtils("회원");
         
         // 람다 표현식
@@ -153,38 +192,38 @@ public class LambdaExample {
         names.forEach(utils::printWithCustomPrefix);
         
         // 생성자 레퍼런스
-        System.out.println("\n생성자 레퍼런스:");
+        AsyncConsole.println("\n생성자 레퍼런스:");
         
         // 람다 표현식
         Function<String, Person> personCreator1 = name -> new Person(name);
         Person person1 = personCreator1.apply("홍길동");
-        System.out.println("람다로 생성: " + person1.getName());
+        AsyncConsole.println("람다로 생성: " + person1.getName());
         
         // 생성자 레퍼런스로 변환
         Function<String, Person> personCreator2 = Person::new;
         Person person2 = personCreator2.apply("김영희");
-        System.out.println("생성자 레퍼런스로 생성: " + person2.getName());
+        AsyncConsole.println("생성자 레퍼런스로 생성: " + person2.getName());
         
         // 특정 객체의 인스턴스 메서드 참조
-        System.out.println("\n특정 타입의 인스턴스 메서드 참조:");
+        AsyncConsole.println("\n특정 타입의 인스턴스 메서드 참조:");
         
         List<String> words = Arrays.asList("사과", "바나나", "오렌지", "포도");
         
         // 람다 표현식
         words.sort((s1, s2) -> s1.compareTo(s2));
-        System.out.println("람다로 정렬: " + words);
+        AsyncConsole.println("람다로 정렬: " + words);
         
         // 메서드 레퍼런스로 변환
         words = Arrays.asList("사과", "바나나", "오렌지", "포도");
         words.sort(String::compareTo);
-        System.out.println("메서드 레퍼런스로 정렬: " + words);
+        AsyncConsole.println("메서드 레퍼런스로 정렬: " + words);
     }
     
     /**
      * 예제 4: 실전 람다 사용 예제
      */
     private static void practicalExample() {
-        System.out.println("\n=== 실전 람다 사용 예제 ===");
+        AsyncConsole.println("\n=== 실전 람다 사용 예제 ===");
         
         List<Employee> employees = Arrays.asList(
                 new Employee("김철수", "개발", 5000000),
@@ -195,14 +234,14 @@ public class LambdaExample {
         );
         
         // 예제 4.1: 부서별 직원 필터링
-        System.out.println("\n개발 부서 직원:");
+        AsyncConsole.println("\n개발 부서 직원:");
         filterEmployees(employees, e -> "개발".equals(e.getDepartment()));
         
-        System.out.println("\n급여가 5백만원 이상인 직원:");
+        AsyncConsole.println("\n급여가 5백만원 이상인 직원:");
         filterEmployees(employees, e -> e.getSalary() >= 5000000);
         
         // 예제 4.2: 급여 인상 적용
-        System.out.println("\n급여 인상 후:");
+        AsyncConsole.println("\n급여 인상 후:");
         List<Employee> updatedEmployees = updateSalaries(employees, e -> {
             if ("개발".equals(e.getDepartment())) {
                 return e.getSalary() * 1.1; // 개발 부서는 10% 인상
@@ -212,24 +251,53 @@ public class LambdaExample {
         });
         
         for (Employee e : updatedEmployees) {
-            System.out.println(e.getName() + " (" + e.getDepartment() + "): " + e.getSalary() + "원");
+            AsyncConsole.println(e.getName() + " (" + e.getDepartment() + "): " + e.getSalary() + "원");
         }
         
+        // 예제 4.2.1: 컬럼 테이블에서 급여를 제자리 갱신 (객체를 새로 만들지 않음)
+        AsyncConsole.println("\n컬럼 테이블 급여 인상 후:");
+        EmployeeTable employeeTable = EmployeeTable.from(employees);
+        
+        // 부서 규칙은 문자열 비교 대신 부서 코드로 조회
+        int developmentCode = employeeTable.departmentCode("개발");
+        employeeTable.updateSalaries(row -> row.getDepartmentCode() == developmentCode
+                ? row.getSalary() * 1.1
+                : row.getSalary() * 1.05);
+        
+        for (int row = 0; row < employeeTable.size(); row++) {
+            AsyncConsole.println(employeeTable.getName(row) + " (" + employeeTable.getDepartment(row) + "): "
+                    + employeeTable.getSalary(row) + "원");
+        }
+        
+        // 부서별 인상률 표를 한 번에 적용
+        employeeTable.applyRaise(java.util.Map.of("개발", 1.03), 1.02);
+        AsyncConsole.println("추가 인상 후 첫 번째 직원 급여: " + employeeTable.getSalary(0) + "원");
+        
         // 예제 4.3: 직원 정보를 다양한 형식으로 출력
-        System.out.println("\n다양한 형식으로 직원 정보 출력:");
+        AsyncConsole.println("\n다양한 형식으로 직원 정보 출력:");
         
         // 이름과 부서만 출력
-        System.out.println("이름과 부서:");
-        processEmployees(employees, e -> System.out.println(e.getName() + " - " + e.getDepartment()));
+        AsyncConsole.println("이름과 부서:");
+        processEmployees(employees, e -> AsyncConsole.println(e.getName() + " - " + e.getDepartment()));
         
         // 모든 정보 출력
-        System.out.println("\n모든 정보:");
+        AsyncConsole.println("\n모든 정보:");
         processEmployees(employees, e -> {
-            System.out.println("이름: " + e.getName());
-            System.out.println("부서: " + e.getDepartment());
-            System.out.println("급여: " + e.getSalary() + "원");
-            System.out.println("-----------------");
+            AsyncConsole.println("이름: " + e.getName());
+            AsyncConsole.println("부서: " + e.getDepartment());
+            AsyncConsole.println("급여: " + e.getSalary() + "원");
+            AsyncConsole.println("-----------------");
         });
+        
+        // 예제 4.4: 블로킹 I/O를 하는 Consumer를 가상 스레드로 나누어 실행 (입력 순서대로 완료 통지)
+        AsyncConsole.println("\n가상 스레드로 알림 전송:");
+        VirtualThreadFanOut fanOut = VirtualThreadFanOut.builder()
+                .batchSize(2)
+                .maxConcurrency(4)
+                .completion(VirtualThreadFanOut.Completion.ORDERED)
+                .build();
+        processEmployeesInParallel(employees, e -> sleep(100), fanOut,
+                e -> AsyncConsole.println(e.getName() + "에게 알림 전송 완료"));
     }
     
     /**
@@ -238,7 +306,7 @@ public class LambdaExample {
      * Java 8에서 도입된 Optional 클래스는 null을 보다 안전하게 처리하기 위한 컨테이너 클래스입니다.
      */
     private static void optionalExample() {
-        System.out.println("\n=== Optional 클래스 활용 ===");
+        AsyncConsole.println("\n=== Optional 클래스 활용 ===");
         
         // Optional 생성
         Optional<String> emptyOpt = Optional.empty();
@@ -246,42 +314,42 @@ public class LambdaExample {
         Optional<String> nullableOpt = Optional.ofNullable(null); // null일 수 있는 값
         
         // isPresent()를 사용한 값 존재 확인
-        System.out.println("emptyOpt에 값이 있는가? " + emptyOpt.isPresent());
-        System.out.println("nameOpt에 값이 있는가? " + nameOpt.isPresent());
+        AsyncConsole.println("emptyOpt에 값이 있는가? " + emptyOpt.isPresent());
+        AsyncConsole.println("nameOpt에 값이 있는가? " + nameOpt.isPresent());
         
         // ifPresent()를 사용한 조건부 실행
-        System.out.println("\nifPresent() 예제:");
-        emptyOpt.ifPresent(name -> System.out.println("이름: " + name)); // 실행 안 됨
-        nameOpt.ifPresent(name -> System.out.println("이름: " + name)); // "이름: 홍길동" 출력
+        AsyncConsole.println("\nifPresent() 예제:");
+        emptyOpt.ifPresent(name -> AsyncConsole.println("이름: " + name)); // 실행 안 됨
+        nameOpt.ifPresent(name -> AsyncConsole.println("이름: " + name)); // "이름: 홍길동" 출력
         
         // orElse(), orElseGet(), orElseThrow() 사용
-        System.out.println("\n기본값 설정 예제:");
+        AsyncConsole.println("\n기본값 설정 예제:");
         String name1 = emptyOpt.orElse("이름 없음");
-        System.out.println("orElse 결과: " + name1);
+        AsyncConsole.println("orElse 결과: " + name1);
         
         String name2 = emptyOpt.orElseGet(() -> "동적으로 생성된 이름");
-        System.out.println("orElseGet 결과: " + name2);
+        AsyncConsole.println("orElseGet 결과: " + name2);
         
         try {
             String name3 = emptyOpt.orElseThrow(() -> new NoSuchElementException("이름이 없습니다."));
         } catch (NoSuchElementException e) {
-            System.out.println("orElseThrow 결과: " + e.getMessage());
+            AsyncConsole.println("orElseThrow 결과: " + e.getMessage());
         }
         
         // map(), filter()를 사용한 변환 및 필터링
-        System.out.println("\n변환 및 필터링 예제:");
+        AsyncConsole.println("\n변환 및 필터링 예제:");
         
         Optional<String> upperNameOpt = nameOpt.map(String::toUpperCase);
-        System.out.println("대문자로 변환: " + upperNameOpt.orElse("없음"));
+        AsyncConsole.println("대문자로 변환: " + upperNameOpt.orElse("없음"));
         
         Optional<String> filteredNameOpt = nameOpt.filter(name -> name.length() > 4);
-        System.out.println("4글자 초과 이름? " + filteredNameOpt.isPresent());
+        AsyncConsole.println("4글자 초과 이름? " + filteredNameOpt.isPresent());
         
         // 실용적인 예제: 사용자 검색
-        System.out.println("\n사용자 검색 예제:");
+        AsyncConsole.println("\n사용자 검색 예제:");
         
         User user1 = findUserByUsername("admin").orElse(new User("guest", "Guest User"));
-        System.out.println("검색된 사용자: " + user1.getName());
+        AsyncConsole.println("검색된 사용자: " + user1.getName());
         
         Optional<User> userOpt = findUserByUsername("john");
         
@@ -291,14 +359,14 @@ public class LambdaExample {
                 .map(name -> name.toUpperCase())
                 .orElse("사용자를 찾을 수 없음");
                 
-        System.out.println("표시 이름: " + displayName);
+        AsyncConsole.println("표시 이름: " + displayName);
     }
     
     // 직원 필터링 헬퍼 메서드
     private static void filterEmployees(List<Employee> employees, Predicate<Employee> predicate) {
         for (Employee employee : employees) {
             if (predicate.test(employee)) {
-                System.out.println(employee.getName() + " (" + employee.getDepartment() + "): " + employee.getSalary() + "원");
+                AsyncConsole.println(employee.getName() + " (" + employee.getDepartment() + "): " + employee.getSalary() + "원");
             }
         }
     }
@@ -323,18 +391,102 @@ public class LambdaExample {
         }
     }
     
+    // 직원 처리 메서드 (가상 스레드 병렬 실행, 실패는 모아서 보고)
+    private static void processEmployeesInParallel(List<Employee> employees, Consumer<Employee> consumer,
+                                                   VirtualThreadFanOut fanOut, Consumer<Employee> onComplete) {
+        try {
+            fanOut.forEach(employees, consumer, onComplete);
+        } catch (VirtualThreadFanOut.FanOutException e) {
+            AsyncConsole.println(e.getMessage());
+            e.getFailures().forEach(failure ->
+                    AsyncConsole.println("- " + ((Employee) failure.item()).getName() + ": " + failure.cause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 블로킹 I/O 지연 시뮬레이션
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     // Optional 예제에 사용할 사용자 검색 메서드
     private static Optional<User> findUserByUsername(String username) {
-        if ("admin".equals(username)) {
-            return Optional.of(new User("admin", "관리자"));
-        }
-        return Optional.empty();
+        return USER_DIRECTORY.find(username).map(name -> new User(username, name));
     }
     
     // 함수형 인터페이스 (계산기)
     @FunctionalInterface
     interface Calculator {
         int calculate(int a, int b);
+        
+        // 배열 단위 일괄 계산: out[i] = calculate(a[i], b[i])
+        // 기본 구현은 요소마다 calculate를 호출하며, 내장 계산기는 벡터 연산으로 처리합니다.
+        default void calculateAll(int[] a, int[] b, int[] out) {
+            checkLengths(a, b, out);
+            for (int i = 0; i < out.length; i++) {
+                out[i] = calculate(a[i], b[i]);
+            }
+        }
+        
+        // 내장 계산기 (calculateAll이 VectorApiExample의 벡터 커널로 동작)
+        static Calculator add() {
+            return BatchCalculator.ADD;
+        }
+        
+        static Calculator subtract() {
+            return BatchCalculator.SUBTRACT;
+        }
+        
+        static Calculator multiply() {
+            return BatchCalculator.MULTIPLY;
+        }
+        
+        // (a + b) * factor
+        static Calculator scale(int factor) {
+            return new BatchCalculator((a, b) -> (a + b) * factor,
+                    (a, b, out) -> VectorApiExample.scale(a, b, factor, out));
+        }
+        
+        private static void checkLengths(int[] a, int[] b, int[] out) {
+            if (a.length != out.length || b.length != out.length) {
+                throw new IllegalArgumentException("배열 길이가 같아야 합니다: "
+                        + a.length + ", " + b.length + ", " + out.length);
+            }
+        }
+    }
+    
+    // 내장 계산기: 연산 선택은 계산기를 만들 때 한 번만 하고, 배열 전체를 연산 전용 커널 하나로 처리
+    private static final class BatchCalculator implements Calculator {
+        static final BatchCalculator ADD = new BatchCalculator((a, b) -> a + b, VectorApiExample::add);
+        static final BatchCalculator SUBTRACT = new BatchCalculator((a, b) -> a - b, VectorApiExample::sub);
+        static final BatchCalculator MULTIPLY = new BatchCalculator((a, b) -> a * b, VectorApiExample::mul);
+        
+        interface Kernel {
+            void apply(int[] a, int[] b, int[] out);
+        }
+        
+        private final Calculator scalar;
+        private final Kernel kernel;
+        
+        BatchCalculator(Calculator scalar, Kernel kernel) {
+            this.scalar = scalar;
+            this.kernel = kernel;
+        }
+        
+        @Override
+        public int calculate(int a, int b) {
+            return scalar.calculate(a, b);
+        }
+        
+        @Override
+        public void calculateAll(int[] a, int[] b, int[] out) {
+            kernel.apply(a, b, out);
+        }
     }
     
     // 메서드 레퍼런스 예제용 유틸리티 클래스
@@ -347,12 +499,12 @@ public class LambdaExample {
         
         // 정적 메서드
         public static void printWithPrefix(String text) {
-            System.out.println("사용자: " + text);
+            AsyncConsole.println("사용자: " + text);
         }
         
         // 인스턴스 메서드
         public void printWithCustomPrefix(String text) {
-            System.out.println(prefix + ": " + text);
+            AsyncConsole.println(prefix + ": " + text);
         }
     }
     
@@ -0,0 +1,154 @@
+package java8;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 박싱 없이 long 값을 저장하는 가변 길이 컬럼
+ * 
+ * List&lt;Long&gt;는 요소마다 Long 객체를 만들기 때문에 대량의 데이터에서는 메모리 사용량이 크고
+ * 스트림 연산이 포인터를 따라다니는 비용에 좌우됩니다. LongColumn은 값을 long[]에 연속으로 저장하고,
+ * SIZED | SUBSIZED 스플리터레이터를 제공하여 병렬 스트림이 작업을 균등하게 분할할 수 있게 합니다.
+ */
+public class LongColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private int size;
+
+    public LongColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongColumn(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        this.values = new long[initialCapacity];
+    }
+
+    // [startInclusive, endExclusive) 범위의 연속된 값으로 채운 컬럼 생성
+    public static LongColumn range(long startInclusive, long endExclusive) {
+        // long 차이도 넘칠 수 있으므로 (예: range(Long.MIN_VALUE, Long.MAX_VALUE)) 넘치면 음수가 되는 것으로 판별
+        long length = endExclusive > startInclusive ? endExclusive - startInclusive : 0;
+        if (length < 0 || length > IntColumn.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "범위가 너무 큽니다: [" + startInclusive + ", " + endExclusive + ")");
+        }
+        LongColumn column = new LongColumn((int) length);
+        for (long i = startInclusive; i < endExclusive; i++) {
+            column.values[column.size++] = i;
+        }
+        return column;
+    }
+
+    public static LongColumn of(long... values) {
+        LongColumn column = new LongColumn(values.length);
+        column.addAll(values);
+        return column;
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    public void addAll(long... source) {
+        ensureCapacity(size + source.length);
+        System.arraycopy(source, 0, values, size, source.length);
+        size += source.length;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    public void set(int index, long value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < values.length) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // 값이 set/add로 바뀔 수 있으므로 IMMUTABLE은 보고하지 않습니다. 스트림 연산 중에는 컬럼을 수정하지 않아야 합니다.
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(values, 0, size, Spliterator.ORDERED);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    // 조건을 만족하는 요소 수 (순차, 박싱 없는 단순 루프)
+    public long count(LongPredicate predicate) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 조건을 만족하는 요소 수 (병렬, 요소별 객체 할당 없음)
+    public long parallelCount(LongPredicate predicate) {
+        return parallelStream().filter(predicate).count();
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public String toString() {
+        return "LongColumn{size=" + size + '}';
+    }
+}
@@ -0,0 +1,473 @@
+package java8;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 함수 결과를 크기 제한이 있는 동시 캐시에 저장하는 메모이저 (W-TinyLFU 방식 교체 정책)
+ *
+ * 캐시는 작은 윈도(LRU, 전체의 1%)와 본 영역(SLRU: probation 20% / protected 80%)으로 나뉩니다.
+ * 새 항목은 윈도에 들어가고, 윈도에서 밀려난 후보는 본 영역의 가장 오래된 항목(희생자)과 접근 빈도를 비교하여
+ * 더 자주 쓰인 쪽만 남습니다. 빈도는 4비트 카운터 Count-Min 스케치로 근사하며, 표본이 일정 수 쌓이면 절반으로 줄여
+ * 오래된 인기도가 사라지도록 합니다. 한 번만 쓰이는 값이 대량으로 들어와도 자주 쓰이는 값이 밀려나지 않습니다.
+ *
+ * 값 계산은 키마다 한 번만 수행됩니다. 먼저 온 스레드가 계산 중 자리표시자를 putIfAbsent로 넣고 맵 밖에서 계산하며,
+ * 같은 키를 요청한 다른 스레드는 그 계산이 끝나기를 기다립니다. (ConcurrentHashMap.computeIfAbsent 안에서 계산하면
+ * 재귀 호출이 "Recursive update"로 실패하고, 느린 계산이 같은 버킷의 다른 키까지 막음)
+ * 따라서 함수 안에서 다른 키로 다시 apply를 호출할 수 있습니다. (예: 피보나치 수의 재귀 메모이제이션)
+ * 계산 중인 같은 키를 같은 스레드가 다시 요청하면 끝나지 않으므로 IllegalStateException을 던집니다.
+ * 계산이 예외로 끝나면 아무것도 캐시하지 않고, 기다리던 스레드는 직접 다시 계산합니다.
+ * 정책 갱신은 하나의 잠금으로 보호됩니다.
+ * 조회 적중 시에는 잠금을 기다리지 않고(tryLock) 잡을 수 있을 때만 접근을 기록하므로, 경합이 심하면 일부 접근 기록이 생략됩니다.
+ * null 결과는 캐시하지 않습니다.
+ *
+ * 사용 예:
+ *   Memoizer&lt;Integer, Integer&gt; cached = Memoizer.builder()
+ *           .maximumSize(10_000)
+ *           .expireAfterWrite(Duration.ofMinutes(5))
+ *           .build(multiply2.compose(add1));
+ *   cached.apply(5);
+ *   Memoizer.Stats stats = cached.stats();
+ */
+public final class Memoizer<K, V> implements Function<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int UNLINKED = -1;
+
+    private final Function<? super K, ? extends V> function;
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final long expireAfterWriteNanos;
+
+    // 아래 필드는 evictionLock으로 보호
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final Node<K, V>[] heads;
+    private final Node<K, V>[] tails;
+    private final long[] sizes = new long[3];
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Memoizer(Function<? super K, ? extends V> function, long maximumSize, long expireAfterWriteNanos) {
+        this.function = function;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.heads = new Node[3];
+        this.tails = new Node[3];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private long maximumSize = 10_000;
+        private long expireAfterWriteNanos = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("최대 크기는 1 이상이어야 합니다: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        // 값을 계산한 뒤 ttl이 지나면 다시 계산
+        public Builder expireAfterWrite(Duration ttl) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("만료 시간은 0보다 커야 합니다: " + ttl);
+            }
+            this.expireAfterWriteNanos = ttl.toNanos();
+            return this;
+        }
+
+        public <K, V> Memoizer<K, V> build(Function<? super K, ? extends V> function) {
+            return new Memoizer<>(function, maximumSize, expireAfterWriteNanos);
+        }
+
+        public <A, B, V> BiMemoizer<A, B, V> build(BiFunction<? super A, ? super B, ? extends V> function) {
+            return new BiMemoizer<>(new Memoizer<>(
+                    (Arguments<A, B> args) -> function.apply(args.first(), args.second()),
+                    maximumSize, expireAfterWriteNanos));
+        }
+    }
+
+    /**
+     * 두 인자 함수용 메모이저 (두 인자를 묶은 키로 Memoizer에 위임)
+     */
+    public static final class BiMemoizer<A, B, V> implements BiFunction<A, B, V> {
+        private final Memoizer<Arguments<A, B>, V> memoizer;
+
+        private BiMemoizer(Memoizer<Arguments<A, B>, V> memoizer) {
+            this.memoizer = memoizer;
+        }
+
+        @Override
+        public V apply(A first, B second) {
+            return memoizer.apply(new Arguments<>(first, second));
+        }
+
+        public Stats stats() {
+            return memoizer.stats();
+        }
+
+        public long size() {
+            return memoizer.size();
+        }
+
+        public void invalidateAll() {
+            memoizer.invalidateAll();
+        }
+    }
+
+    private record Arguments<A, B>(A first, B second) {
+    }
+
+    /**
+     * 적중/실패/교체/만료 횟수의 스냅샷
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+    }
+
+    @Override
+    public V apply(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("키는 null일 수 없습니다.");
+        }
+        while (true) {
+            Node<K, V> node = map.get(key);
+            if (node == null) {
+                Node<K, V> pending = new Node<>(key);
+                node = map.putIfAbsent(key, pending);
+                if (node == null) {
+                    return compute(pending);
+                }
+            }
+            // 다른 스레드가 계산 중이면 기다림
+            node.await();
+            V value = node.value;
+            if (value == null) {
+                // 계산이 실패했거나 결과가 null이어서 캐시되지 않음: 다시 시도
+                continue;
+            }
+            if (!node.isExpired(System.nanoTime())) {
+                hits.increment();
+                if (evictionLock.tryLock()) {
+                    try {
+                        onAccess(node);
+                    } finally {
+                        evictionLock.unlock();
+                    }
+                }
+                return value;
+            }
+            if (map.remove(key, node)) {
+                expirations.increment();
+                removeFromPolicy(node);
+            }
+        }
+    }
+
+    // 자리표시자를 넣은 스레드가 맵 밖에서 값을 계산
+    private V compute(Node<K, V> pending) {
+        V value;
+        try {
+            value = function.apply(pending.key);
+        } catch (RuntimeException | Error e) {
+            map.remove(pending.key, pending);
+            pending.complete(null, 0);
+            throw e;
+        }
+        misses.increment();
+        if (value == null) {
+            // 결과가 null이면 캐시하지 않음
+            map.remove(pending.key, pending);
+            pending.complete(null, 0);
+            return null;
+        }
+        pending.complete(value, expireAfterWriteNanos == Long.MAX_VALUE
+                ? Long.MAX_VALUE : System.nanoTime() + expireAfterWriteNanos);
+        evictionLock.lock();
+        try {
+            onAdd(pending);
+        } finally {
+            evictionLock.unlock();
+        }
+        return value;
+    }
+
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    public long size() {
+        return map.size();
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            for (int region = WINDOW; region <= PROTECTED; region++) {
+                for (Node<K, V> node = heads[region]; node != null; node = node.next) {
+                    node.region = UNLINKED;
+                }
+                heads[region] = null;
+                tails[region] = null;
+                sizes[region] = 0;
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeFromPolicy(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            if (node.region != UNLINKED) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // --- 아래 메서드는 evictionLock을 잡은 상태에서 호출 ---
+
+    private void onAdd(Node<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        // 정책에 넣기 전에 만료로 제거된 항목은 무시
+        if (map.get(node.key) != node) {
+            return;
+        }
+        linkLast(WINDOW, node);
+        while (sizes[WINDOW] > windowMaximum) {
+            Node<K, V> candidate = heads[WINDOW];
+            unlink(candidate);
+            linkLast(PROBATION, candidate);
+        }
+        while (sizes[WINDOW] + sizes[PROBATION] + sizes[PROTECTED] > maximumSize) {
+            evictOne();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        switch (node.region) {
+            case WINDOW, PROTECTED -> {
+                int region = node.region;
+                unlink(node);
+                linkLast(region, node);
+            }
+            case PROBATION -> {
+                unlink(node);
+                linkLast(PROTECTED, node);
+                if (sizes[PROTECTED] > protectedMaximum) {
+                    Node<K, V> demoted = heads[PROTECTED];
+                    unlink(demoted);
+                    linkLast(PROBATION, demoted);
+                }
+            }
+            default -> {
+                // 아직 정책에 들어가지 않았거나 이미 제거된 항목
+            }
+        }
+    }
+
+    /**
+     * probation의 가장 최근 항목(윈도에서 막 넘어온 후보)과 가장 오래된 항목(희생자) 중 빈도가 낮은 쪽을 제거합니다.
+     */
+    private void evictOne() {
+        Node<K, V> victim = heads[PROBATION];
+        Node<K, V> candidate = tails[PROBATION];
+        if (victim == null) {
+            victim = heads[PROTECTED] != null ? heads[PROTECTED] : heads[WINDOW];
+            candidate = victim;
+        }
+        Node<K, V> evicted = candidate;
+        if (candidate != victim
+                && sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+            evicted = victim;
+        }
+        unlink(evicted);
+        if (map.remove(evicted.key, evicted)) {
+            evictions.increment();
+        }
+    }
+
+    private void linkLast(int region, Node<K, V> node) {
+        node.region = region;
+        node.prev = tails[region];
+        node.next = null;
+        if (tails[region] == null) {
+            heads[region] = node;
+        } else {
+            tails[region].next = node;
+        }
+        tails[region] = node;
+        sizes[region]++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        int region = node.region;
+        if (node.prev == null) {
+            heads[region] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[region] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.region = UNLINKED;
+        sizes[region]--;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        // 계산이 끝나기 전에는 null (done을 쓰기 전에 기록하므로 done을 읽은 뒤에 읽음)
+        V value;
+        long expiresAt;
+        volatile boolean done;
+        // 계산 중인 스레드 (같은 스레드가 같은 키를 다시 요청하는지 확인)
+        Thread owner;
+        // 아래 필드는 evictionLock으로 보호
+        int region = UNLINKED;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        // 현재 스레드가 값을 계산할 자리표시자
+        Node(K key) {
+            this.key = key;
+            this.owner = Thread.currentThread();
+        }
+
+        synchronized void complete(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.owner = null;
+            this.done = true;
+            notifyAll();
+        }
+
+        void await() {
+            if (done) {
+                return;
+            }
+            if (owner == Thread.currentThread()) {
+                throw new IllegalStateException("계산 중인 키의 값을 같은 계산 안에서 다시 요청했습니다: " + key);
+            }
+            boolean interrupted = false;
+            synchronized (this) {
+                while (!done) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * 4비트 카운터 16개를 long 하나에 담은 Count-Min 스케치 (evictionLock으로 보호)
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0x97CB3127L, 0xB492B66FL, 0x9AE16A3BL, 0xC2B2AE35L
+        };
+        private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+        private final long[] table;
+        private final int sampleLimit;
+        private int samples;
+
+        FrequencySketch(long maximumSize) {
+            int size = (int) Math.min(1 << 26, Math.max(8, Long.highestOneBit(maximumSize - 1) << 1));
+            this.table = new long[size];
+            this.sampleLimit = (int) Math.min(Integer.MAX_VALUE, 10 * maximumSize);
+        }
+
+        void increment(int hashCode) {
+            int hash = spread(hashCode);
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterShift(hash, i);
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++samples >= sampleLimit) {
+                reset();
+            }
+        }
+
+        int frequency(int hashCode) {
+            int hash = spread(hashCode);
+            int frequency = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> counterShift(hash, i)) & 0xF));
+            }
+            return frequency;
+        }
+
+        // 모든 카운터를 절반으로 줄임 (오래된 빈도 감쇠)
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            samples /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+
+        private static int counterShift(int hash, int row) {
+            return (((hash >>> (row << 3)) & 0xF)) << 2;
+        }
+
+        private static int spread(int hashCode) {
+            int h = hashCode * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package java8;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 작업 부하(workload)별로 분리된 ForkJoinPool에서 병렬 스트림을 실행하는 기능
+ * 
+ * parallelStream()은 기본적으로 JVM 전체가 공유하는 공통 풀(ForkJoinPool.commonPool)에서 실행되므로,
+ * 하나의 무거운 분석 요청이 다른 모든 병렬 작업을 굶주리게 할 수 있습니다.
+ * ForkJoinPool 작업 안에서 시작한 병렬 스트림은 그 풀에서 실행된다는 점을 이용하여,
+ * 이름 붙은 작업 부하마다 병렬도가 제한된 풀을 두고, 동시에 실행할 수 있는 파이프라인 수를 넘으면 요청을 거절합니다.
+ */
+public class ParallelExecution implements AutoCloseable {
+
+    private final Map<String, Workload> workloads = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 부하 등록 (풀이 포화 상태이면 기다리지 않고 즉시 거절)
+     */
+    public ParallelExecution register(String name, int parallelism, int maxInFlight) {
+        return register(name, parallelism, maxInFlight, Duration.ZERO);
+    }
+
+    /**
+     * 작업 부하 등록
+     * 
+     * @param parallelism       풀의 병렬도 (보상 스레드를 만들지 않으므로 최대 스레드 수이기도 함)
+     * @param maxInFlight       동시에 실행할 수 있는 파이프라인 수
+     * @param admissionTimeout  실행 중인 파이프라인이 maxInFlight개일 때 자리가 날 때까지 기다릴 시간
+     */
+    public ParallelExecution register(String name, int parallelism, int maxInFlight, Duration admissionTimeout) {
+        if (parallelism <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("병렬도와 동시 실행 수는 1 이상이어야 합니다: "
+                    + parallelism + ", " + maxInFlight);
+        }
+        Workload workload = new Workload(name, parallelism, maxInFlight, admissionTimeout);
+        if (workloads.putIfAbsent(name, workload) != null) {
+            workload.pool.shutdown();
+            throw new IllegalStateException("이미 등록된 작업 부하입니다: " + name);
+        }
+        return this;
+    }
+
+    /**
+     * 작업 부하의 전용 풀에서 파이프라인을 실행하고 결과를 반환합니다.
+     * 파이프라인 안의 parallelStream()은 공통 풀 대신 전용 풀을 사용합니다.
+     * 
+     * @throws RejectedExecutionException 풀이 포화 상태여서 제한 시간 안에 실행할 수 없는 경우
+     */
+    public <T> T execute(String name, Supplier<T> pipeline) {
+        Workload workload = workload(name);
+        workload.admit();
+        try {
+            return workload.pool.invoke(ForkJoinTask.adapt(pipeline::get));
+        } finally {
+            workload.inFlight.release();
+            workload.completed.increment();
+        }
+    }
+
+    public Metrics metrics(String name) {
+        return workload(name).metrics();
+    }
+
+    // 등록 순서와 무관하게 이름순으로 정렬된 전체 지표
+    public Map<String, Metrics> metrics() {
+        Map<String, Metrics> result = new LinkedHashMap<>();
+        workloads.keySet().stream().sorted().forEach(name -> result.put(name, workloads.get(name).metrics()));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        workloads.values().forEach(workload -> workload.pool.shutdown());
+        for (Workload workload : workloads.values()) {
+            try {
+                if (!workload.pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                    workload.pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workload.pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Workload workload(String name) {
+        Workload workload = workloads.get(name);
+        if (workload == null) {
+            throw new NoSuchElementException("등록되지 않은 작업 부하입니다: " + name);
+        }
+        return workload;
+    }
+
+    private static class Workload {
+        private final String name;
+        private final int maxInFlight;
+        private final Duration admissionTimeout;
+        private final ForkJoinPool pool;
+        private final Semaphore inFlight;
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        Workload(String name, int parallelism, int maxInFlight, Duration admissionTimeout) {
+            this.name = name;
+            this.maxInFlight = maxInFlight;
+            this.admissionTimeout = admissionTimeout;
+            this.inFlight = new Semaphore(maxInFlight);
+            // 최대 풀 크기를 병렬도로 제한하고, 한도에 도달해도 예외 대신 기존 스레드로 계속 진행
+            this.pool = new ForkJoinPool(parallelism, this::newThread, null, false,
+                    0, parallelism, 1, pool -> true, 60, TimeUnit.SECONDS);
+        }
+
+        private ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            // getPoolIndex()는 스레드가 풀에 등록된 뒤에야 정해지므로 팩토리에서 직접 번호를 매김
+            thread.setName(name + "-worker-" + threadNumber.getAndIncrement());
+            return thread;
+        }
+
+        void admit() {
+            boolean admitted;
+            try {
+                admitted = admissionTimeout.isZero()
+                        ? inFlight.tryAcquire()
+                        : inFlight.tryAcquire(admissionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                admitted = false;
+            }
+            if (!admitted) {
+                rejected.increment();
+                throw new RejectedExecutionException("작업 부하 '" + name + "'가 포화 상태입니다 (동시 실행 "
+                        + maxInFlight + "개)");
+            }
+        }
+
+        Metrics metrics() {
+            return new Metrics(name, pool.getParallelism(), pool.getPoolSize(), pool.getActiveThreadCount(),
+                    pool.getQueuedTaskCount(), pool.getQueuedSubmissionCount(), pool.getStealCount(),
+                    maxInFlight - inFlight.availablePermits(), completed.sum(), rejected.sum());
+        }
+    }
+
+    /**
+     * 작업 부하 하나의 풀 상태와 처리 통계
+     */
+    public static class Metrics {
+        private final String name;
+        private final int parallelism;
+        private final int poolSize;
+        private final int activeThreads;
+        private final long queuedTasks;
+        private final int queuedSubmissions;
+        private final long steals;
+        private final int inFlight;
+        private final long completed;
+        private final long rejected;
+
+        Metrics(String name, int parallelism, int poolSize, int activeThreads, long queuedTasks,
+                int queuedSubmissions, long steals, int inFlight, long completed, long rejected) {
+            this.name = name;
+            this.parallelism = parallelism;
+            this.poolSize = poolSize;
+            this.activeThreads = activeThreads;
+            this.queuedTasks = queuedTasks;
+            this.queuedSubmissions = queuedSubmissions;
+            this.steals = steals;
+            this.inFlight = inFlight;
+            this.completed = completed;
+            this.rejected = rejected;
+        }
+
+        public String getName() { return name; }
+        public int getParallelism() { return parallelism; }
+        public int getPoolSize() { return poolSize; }
+        public int getActiveThreads() { return activeThreads; }
+        // 워커 큐에 쌓인 작업 수 (큐 깊이)
+        public long getQueuedTasks() { return queuedTasks; }
+        // 아직 워커가 가져가지 않은 외부 제출 수
+        public int getQueuedSubmissions() { return queuedSubmissions; }
+        // 다른 워커의 큐에서 훔쳐 온 작업 수
+        public long getSteals() { return steals; }
+        public int getInFlight() { return inFlight; }
+        // 실행이 끝난 파이프라인 수 (예외로 끝난 경우 포함)
+        public long getCompleted() { return completed; }
+        public long getRejected() { return rejected; }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                    "name='" + name + '\'' +
+                    ", parallelism=" + parallelism +
+                    ", poolSize=" + poolSize +
+                    ", activeThreads=" + activeThreads +
+                    ", queuedTasks=" + queuedTasks +
+                    ", queuedSubmissions=" + queuedSubmissions +
+                    ", steals=" + steals +
+                    ", inFlight=" + inFlight +
+                    ", completed=" + completed +
+                    ", rejected=" + rejected +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * 제품 카탈로그를 컬럼 단위로 저장하는 테이블
+ * 
+ * 카테고리는 사전 인코딩(dictionary encoding)하여 int 코드로 저장하고, 가격은 int[] 컬럼에 저장합니다.
+ * groupingBy처럼 행마다 해시 맵을 조회하고 Double을 박싱하는 대신, 카테고리 코드를 배열 인덱스로 사용하여
+ * 한 번의 순회로 카테고리별 개수 · 합계 · 평균 · 최솟값 · 최댓값을 계산합니다.
+ */
+public class ProductTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // 병렬 집계 시 스레드별 부분 집계를 만들 최소 행 수
+    private static final int MIN_ROWS_PER_CHUNK = 1 << 16;
+
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+
+    private String[] names;
+    private int[] categoryColumn;
+    private int[] priceColumn;
+    private int size;
+
+    public ProductTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ProductTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다: " + initialCapacity);
+        }
+        this.names = new String[initialCapacity];
+        this.categoryColumn = new int[initialCapacity];
+        this.priceColumn = new int[initialCapacity];
+    }
+
+    public static ProductTable from(List<StreamApiExample.Product> products) {
+        ProductTable table = new ProductTable(products.size());
+        for (StreamApiExample.Product product : products) {
+            table.add(product.getName(), product.getCategory(), product.getPrice());
+        }
+        return table;
+    }
+
+    public void add(String name, String category, int price) {
+        Objects.requireNonNull(category, "category");
+        if (size == priceColumn.length) {
+            grow();
+        }
+        names[size] = name;
+        categoryColumn[size] = encode(category);
+        priceColumn[size] = price;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int row) {
+        Objects.checkIndex(row, size);
+        return names[row];
+    }
+
+    public String getCategory(int row) {
+        Objects.checkIndex(row, size);
+        return categories.get(categoryColumn[row]);
+    }
+
+    public int getPrice(int row) {
+        Objects.checkIndex(row, size);
+        return priceColumn[row];
+    }
+
+    // 사전에 등록된 카테고리 수
+    public int categoryCount() {
+        return categories.size();
+    }
+
+    /**
+     * 카테고리별 집계 (순차, 한 번의 순회)
+     */
+    public Map<String, CategoryStats> groupByCategory() {
+        Aggregates aggregates = new Aggregates(categories.size());
+        aggregates.accumulate(categoryColumn, priceColumn, 0, size);
+        return aggregates.toMap(categories);
+    }
+
+    /**
+     * 카테고리별 집계 (병렬)
+     * 
+     * 행 범위를 청크로 나누어 스레드마다 부분 집계를 만든 뒤 마지막에 병합합니다.
+     * 공유 상태에 대한 경합이 없으므로 코어 수에 비례하여 확장됩니다.
+     */
+    public Map<String, CategoryStats> parallelGroupByCategory() {
+        int groups = categories.size();
+        int chunkCount = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors() * 4,
+                size / MIN_ROWS_PER_CHUNK));
+        int chunkSize = (size + chunkCount - 1) / Math.max(1, chunkCount);
+
+        // 스트림 연산 중 필드가 교체되지 않도록 지역 변수로 고정
+        int[] codes = categoryColumn;
+        int[] prices = priceColumn;
+        int rows = size;
+
+        Aggregates merged = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> {
+                    Aggregates partial = new Aggregates(groups);
+                    int from = chunk * chunkSize;
+                    partial.accumulate(codes, prices, from, Math.min(rows, from + chunkSize));
+                    return partial;
+                })
+                .reduce(Aggregates::merge)
+                .orElseGet(() -> new Aggregates(groups));
+        return merged.toMap(categories);
+    }
+
+    private int encode(String category) {
+        Integer code = categoryCodes.get(category);
+        if (code == null) {
+            code = categories.size();
+            categoryCodes.put(category, code);
+            categories.add(category);
+        }
+        return code;
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, priceColumn.length + (priceColumn.length >> 1));
+        names = Arrays.copyOf(names, newCapacity);
+        categoryColumn = Arrays.copyOf(categoryColumn, newCapacity);
+        priceColumn = Arrays.copyOf(priceColumn, newCapacity);
+    }
+
+    // 카테고리 코드를 인덱스로 하는 부분 집계
+    private static class Aggregates {
+        private final long[] counts;
+        private final long[] sums;
+        private final int[] mins;
+        private final int[] maxs;
+
+        Aggregates(int groups) {
+            counts = new long[groups];
+            sums = new long[groups];
+            mins = new int[groups];
+            maxs = new int[groups];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+        }
+
+        void accumulate(int[] codes, int[] prices, int from, int to) {
+            for (int row = from; row < to; row++) {
+                int code = codes[row];
+                int price = prices[row];
+                counts[code]++;
+                sums[code] += price;
+                if (price < mins[code]) {
+                    mins[code] = price;
+                }
+                if (price > maxs[code]) {
+                    maxs[code] = price;
+                }
+            }
+        }
+
+        Aggregates merge(Aggregates other) {
+            for (int code = 0; code < counts.length; code++) {
+                counts[code] += other.counts[code];
+                sums[code] += other.sums[code];
+                mins[code] = Math.min(mins[code], other.mins[code]);
+                maxs[code] = Math.max(maxs[code], other.maxs[code]);
+            }
+            return this;
+        }
+
+        Map<String, CategoryStats> toMap(List<String> categories) {
+            Map<String, CategoryStats> result = new LinkedHashMap<>();
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    result.put(categories.get(code),
+                            new CategoryStats(counts[code], sums[code], mins[code], maxs[code]));
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 카테고리 하나의 집계 결과
+     */
+    public static class CategoryStats {
+        private final long count;
+        private final long sum;
+        private final int min;
+        private final int max;
+
+        public CategoryStats(long count, long sum, int min, int max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() { return count; }
+        public long getSum() { return sum; }
+        public int getMin() { return min; }
+        public int getMax() { return max; }
+        public double getAverage() { return count == 0 ? 0 : (double) sum / count; }
+
+        @Override
+        public String toString() {
+            return "CategoryStats{" +
+                    "count=" + count +
+                    ", sum=" + sum +
+                    ", avg=" + Math.round(getAverage()) +
+                    ", min=" + min +
+                    ", max=" + max +
+                    '}';
+        }
+    }
+}
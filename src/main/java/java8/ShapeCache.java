@@ -0,0 +1,75 @@
+package java8;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 구성 키(단계 종류와 람다 클래스의 목록)별로 생성된 클래스를 캐시하는 저장소
+ *
+ * 정적 Map에 람다 Class를 키로 넣으면 그 람다 클래스와 클래스 로더가 영원히 수집되지 않습니다.
+ * (Spring devtools의 재시작 클래스 로더나 요청마다 만들어지는 람다에서 누수)
+ * ShapeCache는 키에 들어 있는 클래스 중 가장 하위 클래스 로더의 클래스(기준 클래스)에 ClassValue로 항목을 붙여 두므로,
+ * 그 클래스가 수집되면 항목과 생성된 클래스도 함께 수집됩니다.
+ * 이렇게 하려면 나머지 클래스가 모두 기준 클래스 로더 자신이나 그 상위 로더에 속해야 합니다. 같은 부모 아래의
+ * 형제 로더(웹 애플리케이션별 로더 등)에서 온 클래스가 섞여 있으면 항목이 그 로더를 붙잡게 되므로, 이때는 캐시하지 않고
+ * 매번 새로 만듭니다. 키에 클래스가 없으면 (단계 종류만 있는 경우) 일반 Map에 보관합니다.
+ */
+final class ShapeCache<V> {
+
+    private final Map<List<Object>, V> unanchored = new ConcurrentHashMap<>();
+    private final ClassValue<Map<List<Object>, V>> anchored = new ClassValue<>() {
+        @Override
+        protected Map<List<Object>, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    V computeIfAbsent(List<Object> shape, Function<? super List<Object>, ? extends V> factory) {
+        Class<?> anchor = null;
+        int anchorDepth = -1;
+        for (Object part : shape) {
+            if (part instanceof Class<?> type) {
+                int depth = depth(type.getClassLoader());
+                if (depth > anchorDepth) {
+                    anchor = type;
+                    anchorDepth = depth;
+                }
+            }
+        }
+        if (anchor == null) {
+            return unanchored.computeIfAbsent(Collections.unmodifiableList(shape), factory);
+        }
+        ClassLoader anchorLoader = anchor.getClassLoader();
+        for (Object part : shape) {
+            if (part instanceof Class<?> type && !isAncestorOrSelf(type.getClassLoader(), anchorLoader)) {
+                return factory.apply(shape);
+            }
+        }
+        return anchored.get(anchor).computeIfAbsent(Collections.unmodifiableList(shape), factory);
+    }
+
+    // loader가 부트스트랩 로더이거나 descendant 자신 또는 그 상위 로더인지 여부
+    private static boolean isAncestorOrSelf(ClassLoader loader, ClassLoader descendant) {
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader current = descendant; current != null; current = current.getParent()) {
+            if (current == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 부트스트랩 로더는 0, 그 아래로 내려갈수록 큰 값
+    private static int depth(ClassLoader loader) {
+        int depth = 0;
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            depth++;
+        }
+        return depth;
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.ocean.javarelease.support.AsyncConsole;
+
 /**
  * Java 8 스트림(Stream) API 예제
  * 
@@ -33,36 +35,36 @@ public class StreamApiExample {
      * 예제 1: 기본 스트림 생성 및 변환
      */
     private static void basicStreamExample() {
-        System.out.println("\n=== 기본 스트림 예제 ===");
+        AsyncConsole.println("\n=== 기본 스트림 예제 ===");
         
         // 컬렉션에서 스트림 생성
         List<String> names = Arrays.asList("김철수", "이영희", "박민수", "정지영", "최동현");
         
         // 스트림을 사용한 출력
-        System.out.println("모든 이름 출력:");
-        names.stream().forEach(System.out::println);
+        AsyncConsole.println("모든 이름 출력:");
+        names.stream().forEach(AsyncConsole::println);
         
         // 배열에서 스트림 생성
         int[] numbers = {1, 2, 3, 4, 5};
-        System.out.println("\n숫자 배열 합계: " + Arrays.stream(numbers).sum());
+        AsyncConsole.println("\n숫자 배열 합계: " + Arrays.stream(numbers).sum());
         
         // 직접 스트림 생성
-        System.out.println("\n직접 생성한 스트림:");
+        AsyncConsole.println("\n직접 생성한 스트림:");
         java.util.stream.Stream.of("자바", "스트림", "API")
-                .forEach(System.out::println);
+                .forEach(AsyncConsole::println);
                 
         // 무한 스트림 (제한 필요)
-        System.out.println("\n무한 스트림에서 첫 5개 짝수:");
+        AsyncConsole.println("\n무한 스트림에서 첫 5개 짝수:");
         java.util.stream.Stream.iterate(0, n -> n + 2)
                 .limit(5)
-                .forEach(System.out::println);
+                .forEach(AsyncConsole::println);
     }
     
     /**
      * 예제 2: 필터링과 매핑
      */
     private static void filteringAndMappingExample() {
-        System.out.println("\n=== 필터링과 매핑 예제 ===");
+        AsyncConsole.println("\n=== 필터링과 매핑 예제 ===");
         
         List<Student> students = Arrays.asList(
                 new Student("홍길동", 18, "남성", 85),
@@ -73,24 +75,45 @@ public class StreamApiExample {
         );
         
         // 필터링: 18세 이상 학생만 선택
-        System.out.println("18세 이상 학생:");
+        AsyncConsole.println("18세 이상 학생:");
         students.stream()
                 .filter(student -> student.getAge() >= 18)
-                .forEach(student -> System.out.println(student.getName() + " - " + student.getAge() + "세"));
+                .forEach(student -> AsyncConsole.println(student.getName() + " - " + student.getAge() + "세"));
         
         // 매핑: 학생 이름만 추출
-        System.out.println("\n모든 학생 이름:");
+        AsyncConsole.println("\n모든 학생 이름:");
         students.stream()
                 .map(Student::getName)
-                .forEach(System.out::println);
+                .forEach(AsyncConsole::println);
         
         // 여러 조건 조합: 19세 남학생의 점수
-        System.out.println("\n19세 남학생의 점수:");
+        AsyncConsole.println("\n19세 남학생의 점수:");
         students.stream()
                 .filter(student -> student.getAge() == 19)
                 .filter(student -> "남성".equals(student.getGender()))
                 .map(Student::getScore)
-                .forEach(score -> System.out.println(score + "점"));
+                .forEach(score -> AsyncConsole.println(score + "점"));
+        
+        // 같은 filter/filter/map 단계를 하나의 루프로 합친 생성 클래스로 실행
+        AsyncConsole.println("\n파이프라인 융합으로 계산한 19세 남학생의 점수:");
+        FusedPipeline.<Student>start()
+                .filter(student -> student.getAge() == 19)
+                .filter(student -> "남성".equals(student.getGender()))
+                .mapToInt(Student::getScore)
+                .forEach(score -> AsyncConsole.println(score + "점"))
+                .apply(students);
+        
+        // 비트맵 인덱스: 조건을 비트맵 AND/OR로 먼저 계산한 뒤 해당 학생만 조회
+        StudentRepository repository = new StudentRepository();
+        students.forEach(repository::insert);
+        
+        AsyncConsole.println("\n비트맵 인덱스로 찾은 19세 남학생의 점수:");
+        repository.find(StudentRepository.Query.age(19).and(StudentRepository.Query.gender("남성")))
+                .forEach(student -> AsyncConsole.println(student.getScore() + "점"));
+        
+        StudentRepository.Query highScoreOrYoung = StudentRepository.Query.scoreBandAtLeast(9)
+                .or(StudentRepository.Query.age(17));
+        AsyncConsole.println("90점 이상이거나 17세인 학생 수: " + repository.count(highScoreOrYoung));
         
         // flatMap 예제: 문장에서 고유 단어 추출
         List<String> sentences = Arrays.asList(
@@ -99,58 +122,93 @@ public class StreamApiExample {
                 "함수형 프로그래밍을 자바에서"
         );
         
-        System.out.println("\n모든 문장에서 고유 단어 추출:");
+        AsyncConsole.println("\n모든 문장에서 고유 단어 추출:");
         List<String> uniqueWords = sentences.stream()
                 .flatMap(sentence -> Arrays.stream(sentence.split(" ")))
                 .distinct()
                 .collect(Collectors.toList());
                 
-        System.out.println(uniqueWords);
+        AsyncConsole.println(uniqueWords);
+        
+        // 복사 없는 토크나이저: 원본 문장을 가리키는 CharSequence 뷰로 flatMap
+        AsyncConsole.println("\n토큰 뷰를 사용한 고유 단어 추출:");
+        List<CharSequence> uniqueTokens = sentences.stream()
+                .flatMap(TextTokenizer::tokens)
+                .distinct()
+                .collect(Collectors.toList());
+                
+        AsyncConsole.println(uniqueTokens);
+        
+        // 정확한 고유 단어: 토큰 문자열 대신 원본 오프셋을 저장하는 개방 주소법 집합
+        DistinctTokenSet distinctTokens = new DistinctTokenSet();
+        sentences.forEach(distinctTokens::addAll);
+        AsyncConsole.println("정확한 고유 단어 수: " + distinctTokens.size() + " " + distinctTokens.toList());
+        
+        // 근사 고유 단어 수: 메모리가 고정된 HyperLogLog
+        HyperLogLog approximateDistinct = new HyperLogLog(12);
+        sentences.forEach(sentence ->
+                TextTokenizer.forEachToken(sentence, (start, end) -> approximateDistinct.add(sentence, start, end)));
+        AsyncConsole.println("근사 고유 단어 수: " + approximateDistinct.estimate()
+                + " (표준 오차 약 " + String.format("%.1f", approximateDistinct.getStandardError() * 100) + "%)");
     }
     
     /**
      * 예제 3: 집계 함수
      */
     private static void aggregationExample() {
-        System.out.println("\n=== 집계 함수 예제 ===");
+        AsyncConsole.println("\n=== 집계 함수 예제 ===");
         
         List<Integer> numbers = Arrays.asList(1, 5, 8, 12, 3, 9, 4, 7);
         
         // 개수 세기
         long count = numbers.stream().count();
-        System.out.println("요소 개수: " + count);
+        AsyncConsole.println("요소 개수: " + count);
         
         // 최댓값 찾기
         int max = numbers.stream().max(Integer::compare).orElse(0);
-        System.out.println("최댓값: " + max);
+        AsyncConsole.println("최댓값: " + max);
         
         // 최솟값 찾기
         int min = numbers.stream().min(Integer::compare).orElse(0);
-        System.out.println("최솟값: " + min);
+        AsyncConsole.println("최솟값: " + min);
         
         // 합계 계산
         int sum = numbers.stream().mapToInt(Integer::intValue).sum();
-        System.out.println("합계: " + sum);
+        AsyncConsole.println("합계: " + sum);
         
         // 평균 계산
         double average = numbers.stream().mapToInt(Integer::intValue).average().orElse(0);
-        System.out.println("평균: " + average);
+        AsyncConsole.println("평균: " + average);
         
         // 통계 정보
         java.util.IntSummaryStatistics stats = numbers.stream().mapToInt(Integer::intValue).summaryStatistics();
-        System.out.println("\n통계 정보:");
-        System.out.println("  - 개수: " + stats.getCount());
-        System.out.println("  - 합계: " + stats.getSum());
-        System.out.println("  - 평균: " + stats.getAverage());
-        System.out.println("  - 최솟값: " + stats.getMin());
-        System.out.println("  - 최댓값: " + stats.getMax());
+        AsyncConsole.println("\n통계 정보:");
+        AsyncConsole.println("  - 개수: " + stats.getCount());
+        AsyncConsole.println("  - 합계: " + stats.getSum());
+        AsyncConsole.println("  - 평균: " + stats.getAverage());
+        AsyncConsole.println("  - 최솟값: " + stats.getMin());
+        AsyncConsole.println("  - 최댓값: " + stats.getMax());
+        
+        // 여러 스레드가 동시에 기록하는 요약 통계 (한 번의 순회, 분산/표준편차 포함)
+        ConcurrentSummaryStatistics concurrentStats = new ConcurrentSummaryStatistics();
+        numbers.parallelStream().forEach(concurrentStats::accept);
+        
+        ConcurrentSummaryStatistics.Snapshot snapshot = concurrentStats.snapshot();
+        AsyncConsole.println("\n동시 집계 통계 정보:");
+        AsyncConsole.println("  - 개수: " + snapshot.getCount());
+        AsyncConsole.println("  - 합계: " + snapshot.getSum());
+        AsyncConsole.println("  - 평균: " + snapshot.getAverage());
+        AsyncConsole.println("  - 최솟값: " + snapshot.getMin());
+        AsyncConsole.println("  - 최댓값: " + snapshot.getMax());
+        AsyncConsole.println("  - 분산: " + String.format("%.2f", snapshot.getVariance()));
+        AsyncConsole.println("  - 표준편차: " + String.format("%.2f", snapshot.getStandardDeviation()));
     }
     
     /**
      * 예제 4: 컬렉션 및 리듀싱 연산
      */
     private static void collectionAndReducingExample() {
-        System.out.println("\n=== 컬렉션 및 리듀싱 연산 예제 ===");
+        AsyncConsole.println("\n=== 컬렉션 및 리듀싱 연산 예제 ===");
         
         List<Product> products = Arrays.asList(
                 new Product("노트북", "전자제품", 1200000),
@@ -163,19 +221,19 @@ public class StreamApiExample {
         );
         
         // 카테고리별 그룹화
-        System.out.println("카테고리별 제품 그룹화:");
+        AsyncConsole.println("카테고리별 제품 그룹화:");
         
         java.util.Map<String, List<Product>> productsByCategory = products.stream()
                 .collect(Collectors.groupingBy(Product::getCategory));
                 
         productsByCategory.forEach((category, productList) -> {
-            System.out.println("* " + category + ":");
+            AsyncConsole.println("* " + category + ":");
             productList.forEach(product -> 
-                System.out.println("  - " + product.getName() + ": " + product.getPrice() + "원"));
+                AsyncConsole.println("  - " + product.getName() + ": " + product.getPrice() + "원"));
         });
         
         // 카테고리별 평균 가격
-        System.out.println("\n카테고리별 평균 가격:");
+        AsyncConsole.println("\n카테고리별 평균 가격:");
         
         java.util.Map<String, Double> avgPriceByCategory = products.stream()
                 .collect(Collectors.groupingBy(
@@ -184,14 +242,21 @@ public class StreamApiExample {
                 ));
                 
         avgPriceByCategory.forEach((category, avgPrice) -> 
-            System.out.println(category + ": " + Math.round(avgPrice) + "원"));
+            AsyncConsole.println(category + ": " + Math.round(avgPrice) + "원"));
+        
+        // 컬럼 테이블 기반 카테고리별 집계 (한 번의 순회로 개수/합계/평균/최솟값/최댓값)
+        AsyncConsole.println("\n컬럼 테이블 기반 카테고리별 집계:");
+        
+        ProductTable productTable = ProductTable.from(products);
+        productTable.parallelGroupByCategory().forEach((category, stats) ->
+            AsyncConsole.println(category + ": " + stats));
         
         // reduce 연산 - 모든 제품 가격의 합
         int totalPrice = products.stream()
                 .map(Product::getPrice)
                 .reduce(0, Integer::sum);
                 
-        System.out.println("\n모든 제품 가격의 합: " + totalPrice + "원");
+        AsyncConsole.println("\n모든 제품 가격의 합: " + totalPrice + "원");
         
         // reduce 연산 - 가장 비싼 제품 찾기
         Product mostExpensive = products.stream()
@@ -199,74 +264,93 @@ public class StreamApiExample {
                 .orElse(null);
                 
         if (mostExpensive != null) {
-            System.out.println("가장 비싼 제품: " + mostExpensive.getName() + " (" + 
+            AsyncConsole.println("가장 비싼 제품: " + mostExpensive.getName() + " (" + 
                     mostExpensive.getPrice() + "원)");
         }
         
+        // 상위 K개 - 전체 정렬 없이 크기 K의 힙으로 가격 상위 제품 찾기
+        List<Product> top3 = products.parallelStream()
+                .collect(TopK.largest(3, Product::getPrice));
+        AsyncConsole.println("\n가격 상위 3개 제품:");
+        top3.forEach(product -> AsyncConsole.println("  - " + product.getName() + ": " + product.getPrice() + "원"));
+        
+        java.util.Map<String, List<Product>> top2ByCategory = products.parallelStream()
+                .collect(TopK.largestByGroup(2, Product::getCategory, Product::getPrice));
+        AsyncConsole.println("카테고리별 가격 상위 2개 제품:");
+        top2ByCategory.forEach((category, productList) -> AsyncConsole.println("* " + category + ": "
+                + productList.stream().map(Product::getName).collect(Collectors.joining(", "))));
+        
         // joining 연산 - 모든 제품 이름을 쉼표로 구분하여 연결
         String productNames = products.stream()
                 .map(Product::getName)
                 .collect(Collectors.joining(", "));
                 
-        System.out.println("\n모든 제품 이름: " + productNames);
+        AsyncConsole.println("\n모든 제품 이름: " + productNames);
     }
     
     /**
      * 예제 5: 병렬 스트림
      */
     private static void parallelStreamExample() {
-        System.out.println("\n=== 병렬 스트림 예제 ===");
+        AsyncConsole.println("\n=== 병렬 스트림 예제 ===");
         
-        // 대량의 데이터 생성
-        List<Integer> bigList = new java.util.ArrayList<>();
-        for (int i = 0; i < 10_000_000; i++) {
-            bigList.add(i);
-        }
+        // 대량의 데이터 생성 (박싱 없이 int[] 기반 컬럼에 저장)
+        IntColumn bigColumn = IntColumn.range(0, 10_000_000);
+        java.util.function.IntPredicate divisibleBy15 = n -> n % 3 == 0 && n % 5 == 0;
         
         // 순차 처리 시간 측정
         long startTime = System.currentTimeMillis();
         
-        long sequentialCount = bigList.stream()
-                .filter(n -> n % 3 == 0 && n % 5 == 0)
+        long sequentialCount = bigColumn.stream()
+                .filter(divisibleBy15)
                 .count();
                 
         long sequentialTime = System.currentTimeMillis() - startTime;
-        System.out.println("순차 처리 결과: " + sequentialCount);
-        System.out.println("순차 처리 시간: " + sequentialTime + "ms");
+        AsyncConsole.println("순차 처리 결과: " + sequentialCount);
+        AsyncConsole.println("순차 처리 시간: " + sequentialTime + "ms");
         
-        // 병렬 처리 시간 측정
+        // 병렬 처리 시간 측정 (SIZED | SUBSIZED 스플리터레이터로 균등 분할)
         startTime = System.currentTimeMillis();
         
-        long parallelCount = bigList.parallelStream()
-                .filter(n -> n % 3 == 0 && n % 5 == 0)
-                .count();
+        long parallelCount = bigColumn.parallelCount(divisibleBy15);
                 
         long parallelTime = System.currentTimeMillis() - startTime;
-        System.out.println("병렬 처리 결과: " + parallelCount);
-        System.out.println("병렬 처리 시간: " + parallelTime + "ms");
-        System.out.println("속도 향상: " + String.format("%.2f", (double)sequentialTime / parallelTime) + "배");
+        AsyncConsole.println("병렬 처리 결과: " + parallelCount);
+        AsyncConsole.println("병렬 처리 시간: " + parallelTime + "ms");
+        AsyncConsole.println("속도 향상: " + String.format("%.2f", (double)sequentialTime / Math.max(1, parallelTime)) + "배");
+        
+        // 공통 풀 대신 작업 부하 전용 ForkJoinPool에서 병렬 스트림 실행
+        try (ParallelExecution execution = new ParallelExecution()) {
+            execution.register("analytics", 2, 1);
+            
+            long isolatedCount = execution.execute("analytics", () -> bigColumn.parallelStream()
+                    .filter(divisibleBy15)
+                    .count());
+            AsyncConsole.println("\n전용 풀(analytics) 처리 결과: " + isolatedCount);
+            AsyncConsole.println("전용 풀 지표: " + execution.metrics("analytics"));
+        }
         
         // 주의사항: 병렬 스트림에서의 순서 예측 불가
         List<Integer> smallList = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
         
-        System.out.println("\n순차 스트림 처리 순서:");
+        AsyncConsole.println("\n순차 스트림 처리 순서:");
         smallList.stream()
                 .map(n -> {
-                    System.out.println("매핑: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
+                    AsyncConsole.println("매핑: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
                     return n * 2;
                 })
                 .forEach(n -> {
-                    System.out.println("출력: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
+                    AsyncConsole.println("출력: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
                 });
                 
-        System.out.println("\n병렬 스트림 처리 순서:");
+        AsyncConsole.println("\n병렬 스트림 처리 순서:");
         smallList.parallelStream()
                 .map(n -> {
-                    System.out.println("매핑: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
+                    AsyncConsole.println("매핑: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
                     return n * 2;
                 })
                 .forEach(n -> {
-                    System.out.println("출력: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
+                    AsyncConsole.println("출력: " + n + " (스레드: " + Thread.currentThread().getName() + ")");
                 });
     }
     
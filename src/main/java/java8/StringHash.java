@@ -0,0 +1,25 @@
+package java8;
+
+/**
+ * 문자열 근사 자료구조(HyperLogLog, BloomFilter)가 함께 쓰는 64비트 해시
+ */
+final class StringHash {
+
+    private StringHash() {
+    }
+
+    // 문자 단위 FNV-1a 해시에 MurmurHash3 최종 혼합을 적용한 64비트 해시 (원본의 [start, end) 범위, 복사 없음)
+    static long hash64(CharSequence text, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,359 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 재사용 버퍼 위에서 단계를 처리하는 문자열 변환 파이프라인
+ *
+ * StringProcessor.andThen 체인은 단계마다 중간 String을 새로 만듭니다. StringPipeline은 하나의 char 버퍼(Buffer)를
+ * 재사용하면서 단계를 적용하고, 가능한 단계는 한 번의 순회로 합칩니다.
+ * - 연속된 문자 단위 변환(upperCase, lowerCase, replace(char, char))은 하나의 변환으로 합쳐지고,
+ *   ASCII 범위는 미리 계산한 표로 변환합니다. 첫 단계가 문자 변환이면 입력을 버퍼로 복사하는 순회에 합쳐집니다.
+ * - trim은 버퍼의 시작/끝 위치만 옮기고, prefix는 미리 비워 둔 앞쪽 공간에 쓰므로 문자열 전체를 옮기지 않습니다.
+ *
+ * 대소문자 변환은 Character.toUpperCase/toLowerCase(char)를 사용하므로 로캘과 무관하고 길이가 바뀌지 않습니다.
+ * (String.toUpperCase와 달리 'ß' -> "SS" 같은 확장은 하지 않습니다.)
+ *
+ * 사용 예:
+ *   StringPipeline pipeline = StringPipeline.builder().trim().upperCase().suffix("!").prefix("결과: ").build();
+ *   StringPipeline.Buffer buffer = new StringPipeline.Buffer();
+ *   pipeline.process(text, buffer).appendTo(out);   // 할당 없음
+ *   String result = pipeline.process(text);          // 결과 String만 할당
+ */
+public final class StringPipeline {
+
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private final Op[] ops;
+    private final CharMap loadMap;
+    private final int headroom;
+
+    private StringPipeline(Op[] ops, CharMap loadMap, int headroom) {
+        this.ops = ops;
+        this.loadMap = loadMap;
+        this.headroom = headroom;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 문자 하나를 다른 문자 하나로 바꾸는 변환
+     */
+    @FunctionalInterface
+    public interface CharMapper {
+        char map(char c);
+    }
+
+    /**
+     * 입력을 buffer에 불러와 모든 단계를 적용하고 buffer를 반환합니다. (buffer가 충분히 크면 할당 없음)
+     */
+    public Buffer process(CharSequence input, Buffer buffer) {
+        int length = input.length();
+        buffer.reset(headroom, length);
+        char[] chars = buffer.chars;
+        if (loadMap != null) {
+            loadMap.load(input, chars, headroom);
+        } else if (input instanceof String string) {
+            string.getChars(0, length, chars, headroom);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[headroom + i] = input.charAt(i);
+            }
+        }
+        for (Op op : ops) {
+            op.apply(buffer);
+        }
+        return buffer;
+    }
+
+    // 스레드별 버퍼를 사용하고 결과 String 하나만 할당 (StringProcessor 자리에 pipeline::process로 사용 가능)
+    public String process(String input) {
+        return process(input, BUFFERS.get()).toString();
+    }
+
+    /**
+     * 파이프라인 결과를 담는 재사용 버퍼 (스레드 안전하지 않음)
+     */
+    public static final class Buffer implements CharSequence {
+        private char[] chars;
+        private char[] scratch;
+        private int start;
+        private int end;
+
+        public Buffer() {
+            this(64);
+        }
+
+        public Buffer(int initialCapacity) {
+            this.chars = new char[Math.max(16, initialCapacity)];
+            this.scratch = new char[0];
+        }
+
+        private void reset(int offset, int length) {
+            ensureCapacity(offset + length);
+            start = offset;
+            end = offset + length;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (chars.length < capacity) {
+                chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+            }
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+            }
+            return chars[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().substring(from, to);
+        }
+
+        public StringBuilder appendTo(StringBuilder out) {
+            return out.append(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, end - start);
+        }
+    }
+
+    public static final class Builder {
+        private final List<Object> stages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder upperCase() {
+            return map(Character::toUpperCase);
+        }
+
+        public Builder lowerCase() {
+            return map(Character::toLowerCase);
+        }
+
+        public Builder replace(char oldChar, char newChar) {
+            return map(c -> c == oldChar ? newChar : c);
+        }
+
+        public Builder map(CharMapper mapper) {
+            stages.add(mapper);
+            return this;
+        }
+
+        public Builder trim() {
+            stages.add(new TrimOp());
+            return this;
+        }
+
+        public Builder replace(CharSequence target, CharSequence replacement) {
+            if (target.length() == 0) {
+                throw new IllegalArgumentException("바꿀 문자열은 비어 있을 수 없습니다.");
+            }
+            stages.add(new ReplaceOp(target.toString().toCharArray(), replacement.toString().toCharArray()));
+            return this;
+        }
+
+        public Builder prefix(CharSequence prefix) {
+            stages.add(new PrefixOp(prefix.toString().toCharArray()));
+            return this;
+        }
+
+        public Builder suffix(CharSequence suffix) {
+            stages.add(new SuffixOp(suffix.toString().toCharArray()));
+            return this;
+        }
+
+        /**
+         * 연속된 문자 변환을 하나로 합치고, 첫 단계가 문자 변환이면 입력 복사에 합칩니다.
+         */
+        public StringPipeline build() {
+            List<Op> ops = new ArrayList<>();
+            List<CharMapper> run = new ArrayList<>();
+            int headroom = 0;
+            for (Object stage : stages) {
+                if (stage instanceof CharMapper mapper) {
+                    run.add(mapper);
+                    continue;
+                }
+                if (!run.isEmpty()) {
+                    ops.add(new CharMap(run.toArray(new CharMapper[0])));
+                    run.clear();
+                }
+                if (stage instanceof PrefixOp prefix) {
+                    headroom += prefix.prefix.length;
+                }
+                ops.add((Op) stage);
+            }
+            if (!run.isEmpty()) {
+                ops.add(new CharMap(run.toArray(new CharMapper[0])));
+            }
+
+            CharMap loadMap = null;
+            if (!ops.isEmpty() && ops.get(0) instanceof CharMap first) {
+                loadMap = first;
+                ops.remove(0);
+            }
+            return new StringPipeline(ops.toArray(new Op[0]), loadMap, headroom);
+        }
+    }
+
+    private interface Op {
+        void apply(Buffer buffer);
+    }
+
+    /**
+     * 합쳐진 문자 변환: ASCII는 표 조회, 나머지는 변환을 차례로 적용
+     */
+    private static final class CharMap implements Op {
+        private final CharMapper[] mappers;
+        private final char[] asciiTable = new char[128];
+
+        CharMap(CharMapper[] mappers) {
+            this.mappers = mappers;
+            for (char c = 0; c < asciiTable.length; c++) {
+                asciiTable[c] = mapSlow(c);
+            }
+        }
+
+        private char map(char c) {
+            return c < 128 ? asciiTable[c] : mapSlow(c);
+        }
+
+        private char mapSlow(char c) {
+            for (CharMapper mapper : mappers) {
+                c = mapper.map(c);
+            }
+            return c;
+        }
+
+        void load(CharSequence input, char[] chars, int offset) {
+            for (int i = 0, length = input.length(); i < length; i++) {
+                chars[offset + i] = map(input.charAt(i));
+            }
+        }
+
+        @Override
+        public void apply(Buffer buffer) {
+            char[] chars = buffer.chars;
+            for (int i = buffer.start; i < buffer.end; i++) {
+                chars[i] = map(chars[i]);
+            }
+        }
+    }
+
+    // String.trim과 같은 기준(' ' 이하의 문자)으로 앞뒤를 잘라냄
+    private static final class TrimOp implements Op {
+        @Override
+        public void apply(Buffer buffer) {
+            char[] chars = buffer.chars;
+            while (buffer.start < buffer.end && chars[buffer.start] <= ' ') {
+                buffer.start++;
+            }
+            while (buffer.end > buffer.start && chars[buffer.end - 1] <= ' ') {
+                buffer.end--;
+            }
+        }
+    }
+
+    private static final class PrefixOp implements Op {
+        private final char[] prefix;
+
+        PrefixOp(char[] prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void apply(Buffer buffer) {
+            if (buffer.start < prefix.length) {
+                // 앞쪽 공간이 부족하면(앞 단계의 replace로 늘어난 경우 등) 내용을 뒤로 옮김
+                int shift = prefix.length - buffer.start;
+                buffer.ensureCapacity(buffer.end + shift);
+                System.arraycopy(buffer.chars, buffer.start, buffer.chars, buffer.start + shift, buffer.end - buffer.start);
+                buffer.start += shift;
+                buffer.end += shift;
+            }
+            buffer.start -= prefix.length;
+            System.arraycopy(prefix, 0, buffer.chars, buffer.start, prefix.length);
+        }
+    }
+
+    private static final class SuffixOp implements Op {
+        private final char[] suffix;
+
+        SuffixOp(char[] suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void apply(Buffer buffer) {
+            buffer.ensureCapacity(buffer.end + suffix.length);
+            System.arraycopy(suffix, 0, buffer.chars, buffer.end, suffix.length);
+            buffer.end += suffix.length;
+        }
+    }
+
+    // 모든 target을 replacement로 바꿔 보조 버퍼에 쓰고, 두 버퍼를 교환
+    private static final class ReplaceOp implements Op {
+        private final char[] target;
+        private final char[] replacement;
+
+        ReplaceOp(char[] target, char[] replacement) {
+            this.target = target;
+            this.replacement = replacement;
+        }
+
+        @Override
+        public void apply(Buffer buffer) {
+            char[] source = buffer.chars;
+            int start = buffer.start;
+            int end = buffer.end;
+            int maxLength = replacement.length <= target.length
+                    ? end - start
+                    : (end - start) / target.length * replacement.length + target.length;
+            if (buffer.scratch.length < start + maxLength) {
+                buffer.scratch = new char[Math.max(source.length, start + maxLength)];
+            }
+            char[] out = buffer.scratch;
+            int o = start;
+            int i = start;
+            char first = target[0];
+            while (i < end) {
+                if (source[i] == first && i + target.length <= end && matches(source, i)) {
+                    System.arraycopy(replacement, 0, out, o, replacement.length);
+                    o += replacement.length;
+                    i += target.length;
+                } else {
+                    out[o++] = source[i++];
+                }
+            }
+            buffer.scratch = source;
+            buffer.chars = out;
+            buffer.end = o;
+        }
+
+        private boolean matches(char[] source, int from) {
+            for (int j = 1; j < target.length; j++) {
+                if (source[from + j] != target[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java8.StreamApiExample.Student;
+
+/**
+ * 압축 비트맵 보조 인덱스를 가진 학생 저장소
+ * 
+ * filter(age == 19).filter(gender == "남성")처럼 조건을 연결하면 조건마다 전체 목록을 다시 훑습니다.
+ * StudentRepository는 학생마다 행 번호를 부여하고, 카디널리티가 낮은 속성(나이, 성별, 점수대)별로
+ * 해당 행 번호 집합을 RoaringBitmap으로 유지합니다. 조건 조합은 비트맵 AND/OR/ANDNOT으로 먼저 계산하고,
+ * 결과 행에 해당하는 학생 객체만 꺼냅니다. 인덱스는 삽입/삭제 시 즉시 갱신됩니다.
+ * 
+ * 스레드 안전하지 않으므로 여러 스레드에서 사용할 때는 외부에서 동기화해야 합니다.
+ */
+public class StudentRepository {
+
+    private final List<Student> rows = new ArrayList<>();
+    private final Map<Student, Integer> rowIds = new IdentityHashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap freeRows = new RoaringBitmap();
+
+    private final Map<Integer, RoaringBitmap> byAge = new HashMap<>();
+    private final Map<String, RoaringBitmap> byGender = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byScoreBand = new HashMap<>();
+
+    // 점수대: 0~9점은 0, 10~19점은 1, ..., 100점은 10
+    public static int scoreBandOf(int score) {
+        return score / 10;
+    }
+
+    public void insert(Student student) {
+        if (rowIds.containsKey(student)) {
+            return;
+        }
+        int row;
+        if (freeRows.isEmpty()) {
+            row = rows.size();
+            rows.add(student);
+        } else {
+            // 삭제된 행 번호를 재사용하여 비트맵이 불필요하게 커지지 않도록 함
+            row = freeRows.first();
+            freeRows.remove(row);
+            rows.set(row, student);
+        }
+        rowIds.put(student, row);
+        live.add(row);
+        index(byAge, student.getAge()).add(row);
+        index(byGender, student.getGender()).add(row);
+        index(byScoreBand, scoreBandOf(student.getScore())).add(row);
+    }
+
+    public boolean remove(Student student) {
+        Integer row = rowIds.remove(student);
+        if (row == null) {
+            return false;
+        }
+        live.remove(row);
+        unindex(byAge, student.getAge(), row);
+        unindex(byGender, student.getGender(), row);
+        unindex(byScoreBand, scoreBandOf(student.getScore()), row);
+        rows.set(row, null);
+        freeRows.add(row);
+        return true;
+    }
+
+    public int size() {
+        return live.getCardinality();
+    }
+
+    // 조건에 맞는 학생 (행 번호 순서)
+    public List<Student> find(Query query) {
+        RoaringBitmap matches = query.evaluate(this);
+        List<Student> result = new ArrayList<>(matches.getCardinality());
+        matches.forEach((int row) -> result.add(rows.get(row)));
+        return result;
+    }
+
+    // 조건에 맞는 학생 수 (학생 객체에 접근하지 않음)
+    public int count(Query query) {
+        return query.evaluate(this).getCardinality();
+    }
+
+    private static <K> RoaringBitmap index(Map<K, RoaringBitmap> index, K key) {
+        return index.computeIfAbsent(key, k -> new RoaringBitmap());
+    }
+
+    private static <K> void unindex(Map<K, RoaringBitmap> index, K key, int row) {
+        RoaringBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(row);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 인덱스 비트맵 하나를 그대로 쓰는 조건
+     * 인덱스 비트맵은 저장소가 소유하므로 조회 결과로 내보낼 때만 복사하고,
+     * and/or/negate의 피연산자로 쓸 때는 (결과를 새로 만드는 연산이므로) 복사하지 않고 빌려 씁니다.
+     */
+    private static final class IndexLookup implements Query {
+        private final Function<StudentRepository, RoaringBitmap> source;
+
+        IndexLookup(Function<StudentRepository, RoaringBitmap> source) {
+            this.source = source;
+        }
+
+        @Override
+        public RoaringBitmap evaluate(StudentRepository repository) {
+            RoaringBitmap bitmap = source.apply(repository);
+            return bitmap == null ? new RoaringBitmap() : bitmap.clone();
+        }
+
+        RoaringBitmap borrow(StudentRepository repository) {
+            RoaringBitmap bitmap = source.apply(repository);
+            return bitmap == null ? new RoaringBitmap() : bitmap;
+        }
+    }
+
+    // 새 비트맵을 만드는 연산의 피연산자 (읽기만 하므로 인덱스 비트맵을 복사하지 않음)
+    private static RoaringBitmap operand(Query query, StudentRepository repository) {
+        return query instanceof IndexLookup lookup ? lookup.borrow(repository) : query.evaluate(repository);
+    }
+
+    /**
+     * 인덱스만으로 평가되는 조회 조건
+     */
+    @FunctionalInterface
+    public interface Query {
+        RoaringBitmap evaluate(StudentRepository repository);
+
+        default Query and(Query other) {
+            return repository -> RoaringBitmap.and(operand(this, repository), operand(other, repository));
+        }
+
+        default Query or(Query other) {
+            return repository -> RoaringBitmap.or(operand(this, repository), operand(other, repository));
+        }
+
+        default Query negate() {
+            return repository -> RoaringBitmap.andNot(repository.live, operand(this, repository));
+        }
+
+        static Query all() {
+            return repository -> repository.live.clone();
+        }
+
+        static Query age(int age) {
+            return new IndexLookup(repository -> repository.byAge.get(age));
+        }
+
+        // [minAge, maxAge] 범위의 나이 비트맵을 OR
+        static Query ageBetween(int minAge, int maxAge) {
+            return repository -> {
+                RoaringBitmap result = new RoaringBitmap();
+                repository.byAge.forEach((age, bitmap) -> {
+                    if (age >= minAge && age <= maxAge) {
+                        result.or(bitmap);
+                    }
+                });
+                return result;
+            };
+        }
+
+        static Query gender(String gender) {
+            return new IndexLookup(repository -> repository.byGender.get(gender));
+        }
+
+        static Query scoreBand(int band) {
+            return new IndexLookup(repository -> repository.byScoreBand.get(band));
+        }
+
+        // 점수대가 minBand 이상인 학생 (예: 8이면 80점 이상)
+        static Query scoreBandAtLeast(int minBand) {
+            return repository -> {
+                RoaringBitmap result = new RoaringBitmap();
+                repository.byScoreBand.forEach((band, bitmap) -> {
+                    if (band >= minBand) {
+                        result.or(bitmap);
+                    }
+                });
+                return result;
+            };
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package java8;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 원본 문자열을 복사하지 않는 공백 단위 토크나이저
+ * 
+ * String.split(" ")은 정규식 처리를 거치고 토큰마다 새 문자열을 만듭니다.
+ * TextTokenizer는 원본 CharSequence 위의 [start, end) 범위만 계산하여, 범위를 직접 받는 방식(할당 없음)과
+ * 원본을 가리키는 Token 뷰를 스트림으로 받는 방식을 제공합니다. 연속된 공백 문자는 하나의 구분자로 취급합니다.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * 토큰의 [start, end) 범위를 전달받는 콜백
+     */
+    @FunctionalInterface
+    public interface TokenConsumer {
+        void accept(int start, int end);
+    }
+
+    // 토큰마다 범위만 전달 (객체 할당 없음)
+    public static void forEachToken(CharSequence text, TokenConsumer consumer) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                consumer.accept(start, i);
+            }
+        }
+    }
+
+    // 원본을 가리키는 토큰 뷰의 스트림 (flatMap에서 split 대신 사용)
+    public static Stream<CharSequence> tokens(CharSequence text) {
+        return StreamSupport.stream(new TokenSpliterator(text), false);
+    }
+
+    static int contentHash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash;
+    }
+
+    static boolean contentEquals(CharSequence a, int aStart, int aEnd, CharSequence b, int bStart, int bEnd) {
+        if (aEnd - aStart != bEnd - bStart) {
+            return false;
+        }
+        for (int i = aStart, j = bStart; i < aEnd; i++, j++) {
+            if (a.charAt(i) != b.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class TokenSpliterator extends Spliterators.AbstractSpliterator<CharSequence> {
+        private final CharSequence text;
+        private int position;
+
+        TokenSpliterator(CharSequence text) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.text = text;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CharSequence> action) {
+            int length = text.length();
+            while (position < length && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            if (position == length) {
+                return false;
+            }
+            int start = position;
+            while (position < length && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            action.accept(new Token(text, start, position));
+            return true;
+        }
+    }
+
+    /**
+     * 원본 CharSequence의 일부를 가리키는 뷰
+     * 
+     * 내용이 같은 Token끼리는 equals/hashCode가 같으므로 distinct()나 HashSet에서 사용할 수 있습니다.
+     * (String과는 equals가 성립하지 않으므로 비교가 필요하면 toString()을 사용하세요.)
+     */
+    public static final class Token implements CharSequence {
+        private final CharSequence source;
+        private final int start;
+        private final int end;
+        private int hash;
+
+        Token(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length());
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            Objects.checkFromToIndex(from, to, length());
+            return new Token(source, start + from, start + to);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = hash;
+            if (h == 0) {
+                h = contentHash(source, start, end);
+                hash = h;
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Token)) return false;
+            Token other = (Token) o;
+            return contentEquals(source, start, end, other.source, other.start, other.end);
+        }
+
+        @Override
+        public String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
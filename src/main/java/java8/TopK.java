@@ -0,0 +1,167 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 정렬 없이 상위 K개를 구하는 Collector
+ * 
+ * sorted().limit(k)는 n log n 정렬이 필요하고, reduce로는 최댓값 하나만 구할 수 있습니다.
+ * TopK는 long 키 배열과 원소 배열로 이루어진 크기 k의 힙을 스레드(누적기)마다 두고,
+ * 병렬 스트림의 combiner에서 힙을 병합하므로 전체 비용이 O(n log k)입니다.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    // 키가 큰 순서로 상위 k개 (결과는 키 내림차순)
+    public static <T> Collector<T, ?, List<T>> largest(int k, ToLongFunction<? super T> key) {
+        return collector(k, key, true);
+    }
+
+    // 키가 작은 순서로 상위 k개 (결과는 키 오름차순)
+    public static <T> Collector<T, ?, List<T>> smallest(int k, ToLongFunction<? super T> key) {
+        return collector(k, key, false);
+    }
+
+    // 그룹별로 키가 큰 상위 k개
+    public static <T, G> Collector<T, ?, Map<G, List<T>>> largestByGroup(
+            int k, Function<? super T, ? extends G> classifier, ToLongFunction<? super T> key) {
+        return Collectors.groupingBy(classifier, largest(k, key));
+    }
+
+    // 그룹별로 키가 작은 상위 k개
+    public static <T, G> Collector<T, ?, Map<G, List<T>>> smallestByGroup(
+            int k, Function<? super T, ? extends G> classifier, ToLongFunction<? super T> key) {
+        return Collectors.groupingBy(classifier, smallest(k, key));
+    }
+
+    private static <T> Collector<T, BoundedHeap<T>, List<T>> collector(
+            int k, ToLongFunction<? super T> key, boolean largest) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+        }
+        Supplier<BoundedHeap<T>> supplier = () -> new BoundedHeap<>(k, largest);
+        BiConsumer<BoundedHeap<T>, T> accumulator = (heap, element) -> heap.offer(key.applyAsLong(element), element);
+        BinaryOperator<BoundedHeap<T>> combiner = BoundedHeap::merge;
+        Function<BoundedHeap<T>, List<T>> finisher = BoundedHeap::toSortedList;
+        return Collector.of(supplier, accumulator, combiner, finisher);
+    }
+
+    /**
+     * 최대 k개를 유지하는 이진 힙. 루트에는 남아 있는 원소 중 가장 순위가 낮은 원소가 있습니다.
+     */
+    private static final class BoundedHeap<T> {
+        private final int capacity;
+        private final boolean largest;
+        private long[] keys;
+        private Object[] elements;
+        private int size;
+
+        BoundedHeap(int capacity, boolean largest) {
+            this.capacity = capacity;
+            this.largest = largest;
+            // k가 매우 크더라도 실제로 들어온 만큼만 사용하도록 작은 배열에서 시작
+            int initial = Math.min(capacity, 16);
+            this.keys = new long[initial];
+            this.elements = new Object[initial];
+        }
+
+        void offer(long key, T element) {
+            if (size < capacity) {
+                if (size == keys.length) {
+                    int newLength = (int) Math.min(capacity, keys.length * 2L);
+                    keys = Arrays.copyOf(keys, newLength);
+                    elements = Arrays.copyOf(elements, newLength);
+                }
+                keys[size] = key;
+                elements[size] = element;
+                siftUp(size++);
+            } else if (ranksHigher(key, keys[0])) {
+                keys[0] = key;
+                elements[0] = element;
+                siftDown(0);
+            }
+        }
+
+        BoundedHeap<T> merge(BoundedHeap<T> other) {
+            for (int i = 0; i < other.size; i++) {
+                @SuppressWarnings("unchecked")
+                T element = (T) other.elements[i];
+                offer(other.keys[i], element);
+            }
+            return this;
+        }
+
+        // 순위가 높은 순서로 정렬된 목록 (힙에서 하나씩 꺼내 뒤에서부터 채움)
+        List<T> toSortedList() {
+            Object[] result = new Object[size];
+            while (size > 0) {
+                result[size - 1] = elements[0];
+                size--;
+                keys[0] = keys[size];
+                elements[0] = elements[size];
+                elements[size] = null;
+                siftDown(0);
+            }
+            List<T> list = new ArrayList<>(result.length);
+            for (Object element : result) {
+                @SuppressWarnings("unchecked")
+                T typed = (T) element;
+                list.add(typed);
+            }
+            return Collections.unmodifiableList(list);
+        }
+
+        private boolean ranksHigher(long a, long b) {
+            return largest ? a > b : a < b;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksHigher(keys[parent], keys[index])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int right = left + 1;
+                int lowest = right < size && ranksHigher(keys[left], keys[right]) ? right : left;
+                if (!ranksHigher(keys[index], keys[lowest])) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            Object element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+        }
+    }
+}
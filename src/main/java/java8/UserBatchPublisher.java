@@ -0,0 +1,170 @@
+package java8;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserFilter;
+
+/**
+ * 필터에 맞는 사용자를 찾는 대로 배치 단위로 내보내는 Flow.Publisher
+ *
+ * 구독자가 요청(request)한 배치 수만큼만 스캔하므로 결과 전체를 메모리에 모으지 않으며, 느린 구독자 앞에서 스캔이 앞서 나가지 않습니다.
+ * 각 배치에는 재개 토큰이 들어 있어서, 연결이 끊어져도 마지막으로 받은 토큰부터 다시 구독할 수 있습니다.
+ * 토큰은 스캔한 마지막 사용자의 순번을 담으므로 그 사이에 사용자가 추가/삭제되어도 중복이나 누락 없이 이어집니다.
+ *
+ * 원본은 순번 -> 사용자의 동시 정렬 맵(ConcurrentSkipListMap 등)이어야 하며, 스캔은 약한 일관성(weakly consistent)으로 수행됩니다.
+ * onNext는 executor에서 순차적으로 호출됩니다. executor로 Runnable::run을 주면 request를 호출한 스레드에서 바로 실행됩니다.
+ */
+public final class UserBatchPublisher implements Flow.Publisher<UserBatchPublisher.UserBatch> {
+
+    // 배치 크기 상한 (요청 파라미터로 받은 크기가 그대로 한 배치의 메모리가 되므로 제한)
+    public static final int MAX_BATCH_SIZE = 1000;
+    // 배치 목록의 초기 용량 상한 (결과가 적으면 큰 배치 크기만큼 미리 할당하지 않음)
+    private static final int INITIAL_BATCH_CAPACITY = 64;
+
+    private static final String TOKEN_PREFIX = "u1:";
+
+    private final NavigableMap<Long, User> source;
+    private final UserFilter filter;
+    private final int batchSize;
+    private final long afterSequence;
+    private final Executor executor;
+
+    public UserBatchPublisher(NavigableMap<Long, User> source, UserFilter filter, int batchSize,
+                              String resumeToken, Executor executor) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("배치 크기는 1 이상 " + MAX_BATCH_SIZE + " 이하여야 합니다: " + batchSize);
+        }
+        this.source = source;
+        this.filter = filter;
+        this.batchSize = batchSize;
+        this.afterSequence = resumeToken == null ? Long.MIN_VALUE : decodeToken(resumeToken);
+        this.executor = executor;
+    }
+
+    /**
+     * 한 번에 전달되는 사용자 묶음과, 이 배치 다음부터 이어서 받기 위한 재개 토큰
+     */
+    public record UserBatch(List<User> users, String resumeToken) {
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super UserBatch> subscriber) {
+        BatchSubscription subscription = new BatchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    static String encodeToken(long sequence) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + sequence).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            if (decoded.startsWith(TOKEN_PREFIX)) {
+                return Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 같은 예외로 보고
+        }
+        throw new IllegalArgumentException("잘못된 재개 토큰입니다: " + token);
+    }
+
+    private final class BatchSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super UserBatch> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // drain 실행 요청 수 (0 -> 1로 바뀐 스레드만 drain을 예약)
+        private final AtomicInteger pending = new AtomicInteger();
+        private Iterator<Map.Entry<Long, User>> cursor;
+        private long lastSequence = afterSequence;
+        private volatile boolean done;
+        // request(n <= 0)로 생긴 오류 (drain 루프가 종료 신호로 보냄)
+        private volatile Throwable error;
+
+        BatchSubscription(Flow.Subscriber<? super UserBatch> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                // 진행 중인 drain과 겹치지 않도록 onError도 drain 루프에서 보냄 (규칙 §1.3, §3.9)
+                if (error == null) {
+                    error = new IllegalArgumentException("요청 수는 1 이상이어야 합니다: " + n);
+                }
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                try {
+                    drain();
+                } catch (Throwable e) {
+                    done = true;
+                    subscriber.onError(e);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (cursor == null) {
+                cursor = source.tailMap(afterSequence, false).entrySet().iterator();
+            }
+            while (!done) {
+                Throwable failure = error;
+                if (failure != null) {
+                    done = true;
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                List<User> users = new ArrayList<>(Math.min(batchSize, INITIAL_BATCH_CAPACITY));
+                while (users.size() < batchSize && cursor.hasNext()) {
+                    Map.Entry<Long, User> entry = cursor.next();
+                    lastSequence = entry.getKey();
+                    if (filter.filter(entry.getValue())) {
+                        users.add(entry.getValue());
+                    }
+                }
+                boolean exhausted = !cursor.hasNext();
+                if (!users.isEmpty()) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(new UserBatch(users, encodeToken(lastSequence)));
+                }
+                if (exhausted && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package java8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 수천만 명 규모의 사용자명 -> 이름 디렉터리
+ * 
+ * HashMap은 엔트리마다 Node 객체를 만들기 때문에 수천만 건에서는 객체 수와 포인터 추적 비용이 커집니다.
+ * UserDirectory는 키를 세그먼트로 나누고, 세그먼트마다 (해시, 엔트리 번호)를 long 하나에 담은 개방 주소법(선형 탐사)
+ * 테이블과 사용자명/이름 배열을 유지합니다. 조회는 StampedLock의 낙관적 읽기로 잠금 없이 수행되고,
+ * 쓰기는 세그먼트 단위로만 잠깁니다. 없는 사용자 조회는 블룸 필터에서 대부분 즉시 걸러집니다.
+ */
+public class UserDirectory {
+
+    private static final double MAX_LOAD_FACTOR = 0.6;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final BloomFilter bloomFilter;
+    private final LongAdder bloomRejections = new LongAdder();
+
+    public UserDirectory(int expectedUsers) {
+        if (expectedUsers < 0) {
+            throw new IllegalArgumentException("예상 사용자 수는 0 이상이어야 합니다: " + expectedUsers);
+        }
+        int segmentCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        int perSegment = Math.max(16, expectedUsers / segmentCount + 1);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.bloomFilter = new BloomFilter(Math.max(1, expectedUsers), 0.01);
+    }
+
+    /**
+     * "사용자명\t이름" 형식의 파일에서 사용자를 일괄 적재합니다. (빈 줄과 #으로 시작하는 줄은 무시)
+     */
+    public static UserDirectory load(Path file, int expectedUsers) throws IOException {
+        UserDirectory directory = new UserDirectory(expectedUsers);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    throw new IOException(file + ":" + lineNumber + ": '사용자명\\t이름' 형식이 아닙니다");
+                }
+                directory.put(line.substring(0, tab), line.substring(tab + 1));
+            }
+        }
+        return directory;
+    }
+
+    // 사용자를 추가하거나 이름을 변경
+    public void put(String username, String name) {
+        Objects.requireNonNull(username, "username");
+        Objects.requireNonNull(name, "name");
+        int hash = spread(username.hashCode());
+        bloomFilter.put(username);
+        segmentFor(hash).put(hash, username, name);
+    }
+
+    // 사용자 이름 조회 (없으면 null, 객체를 할당하지 않음)
+    public String findName(String username) {
+        if (!bloomFilter.mightContain(username)) {
+            bloomRejections.increment();
+            return null;
+        }
+        int hash = spread(username.hashCode());
+        return segmentFor(hash).get(hash, username);
+    }
+
+    public Optional<String> find(String username) {
+        return Optional.ofNullable(findName(username));
+    }
+
+    public boolean contains(String username) {
+        return findName(username) != null;
+    }
+
+    public long size() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    // 블룸 필터에서 바로 걸러진 조회 수
+    public long getBloomRejections() {
+        return bloomRejections.sum();
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> segmentShift];
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+
+        // 상위 32비트: 해시, 하위 32비트: 엔트리 번호 + 1 (0은 빈 슬롯)
+        private long[] slots;
+        private String[] usernames;
+        private String[] names;
+        private int size;
+
+        Segment(int expectedSize) {
+            int capacity = Integer.highestOneBit((int) Math.min(1 << 30, (long) (expectedSize / MAX_LOAD_FACTOR) + 1)) << 1;
+            slots = new long[capacity];
+            usernames = new String[expectedSize];
+            names = new String[expectedSize];
+        }
+
+        String get(int hash, String username) {
+            long stamp = lock.tryOptimisticRead();
+            String result = probe(hash, username);
+            if (lock.validate(stamp)) {
+                return result;
+            }
+            stamp = lock.readLock();
+            try {
+                return probe(hash, username);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * 낙관적 읽기 중에는 배열이 교체될 수 있으므로 지역 변수로 고정하고 범위를 확인합니다.
+         * 이 경우 잘못된 결과가 나올 수 있지만 validate에서 걸러집니다.
+         */
+        private String probe(int hash, String username) {
+            long[] table = slots;
+            String[] keys = usernames;
+            String[] values = names;
+            int mask = table.length - 1;
+            for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long slot = table[i];
+                if (slot == 0) {
+                    return null;
+                }
+                if ((int) (slot >>> 32) == hash) {
+                    int entry = (int) slot - 1;
+                    if (entry < keys.length && entry < values.length && username.equals(keys[entry])) {
+                        return values[entry];
+                    }
+                }
+            }
+            return null;
+        }
+
+        void put(int hash, String username, String name) {
+            long stamp = lock.writeLock();
+            try {
+                int mask = slots.length - 1;
+                int i = hash & mask;
+                for (long slot = slots[i]; slot != 0; i = (i + 1) & mask, slot = slots[i]) {
+                    int entry = (int) slot - 1;
+                    if ((int) (slot >>> 32) == hash && username.equals(usernames[entry])) {
+                        names[entry] = name;
+                        return;
+                    }
+                }
+                if (size == usernames.length) {
+                    int newLength = Math.max(16, size + (size >> 1));
+                    usernames = Arrays.copyOf(usernames, newLength);
+                    names = Arrays.copyOf(names, newLength);
+                }
+                usernames[size] = username;
+                names[size] = name;
+                size++;
+                slots[i] = ((long) hash << 32) | size;
+                if (size > slots.length * MAX_LOAD_FACTOR) {
+                    rehash();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void rehash() {
+            long[] newSlots = new long[slots.length * 2];
+            int mask = newSlots.length - 1;
+            for (long slot : slots) {
+                if (slot != 0) {
+                    int i = (int) (slot >>> 32) & mask;
+                    while (newSlots[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    newSlots[i] = slot;
+                }
+            }
+            slots = newSlots;
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package java8;
+
+import static java.lang.constant.ConstantDescs.CD_Object;
+import static java.lang.constant.ConstantDescs.CD_boolean;
+import static java.lang.constant.ConstantDescs.CD_void;
+import static java.lang.constant.ConstantDescs.INIT_NAME;
+import static java.lang.constant.ConstantDescs.MTD_void;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.ClassHierarchyResolver;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.Label;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserFilter;
+
+/**
+ * UserFilter의 and/or/negate 트리를 하나의 평가 클래스로 컴파일하고, 관측한 선택도와 비용에 따라 조건 순서를 바꾸는 컴파일러
+ *
+ * UserFilter의 and/or/negate는 Conjunction/Disjunction/Negation 노드를 만들고, 같은 종류의 중첩은 하나로 평탄화합니다.
+ * compile은 이 트리를 단락 평가(short-circuit) 분기로 풀어 쓴 filter 메서드를 가진 클래스를 ClassFile API로 생성합니다.
+ * (FusedPipeline과 같은 방식으로, 조건 구성과 람다 클래스별로 생성된 클래스를 캐시합니다.)
+ *
+ * 조건은 기본적으로 선언한 순서대로 단락 평가합니다. (앞 조건이 뒤 조건의 전제일 수 있으므로,
+ * 예: u -> u.getName() != null 다음의 u -> u.getName().startsWith(..))
+ * UserFilter.reorderable로 부작용이 없고 어떤 순서로 평가해도 안전하다고 표시한 조건만 순서를 바꾸며,
+ * 그것도 같은 AND/OR 안에서 표시된 조건이 연속으로 놓인 구간 안에서만 바꿉니다. (표시되지 않은 조건은 경계로 남음)
+ *
+ * 호출의 일부(SAMPLE_RATE분의 1)는 같은 단락 평가 순서로 실행하면서 평가된 노드의 통과율을 기록하고,
+ * 호출마다 노드 하나만 돌아가며 소요 시간을 잽니다. (노드마다 System.nanoTime을 부르면 조건보다 측정이 더 비쌈)
+ * 표본이 REOPTIMIZE_INTERVAL개 모이면 AND는 "비용 / (1 - 통과율)", OR는 "비용 / 통과율"이 작은 자식부터
+ * 평가하도록 순서를 다시 정하고, 순서가 바뀌었으면 평가 클래스를 다시 생성합니다.
+ * 통계는 매 재최적화마다 절반으로 줄여서 데이터 분포가 바뀌면 순서도 따라 바뀝니다.
+ * 바꿀 수 있는 구간이 하나도 없으면 표본을 모으지 않고 생성된 클래스만 실행합니다.
+ *
+ * 사용 예:
+ *   UserFilter filter = UserFilterCompiler.compile(
+ *           UserFilter.getAgeFilter(30).and(UserFilter.getAdminFilter().negate()));
+ *   users.stream().filter(filter::filter)...
+ */
+final class UserFilterCompiler {
+
+    static final int SAMPLE_RATE = 64;
+    static final int REOPTIMIZE_INTERVAL = 1024;
+
+    private static final ClassDesc CD_USER_FILTER = ClassDesc.of(UserFilter.class.getName());
+    private static final ClassDesc CD_USER = ClassDesc.of(User.class.getName());
+    private static final ClassDesc CD_USER_FILTER_ARRAY = CD_USER_FILTER.arrayType();
+    private static final MethodTypeDesc MTD_FILTER = MethodTypeDesc.of(CD_boolean, CD_USER);
+    private static final MethodTypeDesc MTD_INIT = MethodTypeDesc.of(CD_void, CD_USER_FILTER_ARRAY);
+
+    // 생성된 filter 메서드의 지역 변수 슬롯
+    private static final int SLOT_THIS = 0;
+    private static final int SLOT_USER = 1;
+
+    private static final ClassFile CLASS_FILE = ClassFile.of(ClassFile.ClassHierarchyResolverOption.of(
+            ClassHierarchyResolver.ofClassLoading(UserFilterCompiler.class.getClassLoader())));
+
+    // 조건 구성(트리 모양과 말단 람다 클래스) -> 생성된 클래스의 생성자 (람다 클래스가 수집되면 함께 수집됨)
+    private static final ShapeCache<MethodHandle> EVALUATOR_CACHE = new ShapeCache<>();
+
+    private UserFilterCompiler() {
+    }
+
+    static UserFilter and(UserFilter left, UserFilter right) {
+        return new Conjunction(concat(left, right, Conjunction.class));
+    }
+
+    static UserFilter or(UserFilter left, UserFilter right) {
+        return new Disjunction(concat(left, right, Disjunction.class));
+    }
+
+    static UserFilter negate(UserFilter filter) {
+        return filter instanceof Negation negation ? negation.operand : new Negation(filter);
+    }
+
+    static UserFilter reorderable(UserFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("필터는 null일 수 없습니다.");
+        }
+        return filter instanceof Reorderable ? filter : new Reorderable(filter);
+    }
+
+    static Compiled compile(UserFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("필터는 null일 수 없습니다.");
+        }
+        return filter instanceof Compiled compiled ? compiled : new Compiled(filter);
+    }
+
+    /**
+     * 컴파일된 필터 (스레드 안전)
+     *
+     * 통계는 표본 경로에서만 갱신되는 근사치이므로 동기화하지 않습니다.
+     */
+    static final class Compiled implements UserFilter {
+        private final Node root;
+        private final List<Node> nodes = new ArrayList<>();
+        private final boolean adaptive;
+        private int leafCount;
+        private volatile UserFilter evaluator;
+        private int samples;
+        private int reoptimizations;
+
+        private Compiled(UserFilter filter) {
+            this.root = toNode(filter, false);
+            this.adaptive = root.hasReorderableRun();
+            this.evaluator = generate(root);
+        }
+
+        @Override
+        public boolean filter(User user) {
+            if (!adaptive || ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+                return evaluator.filter(user);
+            }
+            // 이번 표본에서 소요 시간을 잴 노드 (통계는 근사치이므로 samples의 경쟁 갱신은 허용)
+            Node timed = nodes.get(Math.floorMod(samples, nodes.size()));
+            boolean result = root.sample(user, timed);
+            if (++samples >= REOPTIMIZE_INTERVAL) {
+                reoptimize();
+            }
+            return result;
+        }
+
+        // 재최적화로 평가 순서가 바뀐 횟수
+        public int getReoptimizations() {
+            return reoptimizations;
+        }
+
+        // 현재 평가 순서 (말단은 원래 트리에서의 순번 L0, L1, ...)
+        public String plan() {
+            return root.toString();
+        }
+
+        private synchronized void reoptimize() {
+            if (samples < REOPTIMIZE_INTERVAL) {
+                return;
+            }
+            samples = 0;
+            if (root.reorder()) {
+                evaluator = generate(root);
+                reoptimizations++;
+            }
+            for (Node node : nodes) {
+                node.decay();
+            }
+        }
+
+        // reorderable: reorderable로 표시된 조건의 하위 트리인지 (표시는 그 안의 모든 조건에 적용)
+        private Node toNode(UserFilter filter, boolean reorderable) {
+            Node node;
+            if (filter instanceof Reorderable marked) {
+                return toNode(marked.filter, true);
+            } else if (filter instanceof Conjunction conjunction) {
+                node = new Node(Node.AND, null, -1, children(conjunction.operands, reorderable));
+            } else if (filter instanceof Disjunction disjunction) {
+                node = new Node(Node.OR, null, -1, children(disjunction.operands, reorderable));
+            } else if (filter instanceof Negation negation) {
+                node = new Node(Node.NOT, null, -1, new Node[] {toNode(negation.operand, reorderable)});
+            } else {
+                node = new Node(Node.LEAF, filter, leafCount++, new Node[0]);
+                node.reorderable = reorderable;
+            }
+            if (node.kind != Node.LEAF) {
+                node.reorderable = Arrays.stream(node.children).allMatch(child -> child.reorderable);
+            }
+            nodes.add(node);
+            return node;
+        }
+
+        private Node[] children(UserFilter[] operands, boolean reorderable) {
+            Node[] children = new Node[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                children[i] = toNode(operands[i], reorderable);
+            }
+            return children;
+        }
+    }
+
+    /**
+     * 필터 트리의 노드와 그 통계
+     */
+    private static final class Node {
+        static final int LEAF = 0;
+        static final int AND = 1;
+        static final int OR = 2;
+        static final int NOT = 3;
+
+        final int kind;
+        final UserFilter leaf;
+        final int leafIndex;
+        // 재정렬 시 배열을 통째로 교체하므로 표본 평가 중에도 항상 완전한 순열을 봄
+        volatile Node[] children;
+        // 하위 트리의 모든 조건이 순서에 무관하게 평가해도 안전한지
+        boolean reorderable;
+
+        double evaluations;
+        double passes;
+        double timings;
+        double nanos;
+
+        Node(int kind, UserFilter leaf, int leafIndex, Node[] children) {
+            this.kind = kind;
+            this.leaf = leaf;
+            this.leafIndex = leafIndex;
+            this.children = children;
+        }
+
+        // 생성된 클래스와 같은 순서로 단락 평가하며, 평가된 노드의 통과율과 timed 노드의 소요 시간을 기록
+        boolean sample(User user, Node timed) {
+            long start = this == timed ? System.nanoTime() : 0;
+            boolean result;
+            switch (kind) {
+                case LEAF -> result = leaf.filter(user);
+                case AND -> {
+                    result = true;
+                    for (Node child : children) {
+                        if (!child.sample(user, timed)) {
+                            result = false;
+                            break;
+                        }
+                    }
+                }
+                case OR -> {
+                    result = false;
+                    for (Node child : children) {
+                        if (child.sample(user, timed)) {
+                            result = true;
+                            break;
+                        }
+                    }
+                }
+                default -> result = !children[0].sample(user, timed);
+            }
+            if (this == timed) {
+                nanos += System.nanoTime() - start;
+                timings++;
+            }
+            evaluations++;
+            if (result) {
+                passes++;
+            }
+            return result;
+        }
+
+        // 순서를 바꿀 수 있는 구간(표시된 자식 두 개 이상이 연속)이 트리 어딘가에 있는지
+        boolean hasReorderableRun() {
+            int run = 0;
+            for (Node child : children) {
+                if (child.hasReorderableRun()) {
+                    return true;
+                }
+                run = child.reorderable ? run + 1 : 0;
+                if (run >= 2 && (kind == AND || kind == OR)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 표시된 자식이 연속으로 놓인 구간 안에서만 순서를 다시 정하고, 트리 어디에서든 순서가 바뀌었으면 true를 반환합니다.
+         */
+        boolean reorder() {
+            boolean changed = false;
+            for (Node child : children) {
+                changed |= child.reorder();
+            }
+            if (kind != AND && kind != OR) {
+                return changed;
+            }
+            Node[] sorted = children.clone();
+            Comparator<Node> rank = Comparator.comparingDouble(kind == AND ? Node::andRank : Node::orRank);
+            for (int from = 0; from < sorted.length; ) {
+                if (!sorted[from].reorderable) {
+                    from++;
+                    continue;
+                }
+                int to = from;
+                while (to < sorted.length && sorted[to].reorderable) {
+                    to++;
+                }
+                Arrays.sort(sorted, from, to, rank);
+                from = to;
+            }
+            if (!Arrays.equals(sorted, children)) {
+                children = sorted;
+                changed = true;
+            }
+            return changed;
+        }
+
+        // AND에서는 적은 비용으로 많이 걸러내는 조건이 앞에 와야 함
+        private double andRank() {
+            return cost() / Math.max(1e-9, 1 - passRate());
+        }
+
+        // OR에서는 적은 비용으로 많이 통과시키는 조건이 앞에 와야 함
+        private double orRank() {
+            return cost() / Math.max(1e-9, passRate());
+        }
+
+        // 아직 시간을 재지 못한 노드는 가장 비싼 것으로 보아 뒤에 둠 (정렬이 안정적이므로 서로의 순서는 유지)
+        private double cost() {
+            return timings == 0 ? Double.MAX_VALUE / 4 : nanos / timings;
+        }
+
+        private double passRate() {
+            return evaluations == 0 ? 0.5 : passes / evaluations;
+        }
+
+        void decay() {
+            evaluations /= 2;
+            passes /= 2;
+            timings /= 2;
+            nanos /= 2;
+        }
+
+        @Override
+        public String toString() {
+            return switch (kind) {
+                case LEAF -> "L" + leafIndex;
+                case NOT -> "!" + children[0];
+                default -> {
+                    StringBuilder sb = new StringBuilder("(");
+                    for (int i = 0; i < children.length; i++) {
+                        sb.append(i == 0 ? "" : kind == AND ? " & " : " | ").append(children[i]);
+                    }
+                    yield sb.append(')').toString();
+                }
+            };
+        }
+    }
+
+    /**
+     * 컴파일 전에도 그대로 평가할 수 있는 조합 노드들
+     */
+    private static final class Conjunction implements UserFilter {
+        private final UserFilter[] operands;
+
+        Conjunction(UserFilter[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean filter(User user) {
+            for (UserFilter operand : operands) {
+                if (!operand.filter(user)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Disjunction implements UserFilter {
+        private final UserFilter[] operands;
+
+        Disjunction(UserFilter[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean filter(User user) {
+            for (UserFilter operand : operands) {
+                if (operand.filter(user)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 부작용이 없고 다른 조건과 어떤 순서로 평가해도 안전하다고 표시된 조건 (컴파일 시 벗겨 내고 원래 조건을 호출)
+     */
+    private static final class Reorderable implements UserFilter {
+        private final UserFilter filter;
+
+        Reorderable(UserFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean filter(User user) {
+            return filter.filter(user);
+        }
+    }
+
+    private static final class Negation implements UserFilter {
+        private final UserFilter operand;
+
+        Negation(UserFilter operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean filter(User user) {
+            return !operand.filter(user);
+        }
+    }
+
+    // 같은 종류의 노드는 피연산자를 합쳐서 평탄화
+    private static UserFilter[] concat(UserFilter left, UserFilter right, Class<?> type) {
+        UserFilter[] l = operandsOf(left, type);
+        UserFilter[] r = operandsOf(right, type);
+        UserFilter[] result = Arrays.copyOf(l, l.length + r.length);
+        System.arraycopy(r, 0, result, l.length, r.length);
+        return result;
+    }
+
+    private static UserFilter[] operandsOf(UserFilter filter, Class<?> type) {
+        if (filter.getClass() != type) {
+            return new UserFilter[] {filter};
+        }
+        return filter instanceof Conjunction conjunction ? conjunction.operands : ((Disjunction) filter).operands;
+    }
+
+    private static UserFilter generate(Node root) {
+        // 구성 키: 트리 모양과 말단 람다 클래스 (현재 평가 순서 기준)
+        List<Object> shape = new ArrayList<>();
+        List<UserFilter> leaves = new ArrayList<>();
+        describe(root, shape, leaves);
+
+        MethodHandle constructor = EVALUATOR_CACHE.computeIfAbsent(shape, key -> defineEvaluator(root, leaves.size()));
+        try {
+            return (UserFilter) constructor.invoke(leaves.toArray(new UserFilter[0]));
+        } catch (Throwable e) {
+            throw new IllegalStateException("필터 평가 클래스를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private static void describe(Node node, List<Object> shape, List<UserFilter> leaves) {
+        shape.add(node.kind);
+        if (node.kind == Node.LEAF) {
+            shape.add(node.leaf.getClass());
+            leaves.add(node.leaf);
+            return;
+        }
+        shape.add(node.children.length);
+        for (Node child : node.children) {
+            describe(child, shape, leaves);
+        }
+    }
+
+    private static MethodHandle defineEvaluator(Node root, int leafCount) {
+        ClassDesc thisClass = ClassDesc.of(UserFilterCompiler.class.getName() + "$Evaluator");
+        byte[] bytes = CLASS_FILE.build(thisClass, clb -> {
+            clb.withFlags(ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC);
+            clb.withSuperclass(CD_Object);
+            clb.withInterfaceSymbols(CD_USER_FILTER);
+
+            for (int i = 0; i < leafCount; i++) {
+                clb.withField(fieldName(i), CD_USER_FILTER, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+            }
+
+            // 생성자: 말단 필터 배열을 각 필드에 저장
+            clb.withMethodBody(INIT_NAME, MTD_INIT, ClassFile.ACC_PUBLIC, cob -> {
+                cob.aload(SLOT_THIS).invokespecial(CD_Object, INIT_NAME, MTD_void);
+                for (int i = 0; i < leafCount; i++) {
+                    cob.aload(SLOT_THIS)
+                            .aload(1)
+                            .loadConstant(i)
+                            .aaload()
+                            .putfield(thisClass, fieldName(i), CD_USER_FILTER);
+                }
+                cob.return_();
+            });
+
+            clb.withMethodBody("filter", MTD_FILTER, ClassFile.ACC_PUBLIC, cob -> {
+                Label whenTrue = cob.newLabel();
+                Label whenFalse = cob.newLabel();
+                generateBranch(cob, thisClass, root, whenTrue, whenFalse, new int[1]);
+                cob.labelBinding(whenTrue);
+                cob.iconst_1().ireturn();
+                cob.labelBinding(whenFalse);
+                cob.iconst_0().ireturn();
+            });
+        });
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, UserFilter[].class))
+                    .asType(MethodType.methodType(Object.class, UserFilter[].class));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException("필터 평가 클래스를 정의할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 노드가 참이면 whenTrue로, 거짓이면 whenFalse로 분기하는 코드를 생성합니다. (단락 평가)
+     */
+    private static void generateBranch(CodeBuilder cob, ClassDesc thisClass, Node node,
+                                       Label whenTrue, Label whenFalse, int[] nextLeaf) {
+        switch (node.kind) {
+            case Node.LEAF -> {
+                cob.aload(SLOT_THIS).getfield(thisClass, fieldName(nextLeaf[0]++), CD_USER_FILTER);
+                cob.aload(SLOT_USER)
+                        .invokeinterface(CD_USER_FILTER, "filter", MTD_FILTER)
+                        .ifeq(whenFalse)
+                        .goto_(whenTrue);
+            }
+            case Node.NOT -> generateBranch(cob, thisClass, node.children[0], whenFalse, whenTrue, nextLeaf);
+            default -> {
+                boolean and = node.kind == Node.AND;
+                Node[] children = node.children;
+                for (int i = 0; i < children.length - 1; i++) {
+                    Label next = cob.newLabel();
+                    generateBranch(cob, thisClass, children[i],
+                            and ? next : whenTrue, and ? whenFalse : next, nextLeaf);
+                    cob.labelBinding(next);
+                }
+                generateBranch(cob, thisClass, children[children.length - 1], whenTrue, whenFalse, nextLeaf);
+            }
+        }
+    }
+
+    private static String fieldName(int index) {
+        return "leaf" + index;
+    }
+}
@@ -0,0 +1,207 @@
+package java8;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 요소별 작업(Consumer)을 가상 스레드로 나누어 실행하는 기능
+ *
+ * 알림 전송이나 감사 로그 기록처럼 블로킹 I/O를 하는 Consumer를 호출 스레드에서 하나씩 실행하면 전체 시간이 대기 시간의 합이 됩니다.
+ * VirtualThreadFanOut은 요소를 batchSize개씩 묶어 묶음마다 가상 스레드 하나에서 실행하고,
+ * 동시에 실행 중인 묶음 수를 maxConcurrency개로 제한합니다. (하위 시스템의 연결 수 한도 등을 넘지 않도록)
+ *
+ * 완료 통지(onComplete)는 호출 스레드에서 실행되며, ORDERED는 입력 순서대로, UNORDERED는 끝난 순서대로 전달합니다.
+ * 실패한 요소가 있어도 나머지 요소는 끝까지 처리하고, 마지막에 모든 실패를 모은 FanOutException을 던집니다.
+ */
+public final class VirtualThreadFanOut {
+
+    public enum Completion { ORDERED, UNORDERED }
+
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final Completion completion;
+
+    private VirtualThreadFanOut(int batchSize, int maxConcurrency, Completion completion) {
+        this.batchSize = batchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.completion = completion;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int batchSize = 1;
+        private int maxConcurrency = 64;
+        private Completion completion = Completion.UNORDERED;
+
+        private Builder() {
+        }
+
+        // 가상 스레드 하나가 순서대로 처리할 요소 수
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        // 동시에 실행할 수 있는 배치(가상 스레드) 수
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("동시 실행 수는 1 이상이어야 합니다: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder completion(Completion completion) {
+            this.completion = completion;
+            return this;
+        }
+
+        public VirtualThreadFanOut build() {
+            return new VirtualThreadFanOut(batchSize, maxConcurrency, completion);
+        }
+    }
+
+    /**
+     * 실패한 요소와 원인
+     */
+    public record Failure(int index, Object item, Throwable cause) {
+    }
+
+    /**
+     * 하나 이상의 요소 처리가 실패했을 때 던지는 예외 (모든 원인은 suppressed로도 추가됨)
+     */
+    public static final class FanOutException extends RuntimeException {
+        private final List<Failure> failures;
+
+        FanOutException(List<Failure> failures, int total) {
+            super(total + "건 중 " + failures.size() + "건 처리 실패", failures.get(0).cause());
+            this.failures = Collections.unmodifiableList(failures);
+            for (Failure failure : failures.subList(1, failures.size())) {
+                addSuppressed(failure.cause());
+            }
+        }
+
+        public List<Failure> getFailures() {
+            return failures;
+        }
+    }
+
+    public <T> void forEach(List<? extends T> items, Consumer<? super T> action) throws InterruptedException {
+        forEach(items, action, item -> { });
+    }
+
+    /**
+     * 모든 요소에 action을 실행하고, 성공한 요소마다 호출 스레드에서 onComplete를 호출합니다.
+     *
+     * @throws FanOutException      하나 이상의 요소에서 action이 실패한 경우 (나머지 요소는 모두 처리된 뒤)
+     * @throws InterruptedException 대기 중 인터럽트된 경우 (실행 중인 가상 스레드도 인터럽트됨)
+     */
+    public <T> void forEach(List<? extends T> items, Consumer<? super T> action, Consumer<? super T> onComplete)
+            throws InterruptedException {
+        int total = items.size();
+        LinkedBlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Delivery<T> delivery = new Delivery<>(items, onComplete);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (int from = 0; from < total; from += batchSize) {
+                    permits.acquire();
+                    int start = from;
+                    int end = Math.min(total, from + batchSize);
+                    executor.execute(() -> {
+                        try {
+                            for (int i = start; i < end; i++) {
+                                outcomes.add(run(i, items.get(i), action));
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                    // 배치를 내보내는 사이사이에 이미 끝난 요소의 완료를 통지
+                    for (Outcome outcome; (outcome = outcomes.poll()) != null; ) {
+                        delivery.accept(outcome);
+                    }
+                }
+                while (delivery.received < total) {
+                    delivery.accept(outcomes.take());
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+
+        if (!delivery.failures.isEmpty()) {
+            delivery.failures.sort((a, b) -> Integer.compare(a.index(), b.index()));
+            throw new FanOutException(delivery.failures, total);
+        }
+    }
+
+    private static <T> Outcome run(int index, T item, Consumer<? super T> action) {
+        try {
+            action.accept(item);
+            return new Outcome(index, null);
+        } catch (Throwable e) {
+            return new Outcome(index, e);
+        }
+    }
+
+    private record Outcome(int index, Throwable failure) {
+    }
+
+    /**
+     * 호출 스레드에서 결과를 모으고 완료 순서 정책에 따라 onComplete를 호출
+     */
+    private final class Delivery<T> {
+        private static final byte PENDING = 0;
+        private static final byte SUCCEEDED = 1;
+        private static final byte FAILED = 2;
+
+        private final List<? extends T> items;
+        private final Consumer<? super T> onComplete;
+        private final byte[] states;
+        private final List<Failure> failures = new ArrayList<>();
+        private int received;
+        private int nextInOrder;
+
+        Delivery(List<? extends T> items, Consumer<? super T> onComplete) {
+            this.items = items;
+            this.onComplete = onComplete;
+            this.states = completion == Completion.ORDERED ? new byte[items.size()] : null;
+        }
+
+        void accept(Outcome outcome) {
+            received++;
+            int index = outcome.index();
+            if (outcome.failure() != null) {
+                failures.add(new Failure(index, items.get(index), outcome.failure()));
+            }
+            if (states == null) {
+                if (outcome.failure() == null) {
+                    onComplete.accept(items.get(index));
+                }
+                return;
+            }
+            states[index] = outcome.failure() == null ? SUCCEEDED : FAILED;
+            while (nextInOrder < states.length && states[nextInOrder] != PENDING) {
+                if (states[nextInOrder] == SUCCEEDED) {
+                    onComplete.accept(items.get(nextInOrder));
+                }
+                nextInOrder++;
+            }
+        }
+    }
+}
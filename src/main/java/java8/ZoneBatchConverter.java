@@ -0,0 +1,173 @@
+package java8;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에포크 밀리초 배열을 한 시간대의 현지 시각으로 일괄 변환하는 변환기
+ *
+ * Instant.atZone은 변환마다 ZoneRules에서 오프셋을 찾고(연도별 규칙 계산 포함) ZonedDateTime을 만듭니다.
+ * ZoneBatchConverter는 시간대마다 오프셋이 바뀌는 시점(전환 시점)을 END_YEAR까지 미리 펼쳐
+ * 정렬된 long[]/int[] 표로 만들어 두고, 이진 탐색으로 오프셋을 찾습니다.
+ * 이벤트 시각은 대개 가까이 모여 있으므로 직전 요소의 구간을 먼저 확인하고, 벗어날 때만 이진 탐색합니다.
+ *
+ * 변환기는 시간대별로 한 번만 만들어 캐시하며, 불변이므로 여러 스레드에서 함께 쓸 수 있습니다.
+ * END_YEAR 이후의 시각은 ZoneRules로 직접 계산하므로 결과는 항상 ZoneRules와 같습니다.
+ *
+ * 사용 예:
+ *   ZoneBatchConverter seoul = ZoneBatchConverter.of(ZoneId.of("Asia/Seoul"));
+ *   seoul.toLocal(eventMillis, epochDays, millisOfDay);   // 현지 날짜(에포크 일수)와 하루 중 밀리초
+ */
+public final class ZoneBatchConverter {
+
+    // 전환 시점을 미리 펼쳐 두는 마지막 연도 (이후는 ZoneRules로 계산)
+    static final int END_YEAR = 2100;
+    private static final long END_EPOCH_MILLIS = EpochDays.of(END_YEAR + 1, 1, 1) * 86_400_000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final Map<ZoneId, ZoneBatchConverter> CACHE = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    // starts[i] 이상 starts[i + 1] 미만의 시각은 offsetSeconds[i]를 사용 (starts[0] = Long.MIN_VALUE)
+    private final long[] starts;
+    private final int[] offsetSeconds;
+
+    private ZoneBatchConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        if (!rules.isFixedOffset()) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.MIN);
+            while (transition != null && transition.toEpochSecond() * 1000 < END_EPOCH_MILLIS) {
+                transitions.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        this.starts = new long[transitions.size() + 1];
+        this.offsetSeconds = new int[transitions.size() + 1];
+        starts[0] = Long.MIN_VALUE;
+        offsetSeconds[0] = transitions.isEmpty()
+                ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : transitions.get(0).getOffsetBefore().getTotalSeconds();
+        for (int i = 0; i < transitions.size(); i++) {
+            starts[i + 1] = transitions.get(i).toEpochSecond() * 1000;
+            offsetSeconds[i + 1] = transitions.get(i).getOffsetAfter().getTotalSeconds();
+        }
+    }
+
+    public static ZoneBatchConverter of(ZoneId zone) {
+        ZoneBatchConverter converter = CACHE.get(zone);
+        if (converter == null) {
+            converter = CACHE.computeIfAbsent(zone, ZoneBatchConverter::new);
+        }
+        return converter;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    // 미리 펼쳐 둔 전환 시점 수
+    public int getTransitionCount() {
+        return starts.length - 1;
+    }
+
+    public ZoneOffset getOffset(long epochMillis) {
+        return ZoneOffset.ofTotalSeconds(offsetSecondsAt(epochMillis, find(epochMillis, 0)));
+    }
+
+    public LocalDateTime toLocalDateTime(long epochMillis) {
+        long localMillis = epochMillis + offsetSecondsAt(epochMillis, find(epochMillis, 0)) * 1000L;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000),
+                (int) Math.floorMod(localMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 각 시각의 UTC 오프셋(초)을 offsetSecondsOut에 기록합니다.
+     */
+    public void offsets(long[] epochMillis, int[] offsetSecondsOut) {
+        checkLength(epochMillis.length, offsetSecondsOut.length);
+        int index = 0;
+        for (int i = 0; i < epochMillis.length; i++) {
+            long millis = epochMillis[i];
+            index = find(millis, index);
+            offsetSecondsOut[i] = offsetSecondsAt(millis, index);
+        }
+    }
+
+    /**
+     * 각 시각에 오프셋을 더한 현지 에포크 밀리초를 기록합니다. (UTC 기준으로 해석하면 현지 날짜/시간)
+     */
+    public void toLocalEpochMillis(long[] epochMillis, long[] localMillisOut) {
+        checkLength(epochMillis.length, localMillisOut.length);
+        int index = 0;
+        for (int i = 0; i < epochMillis.length; i++) {
+            long millis = epochMillis[i];
+            index = find(millis, index);
+            localMillisOut[i] = millis + offsetSecondsAt(millis, index) * 1000L;
+        }
+    }
+
+    /**
+     * 각 시각의 현지 날짜(에포크 일수)와 하루 중 밀리초를 기록합니다. (epochDaysOut은 DateColumn.ofEpochDays로 이어서 계산 가능)
+     */
+    public void toLocal(long[] epochMillis, int[] epochDaysOut, int[] millisOfDayOut) {
+        checkLength(epochMillis.length, epochDaysOut.length);
+        checkLength(epochMillis.length, millisOfDayOut.length);
+        int index = 0;
+        for (int i = 0; i < epochMillis.length; i++) {
+            long millis = epochMillis[i];
+            index = find(millis, index);
+            long localMillis = millis + offsetSecondsAt(millis, index) * 1000L;
+            long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+            epochDaysOut[i] = Math.toIntExact(epochDay);
+            millisOfDayOut[i] = (int) (localMillis - epochDay * MILLIS_PER_DAY);
+        }
+    }
+
+    private int offsetSecondsAt(long epochMillis, int index) {
+        if (epochMillis >= END_EPOCH_MILLIS) {
+            return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds();
+        }
+        return offsetSeconds[index];
+    }
+
+    /**
+     * epochMillis가 속한 구간의 번호 (hint 구간이나 바로 다음 구간이면 탐색 없이 반환)
+     */
+    private int find(long epochMillis, int hint) {
+        int last = starts.length - 1;
+        if (starts[hint] <= epochMillis) {
+            if (hint == last || epochMillis < starts[hint + 1]) {
+                return hint;
+            }
+            if (hint + 1 == last || epochMillis < starts[hint + 2]) {
+                return hint + 1;
+            }
+        }
+        int position = Arrays.binarySearch(starts, epochMillis);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private static void checkLength(int expected, int actual) {
+        if (actual < expected) {
+            throw new IllegalArgumentException("출력 배열의 길이가 입력보다 짧습니다: " + actual + " < " + expected);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneBatchConverter{zone=" + zone + ", transitions=" + getTransitionCount() + '}';
+    }
+}
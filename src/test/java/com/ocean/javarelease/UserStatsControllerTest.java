@@ -0,0 +1,81 @@
+package com.ocean.javarelease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserServiceImpl;
+import java8.ParallelExecution;
+
+class UserStatsControllerTest {
+
+    private static UserServiceImpl service(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new User("user" + i, i % 3 == 0 ? "admin" : "user", 20 + i % 40));
+        }
+        return new UserServiceImpl(users);
+    }
+
+    // 병렬 집계 결과가 순차 스캔과 같고, analytics 작업 부하의 완료 수에 반영되어야 함
+    @Test
+    void ageStatsMatchSequentialScanAndRunOnAnalyticsWorkload() {
+        UserServiceImpl service = service(10_000);
+        try (ParallelExecution execution = new ParallelExecution().register(UserStatsController.WORKLOAD, 2, 2)) {
+            UserStatsController controller = new UserStatsController(service, execution);
+
+            IntSummaryStatistics stats = controller.ageStats("user", 30);
+            IntSummaryStatistics expected = service.getAllUsers().stream()
+                    .filter(user -> user.getRole().equals("user") && user.getAge() >= 30)
+                    .mapToInt(User::getAge)
+                    .summaryStatistics();
+
+            assertEquals(expected.getCount(), stats.getCount());
+            assertEquals(expected.getSum(), stats.getSum());
+            assertEquals(expected.getMin(), stats.getMin());
+            assertEquals(expected.getMax(), stats.getMax());
+            assertEquals(service.getAllUsers().size(), controller.ageStats(null, null).getCount());
+            assertEquals(2, controller.metrics().get(UserStatsController.WORKLOAD).getCompleted());
+        }
+    }
+
+    @Test
+    void saturatedWorkloadIsRejectedWith503() throws Exception {
+        try (ParallelExecution execution = new ParallelExecution().register(UserStatsController.WORKLOAD, 1, 1)) {
+            UserStatsController controller = new UserStatsController(service(10), execution);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> blocker = CompletableFuture.runAsync(() ->
+                    execution.execute(UserStatsController.WORKLOAD, () -> {
+                        started.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return null;
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            RejectedExecutionException e =
+                    assertThrows(RejectedExecutionException.class, () -> controller.ageStats(null, null));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.saturated(e).getStatusCode());
+            assertEquals(1, controller.metrics().get(UserStatsController.WORKLOAD).getRejected());
+
+            release.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ocean.javarelease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserServiceImpl;
+
+class UserStreamControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static UserServiceImpl service(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new User("user" + i, i % 2 == 0 ? "admin" : "user", 20 + i % 30));
+        }
+        return new UserServiceImpl(users);
+    }
+
+    private List<JsonNode> stream(UserStreamController controller, String role, Integer minAge, int batchSize,
+                                  String resumeToken) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        controller.streamUsers(role, minAge, batchSize, resumeToken).writeTo(out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> names(List<JsonNode> lines) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode line : lines) {
+            for (JsonNode user : line.get("users")) {
+                names.add(user.get("name").asText());
+            }
+        }
+        return names;
+    }
+
+    @Test
+    void streamsFilteredUsersAsOneBatchPerLine() throws IOException {
+        UserServiceImpl service = service(100);
+        UserStreamController controller = new UserStreamController(service, objectMapper);
+
+        List<JsonNode> lines = stream(controller, "admin", 30, 4, null);
+
+        List<String> expected = service.filterUsers(user -> "admin".equals(user.getRole()) && user.getAge() >= 30)
+                .stream().map(User::getName).toList();
+        assertEquals(expected, names(lines));
+        for (JsonNode line : lines) {
+            assertTrue(line.get("users").size() <= 4, line::toString);
+            assertTrue(line.hasNonNull("resumeToken"), line::toString);
+        }
+    }
+
+    @Test
+    void resumesFromTheTokenOfAnEarlierLine() throws IOException {
+        UserStreamController controller = new UserStreamController(service(60), objectMapper);
+        List<JsonNode> all = stream(controller, null, null, 5, null);
+
+        String token = all.get(3).get("resumeToken").asText();
+        List<JsonNode> rest = stream(controller, null, null, 5, token);
+
+        assertEquals(names(all.subList(4, all.size())), names(rest));
+    }
+
+    @Test
+    void invalidParametersFailBeforeTheResponseIsWritten() {
+        UserStreamController controller = new UserStreamController(service(10), objectMapper);
+        assertThrows(IllegalArgumentException.class, () -> controller.streamUsers(null, null, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> controller.streamUsers(null, null, 1001, null));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> controller.streamUsers(null, null, 10, "bogus"));
+        assertEquals(HttpStatus.BAD_REQUEST, controller.badRequest(e).getStatusCode());
+    }
+
+    // 클라이언트 연결이 끊기면 IOException을 그대로 던지고 더 쓰지 않음
+    @Test
+    void stopsWritingWhenTheClientDisconnects() {
+        UserStreamController controller = new UserStreamController(service(100), objectMapper);
+        int[] lines = new int[1];
+        OutputStream disconnecting = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                if (b == '\n' && ++lines[0] == 2) {
+                    throw new IOException("연결 종료");
+                }
+            }
+        };
+        assertThrows(IOException.class,
+                () -> controller.streamUsers(null, null, 3, null).writeTo(disconnecting));
+        assertEquals(2, lines[0]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ocean.javarelease.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncConsoleTest {
+
+    // System.out을 바꿔 끼우고 출력한 뒤 flush까지 기록된 내용을 돌려줌
+    private static String capture(Runnable printing) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncConsole.flush();
+        System.setOut(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        try {
+            printing.run();
+            AsyncConsole.flush();
+        } finally {
+            System.setOut(original);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writesThroughSystemOutInCallOrder() {
+        String output = capture(() -> {
+            AsyncConsole.print("가");
+            AsyncConsole.print(1);
+            AsyncConsole.println();
+            AsyncConsole.println("나");
+            AsyncConsole.println(List.of(2, 3));
+            AsyncConsole.println((Object) null);
+        });
+        String separator = System.lineSeparator();
+        assertEquals("가1" + separator + "나" + separator + "[2, 3]" + separator + "null" + separator, output);
+    }
+
+    // 링 버퍼 용량보다 많은 줄을 여러 스레드에서 출력해도 빠지거나 섞이지 않음
+    @Test
+    void keepsEveryLineFromConcurrentProducers() {
+        int threads = 8;
+        int linesPerThread = 5_000;
+        String output = capture(() -> IntStream.range(0, threads).parallel().forEach(thread -> {
+            for (int i = 0; i < linesPerThread; i++) {
+                AsyncConsole.println(thread + ":" + i);
+            }
+        }));
+
+        String[] lines = output.split(System.lineSeparator());
+        assertEquals(threads * linesPerThread, lines.length);
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String[] parts = line.split(":");
+            int thread = Integer.parseInt(parts[0]);
+            Supplier<String> message = () -> "thread " + thread + " out of order: " + line;
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]), message);
+        }
+        assertTrue(Arrays.stream(next).allMatch(count -> count == linesPerThread));
+    }
+}
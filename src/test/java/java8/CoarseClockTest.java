@@ -0,0 +1,86 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+    // 스레드 스케줄링 지연 허용치 (CI 등 느린 환경 고려)
+    private static final long SLACK_MILLIS = 500;
+
+    private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static long liveTickerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("coarse-clock") && thread.isAlive())
+                .count();
+    }
+
+    @Test
+    void tickFieldsAgreeAndTrackTheSystemClock() throws InterruptedException {
+        for (String zone : new String[] {"UTC", "America/New_York", "Asia/Seoul"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            try (CoarseClock clock = CoarseClock.builder().resolution(Duration.ofMillis(5)).zone(zoneId).build()) {
+                long first = clock.millis();
+                for (int i = 0; i < 40; i++) {
+                    long before = System.currentTimeMillis();
+                    CoarseClock.Tick tick = clock.tick();
+                    long after = System.currentTimeMillis();
+
+                    LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(tick.epochMillis()), zoneId);
+                    assertEquals(expected, tick.localDateTime(), zone);
+                    assertEquals(PATTERN.format(expected), tick.formatted(), zone);
+                    assertTrue(tick.epochMillis() <= after, () -> zone + ": 미래 시각 " + tick);
+                    assertTrue(tick.epochMillis() >= before - 5 - SLACK_MILLIS,
+                            () -> zone + ": " + (before - tick.epochMillis()) + "ms 늦음");
+                    Thread.sleep(5);
+                }
+                assertTrue(clock.millis() > first, zone + ": 시각이 갱신되지 않음");
+            }
+        }
+    }
+
+    @Test
+    void closeStopsTheTickerThread() throws InterruptedException {
+        long threadsBefore = liveTickerThreads();
+        CoarseClock clock = CoarseClock.builder().resolution(Duration.ofMillis(1)).build();
+        assertEquals(threadsBefore + 1, liveTickerThreads());
+
+        clock.close();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (liveTickerThreads() > threadsBefore && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(threadsBefore, liveTickerThreads());
+
+        // 닫힌 뒤에는 마지막 값이 유지되고, 다시 닫아도 문제없음
+        long last = clock.millis();
+        Thread.sleep(50);
+        assertEquals(last, clock.millis());
+        clock.close();
+    }
+
+    @Test
+    void rejectsResolutionBelowOneMillisecond() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CoarseClock.builder().resolution(Duration.ofNanos(999_999)));
+        assertThrows(IllegalArgumentException.class, () -> CoarseClock.builder().resolution(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> CoarseClock.builder().resolution(Duration.ofMillis(-10)));
+        try (CoarseClock clock = CoarseClock.builder().resolution(Duration.ofMillis(1)).build()) {
+            assertEquals(Duration.ofMillis(1), clock.getResolution());
+        }
+        try (CoarseClock clock = CoarseClock.builder().build()) {
+            assertEquals(Duration.ofMillis(10), clock.getResolution());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentSummaryStatisticsTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 200_000;
+
+    private static int[] values(int seed, int length) {
+        Random random = new Random(seed);
+        return IntStream.range(0, length).map(i -> random.nextInt(2_000_001) - 1_000_000).toArray();
+    }
+
+    // 두 번 순회로 계산한 모분산
+    private static double variance(int[][] chunks, double mean, long count) {
+        double squares = 0;
+        for (int[] chunk : chunks) {
+            for (int value : chunk) {
+                squares += (value - mean) * (value - mean);
+            }
+        }
+        return squares / count;
+    }
+
+    private static void assertMatches(IntSummaryStatistics expected, double expectedVariance,
+            ConcurrentSummaryStatistics.Snapshot actual) {
+        assertEquals(expected.getCount(), actual.getCount(), "count");
+        assertEquals(expected.getSum(), actual.getSum(), "sum");
+        assertEquals(expected.getMin(), actual.getMin(), "min");
+        assertEquals(expected.getMax(), actual.getMax(), "max");
+        assertEquals(expected.getAverage(), actual.getAverage(), 1e-9);
+        assertEquals(expectedVariance, actual.getVariance(), expectedVariance * 1e-9);
+    }
+
+    // 셀 수보다 많은 스레드가 동시에 기록해도 순차 계산과 같은 결과
+    @Test
+    void concurrentWritersMatchSequentialStatistics() throws InterruptedException {
+        ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(2);
+        int[][] chunks = new int[THREADS][];
+        IntSummaryStatistics expected = new IntSummaryStatistics();
+        for (int t = 0; t < THREADS; t++) {
+            chunks[t] = values(t, PER_THREAD);
+            IntStream.of(chunks[t]).forEach(expected);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] writers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int[] chunk = chunks[t];
+            writers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int value : chunk) {
+                    stats.accept(value);
+                }
+            });
+            writers[t].start();
+        }
+        start.countDown();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertMatches(expected, variance(chunks, expected.getAverage(), expected.getCount()), stats.snapshot());
+    }
+
+    // 기록 중에 읽은 스냅샷도 개수와 합계, 최솟값/최댓값이 서로 맞아야 함
+    @Test
+    void snapshotsTakenDuringWritesAreInternallyConsistent() throws InterruptedException {
+        ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(4);
+        Thread[] writers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    stats.accept(7);
+                }
+            });
+            writers[t].start();
+        }
+        long previous = 0;
+        for (int i = 0; i < 1000; i++) {
+            ConcurrentSummaryStatistics.Snapshot snapshot = stats.snapshot();
+            assertEquals(snapshot.getCount() * 7, snapshot.getSum(), "sum of " + snapshot);
+            if (snapshot.getCount() > 0) {
+                assertEquals(7L, snapshot.getMin());
+                assertEquals(7L, snapshot.getMax());
+                assertEquals(0.0, snapshot.getVariance(), 0.0);
+            }
+            assertTrue(snapshot.getCount() >= previous, "count went backwards");
+            previous = snapshot.getCount();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals((long) THREADS * PER_THREAD, stats.snapshot().getCount());
+    }
+
+    @Test
+    void combineMatchesSingleInstance() {
+        int[] all = values(42, 10_000);
+        ConcurrentSummaryStatistics left = new ConcurrentSummaryStatistics(1);
+        ConcurrentSummaryStatistics right = new ConcurrentSummaryStatistics(1);
+        IntSummaryStatistics expected = new IntSummaryStatistics();
+        for (int i = 0; i < all.length; i++) {
+            (i < 3_000 ? left : right).accept(all[i]);
+            expected.accept(all[i]);
+        }
+        assertMatches(expected, variance(new int[][] {all}, expected.getAverage(), all.length),
+                left.snapshot().combine(right.snapshot()));
+    }
+
+    @Test
+    void emptyStatistics() {
+        ConcurrentSummaryStatistics.Snapshot snapshot = new ConcurrentSummaryStatistics().snapshot();
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0.0, snapshot.getAverage(), 0.0);
+        assertEquals(0.0, snapshot.getVariance(), 0.0);
+    }
+
+    @Test
+    void rejectsNonPositiveStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSummaryStatistics(0));
+    }
+}
@@ -0,0 +1,133 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+class DateColumnTest {
+
+    private static final int SIZE = 20_000;
+
+    // 기원전과 9999년 이후를 포함하고, 월말과 윤일이 자주 나오도록 섞은 날짜
+    private static LocalDate[] randomDates(long seed) {
+        Random random = new Random(seed);
+        LocalDate[] dates = new LocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int year = switch (random.nextInt(4)) {
+                case 0 -> -5000 + random.nextInt(10_000);
+                case 1 -> 9000 + random.nextInt(2000);
+                default -> 1900 + random.nextInt(200);
+            };
+            int month = 1 + random.nextInt(12);
+            LocalDate first = LocalDate.of(year, month, 1);
+            int day = random.nextBoolean() ? first.lengthOfMonth() : 1 + random.nextInt(first.lengthOfMonth());
+            dates[i] = first.withDayOfMonth(day);
+        }
+        return dates;
+    }
+
+    private static void assertColumn(LocalDate[] dates, UnaryOperator<LocalDate> expected, DateColumn actual) {
+        assertEquals(dates.length, actual.size());
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(expected.apply(dates[i]), actual.get(i), "index " + i + ": " + dates[i]);
+        }
+    }
+
+    @Test
+    void storesDatesAsEpochDays() {
+        LocalDate[] dates = randomDates(1);
+        DateColumn column = new DateColumn(0);
+        for (LocalDate date : dates) {
+            column.add(date);
+        }
+        assertColumn(dates, date -> date, column);
+        assertEquals(dates[0].toEpochDay(), column.getEpochDay(0));
+        assertColumn(dates, date -> date, DateColumn.ofEpochDays(column.toEpochDayArray()));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(SIZE));
+    }
+
+    @Test
+    void plusDaysMatchesLocalDate() {
+        LocalDate[] dates = randomDates(2);
+        DateColumn column = DateColumn.of(dates);
+        for (long days : new long[] {0, 1, -1, 59, -366, 146_097, -1_000_000}) {
+            assertColumn(dates, date -> date.plusDays(days), column.plusDays(days));
+        }
+    }
+
+    @Test
+    void plusMonthsClampsToEndOfMonth() {
+        LocalDate[] dates = randomDates(3);
+        DateColumn column = DateColumn.of(dates);
+        for (long months : new long[] {0, 1, -1, 11, 12, 13, -25, 1200, -4800}) {
+            assertColumn(dates, date -> date.plusMonths(months), column.plusMonths(months));
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), DateColumn.of(LocalDate.of(2024, 1, 31)).plusMonths(1).get(0));
+        assertEquals(LocalDate.of(2023, 2, 28), DateColumn.of(LocalDate.of(2024, 2, 29)).plusMonths(-12).get(0));
+    }
+
+    @Test
+    void adjustersMatchTemporalAdjusters() {
+        LocalDate[] dates = randomDates(4);
+        DateColumn column = DateColumn.of(dates);
+        assertColumn(dates, date -> date.with(TemporalAdjusters.firstDayOfMonth()), column.firstDayOfMonth());
+        assertColumn(dates, date -> date.with(TemporalAdjusters.lastDayOfMonth()), column.lastDayOfMonth());
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            TemporalAdjuster next = TemporalAdjusters.next(dayOfWeek);
+            TemporalAdjuster nextOrSame = TemporalAdjusters.nextOrSame(dayOfWeek);
+            assertColumn(dates, date -> date.with(next), column.next(dayOfWeek));
+            assertColumn(dates, date -> date.with(nextOrSame), column.nextOrSame(dayOfWeek));
+        }
+    }
+
+    @Test
+    void daysBetweenMatchesChronoUnit() {
+        LocalDate[] starts = randomDates(5);
+        LocalDate[] ends = randomDates(6);
+        LongColumn between = DateColumn.of(starts).daysBetween(DateColumn.of(ends));
+        LocalDate pivot = LocalDate.of(2000, 2, 29);
+        LongColumn toPivot = DateColumn.of(starts).daysBetween(pivot);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(ChronoUnit.DAYS.between(starts[i], ends[i]), between.get(i));
+            assertEquals(ChronoUnit.DAYS.between(starts[i], pivot), toPivot.get(i));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> DateColumn.of(starts).daysBetween(DateColumn.of(LocalDate.EPOCH)));
+    }
+
+    @Test
+    void operationsDoNotModifySource() {
+        LocalDate[] dates = randomDates(7);
+        DateColumn column = DateColumn.of(dates);
+        int[] before = column.toEpochDayArray();
+        column.plusDays(10);
+        column.plusMonths(3);
+        column.lastDayOfMonth();
+        column.next(DayOfWeek.MONDAY);
+        assertArrayEquals(before, column.toEpochDayArray());
+    }
+
+    @Test
+    void rejectsResultsOutsideIntEpochDays() {
+        DateColumn column = DateColumn.ofEpochDays(Integer.MAX_VALUE - 1, 0);
+        assertThrows(DateTimeException.class, () -> column.plusDays(2));
+        assertThrows(DateTimeException.class, () -> column.plusDays(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> DateColumn.ofEpochDays(Integer.MIN_VALUE).plusDays(Long.MIN_VALUE));
+        assertThrows(DateTimeException.class, () -> column.plusMonths(12));
+        assertThrows(DateTimeException.class, () -> column.plusMonths(Long.MAX_VALUE));
+        assertThrows(DateTimeException.class, () -> DateColumn.ofEpochDays(Integer.MAX_VALUE).next(DayOfWeek.MONDAY));
+        assertThrows(DateTimeException.class, () -> new DateColumn().add(LocalDate.MAX));
+        assertThrows(IllegalArgumentException.class, () -> new DateColumn(-1));
+    }
+}
@@ -0,0 +1,71 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class DistinctTokenSetTest {
+
+    // 작은 초기 크기에서 시작해 엔트리 배열과 해시 테이블이 여러 번 늘어나도 HashSet과 같은 결과
+    @Test
+    void matchesHashSetThroughGrowth() {
+        Random random = new Random(3);
+        DistinctTokenSet set = new DistinctTokenSet(0);
+        Set<String> expected = new LinkedHashSet<>();
+        for (int line = 0; line < 2_000; line++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 20; i++) {
+                text.append(' ').append("w").append(random.nextInt(30_000));
+            }
+            String lineText = text.toString();
+            int before = expected.size();
+            for (String token : lineText.trim().split(" ")) {
+                expected.add(token);
+            }
+            assertEquals(expected.size() - before, set.addAll(lineText), "line " + line);
+            assertEquals(expected.size(), set.size());
+        }
+        assertEquals(new ArrayList<>(expected), set.toList());
+        for (String token : expected) {
+            assertTrue(set.contains(token), token);
+        }
+        assertFalse(set.contains("w30000"));
+        assertFalse(set.contains("w"));
+    }
+
+    // 해시가 같은 서로 다른 토큰 ("Aa"와 "BB")도 구별
+    @Test
+    void distinguishesHashCollisions() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        DistinctTokenSet set = new DistinctTokenSet();
+        assertEquals(3, set.addAll("Aa BB AaAa BB Aa"));
+        assertEquals(2, set.addAll("BBBB AaBB AaAa"));
+        assertEquals(List.of("Aa", "BB", "AaAa", "BBBB", "AaBB"), set.toList());
+        assertTrue(set.contains("AaBB"));
+        assertFalse(set.contains("BBAa"));
+    }
+
+    @Test
+    void emptyAndBlankTexts() {
+        DistinctTokenSet set = new DistinctTokenSet();
+        assertEquals(0, set.addAll(""));
+        assertEquals(0, set.addAll("   \t\n"));
+        assertEquals(0, set.size());
+        assertEquals(List.of(), set.toList());
+        assertFalse(set.contains(""));
+    }
+
+    @Test
+    void rejectsNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DistinctTokenSet(-1));
+    }
+}
@@ -0,0 +1,46 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleColumnTest {
+
+    @Test
+    void aggregatesMatchDoubleStream() {
+        double[] values = new Random(3).doubles(100_001, -1_000, 1_000).toArray();
+        DoubleColumn column = DoubleColumn.of(values);
+        assertEquals(values.length, column.size());
+        // 합계 순서가 다를 수 있으므로 반올림 오차 허용
+        assertEquals(DoubleStream.of(values).sum(), column.sum(), 1e-6);
+        assertEquals(column.sum(), column.parallelStream().sum(), 1e-6);
+        assertEquals(DoubleStream.of(values).filter(v -> v > 500).count(), column.count(v -> v > 500));
+        assertEquals(column.count(v -> v > 500), column.parallelCount(v -> v > 500));
+    }
+
+    @Test
+    void addGrowsAndChecksIndexes() {
+        DoubleColumn column = new DoubleColumn(0);
+        for (int i = 0; i < 100; i++) {
+            column.add(i / 2.0);
+        }
+        assertEquals(49.5, column.get(99), 0.0);
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(100));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleColumn(-1));
+    }
+
+    @Test
+    void spliteratorCharacteristics() {
+        Spliterator.OfDouble spliterator = DoubleColumn.of(1, 2, 3).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+    }
+}
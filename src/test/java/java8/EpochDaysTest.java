@@ -0,0 +1,56 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class EpochDaysTest {
+
+    private static void assertMatches(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        long civil = EpochDays.toCivil(epochDay);
+        assertEquals(date.getYear(), EpochDays.year(civil), () -> "year of " + date);
+        assertEquals(date.getMonthValue(), EpochDays.month(civil), () -> "month of " + date);
+        assertEquals(date.getDayOfMonth(), EpochDays.day(civil), () -> "day of " + date);
+        assertEquals(epochDay, EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()),
+                () -> "epoch day of " + date);
+    }
+
+    // 0001-01-01 이전(기원전)부터 9999년 이후까지 하루도 빠짐없이 비교
+    @Test
+    void everyDayFromMinus2000To12000() {
+        long from = LocalDate.of(-2000, 1, 1).toEpochDay();
+        long to = LocalDate.of(12000, 12, 31).toEpochDay();
+        for (long epochDay = from; epochDay <= to; epochDay++) {
+            assertMatches(epochDay);
+        }
+    }
+
+    @Test
+    void randomDaysAcrossLocalDateRange() {
+        Random random = new Random(22);
+        long min = LocalDate.MIN.toEpochDay();
+        long max = LocalDate.MAX.toEpochDay();
+        for (int i = 0; i < 200_000; i++) {
+            assertMatches(min + (long) (random.nextDouble() * (max - min)));
+        }
+        assertMatches(min);
+        assertMatches(max);
+    }
+
+    @Test
+    void leapYearsAndMonthLengths() {
+        for (int year = -1000; year <= 3000; year++) {
+            assertEquals(Year.isLeap(year), EpochDays.isLeapYear(year), "leap " + year);
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(YearMonth.of(year, month).lengthOfMonth(), EpochDays.lengthOfMonth(year, month),
+                        year + "-" + month);
+            }
+        }
+    }
+}
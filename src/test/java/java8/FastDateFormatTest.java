@@ -0,0 +1,152 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class FastDateFormatTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "uuuu/MM/dd'T'HH:mm:ss.SSSSSSSSS",
+            "yyyyMMddHHmmssS",
+            "yyyy년 MM월 dd일 HH시 mm분",
+            "'at' HH 'o''clock' mm:ss");
+
+    private static LocalDateTime randomDateTime(Random random, int minYear, int maxYear) {
+        long from = LocalDate.of(minYear, 1, 1).toEpochDay();
+        long to = LocalDate.of(maxYear, 12, 31).toEpochDay();
+        LocalDate date = LocalDate.ofEpochDay(from + (long) (random.nextDouble() * (to - from + 1)));
+        long nanoOfDay = (long) (random.nextDouble() * 86_400_000_000_000L);
+        // 소수 초 끝자리 0 생략을 확인하기 위해 일부는 밀리초/초 단위로 자름
+        nanoOfDay -= switch (random.nextInt(3)) {
+            case 0 -> nanoOfDay % 1_000_000;
+            case 1 -> nanoOfDay % 1_000_000_000;
+            default -> 0;
+        };
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    private static String format(FastDateFormat format, LocalDateTime dateTime) {
+        byte[] buffer = new byte[format.maxLength() + 16];
+        int end = format.format(dateTime, buffer, 3);
+        return new String(buffer, 3, end - 3, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void matchesDateTimeFormatter() {
+        Random random = new Random(21);
+        for (String pattern : PATTERNS) {
+            FastDateFormat format = FastDateFormat.of(pattern);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern);
+            for (int i = 0; i < 20_000; i++) {
+                LocalDateTime dateTime = randomDateTime(random, 1, 9999);
+                assertEquals(expected.format(dateTime), format(format, dateTime), pattern);
+                assertEquals(expected.format(dateTime), format.format(dateTime), pattern);
+            }
+        }
+    }
+
+    @Test
+    void isoConstantsMatchDateTimeFormatter() {
+        Random random = new Random(22);
+        for (int i = 0; i < 50_000; i++) {
+            LocalDateTime dateTime = randomDateTime(random, 1, 9999);
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime),
+                    format(FastDateFormat.ISO_LOCAL_DATE_TIME, dateTime));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime),
+                    format(FastDateFormat.ISO_LOCAL_DATE, dateTime));
+            assertEquals(DateTimeFormatter.ISO_LOCAL_TIME.format(dateTime.toLocalTime()),
+                    formatTime(FastDateFormat.ISO_LOCAL_TIME, dateTime.toLocalTime()));
+        }
+    }
+
+    private static String formatTime(FastDateFormat format, LocalTime time) {
+        byte[] buffer = new byte[format.maxLength()];
+        return new String(buffer, 0, format.format(time, buffer, 0), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void leapDaysAndMonthBoundaries() {
+        FastDateFormat format = FastDateFormat.of("yyyy-MM-dd");
+        for (LocalDate date : List.of(LocalDate.of(2000, 2, 29), LocalDate.of(2024, 2, 29), LocalDate.of(1900, 2, 28),
+                LocalDate.of(1900, 3, 1), LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31))) {
+            byte[] buffer = new byte[format.maxLength()];
+            int end = format.format(date, buffer, 0);
+            assertEquals(date.toString(), new String(buffer, 0, end, StandardCharsets.US_ASCII));
+        }
+    }
+
+    // 1~9999를 벗어난 연도는 DateTimeFormatter로 포맷 (기원전 연도의 yyyy는 연대 기준, uuuu는 부호 포함)
+    @Test
+    void yearsOutsideFourDigitsFallBackToDateTimeFormatter() {
+        Random random = new Random(23);
+        for (String pattern : List.of("yyyy-MM-dd HH:mm:ss.SSS", "uuuu-MM-dd")) {
+            FastDateFormat format = FastDateFormat.of(pattern);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern);
+            for (int year : new int[] {-100_000, -1, 0, 10_000, 999_999}) {
+                LocalDateTime dateTime = randomDateTime(random, year, year);
+                assertEquals(expected.format(dateTime), format(format, dateTime), pattern + " " + year);
+            }
+        }
+        LocalDateTime bce = LocalDateTime.of(-44, 3, 15, 12, 0);
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(bce), FastDateFormat.ISO_LOCAL_DATE_TIME.format(bce));
+    }
+
+    @Test
+    void epochMillisMatchesOffsetDateTime() {
+        Random random = new Random(24);
+        FastDateFormat format = FastDateFormat.of("yyyy-MM-dd HH:mm:ss.SSS");
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+        byte[] buffer = new byte[format.maxLength()];
+        for (int i = 0; i < 50_000; i++) {
+            long epochMillis = random.nextLong() % 4_000_000_000_000L;
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(37) - 18) * 1800);
+            int end = format.format(epochMillis, offset, buffer, 0);
+            assertEquals(expected.format(Instant.ofEpochMilli(epochMillis).atOffset(offset)),
+                    new String(buffer, 0, end, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void quotedTextFollowsDateTimeFormatterRules() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 5, 6, 7, 8, 9);
+        for (String pattern : List.of("HH 'o''clock'", "''HH''", "'''quoted'''", "'it''s' yyyy", "yyyy'-'MM")) {
+            assertEquals(DateTimeFormatter.ofPattern(pattern).format(dateTime),
+                    FastDateFormat.of(pattern).format(dateTime), pattern);
+        }
+        assertEquals("07 o'clock", FastDateFormat.of("HH 'o''clock'").format(dateTime));
+        assertEquals("[2024]", FastDateFormat.of("'['yyyy']'").format(dateTime));
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        for (String pattern : List.of("yyyy[-MM]", "yyyy]", "yyyy{", "#HH", "yyyy-MM-dd 'open", "yy-MM-dd", "EEE")) {
+            assertThrows(IllegalArgumentException.class, () -> FastDateFormat.of(pattern), pattern);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> FastDateFormat.of("HH:mm").format(LocalDate.of(2024, 1, 1), new byte[16], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> FastDateFormat.of("yyyy-MM-dd").format(LocalTime.NOON, new byte[16], 0));
+    }
+
+    @Test
+    void registryReturnsSameInstance() {
+        assertSame(FastDateFormat.of("yyyy/MM/dd"), FastDateFormat.of("yyyy/MM/dd"));
+        assertTrue(FastDateFormat.of("yyyy-MM-dd HH:mm:ss.SSS").maxLength() >= 23);
+    }
+}
@@ -0,0 +1,118 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class FastDateParserTest {
+
+    private static final List<DateTimeFormatter> FALLBACKS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.withResolverStyle(ResolverStyle.LENIENT),
+            DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm"),
+            DateTimeFormatter.ofPattern("dd.MM.uuuu"));
+
+    // 세 고정 형식과 그 변형 (범위를 벗어난 값, 윤년이 아닌 해의 2월 29일, 0년, 잘린 소수 초 등)
+    private static List<String> inputs(Random random) {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            int year = random.nextInt(10) == 0 ? random.nextInt(3) : 1 + random.nextInt(9999);
+            int month = random.nextInt(10) == 0 ? 13 : 1 + random.nextInt(12);
+            int day = random.nextInt(5) == 0 ? 28 + random.nextInt(4) : 1 + random.nextInt(28);
+            int hour = random.nextInt(20) == 0 ? 24 : random.nextInt(24);
+            int minute = random.nextInt(60);
+            int second = random.nextInt(20) == 0 ? 60 : random.nextInt(60);
+            String date = String.format("%04d-%02d-%02d", year, month, day);
+            String fraction = "123456789".substring(0, random.nextInt(10));
+            inputs.add(date);
+            inputs.add(date + String.format("T%02d:%02d", hour, minute));
+            inputs.add(date + String.format("T%02d:%02d:%02d", hour, minute, second));
+            inputs.add(date + String.format("T%02d:%02d:%02d.", hour, minute, second) + fraction);
+            inputs.add(date.replace('-', '/') + String.format(" %02d:%02d:%02d", hour, minute, second));
+            inputs.add(date + String.format(" %02d:%02d", hour, minute));
+            inputs.add(String.format("%02d.%02d.%04d", day, month, year));
+        }
+        inputs.addAll(List.of("2024-02-29", "2023-02-29", "2000-02-29T00:00", "1900-02-29T00:00",
+                "2023-06-15t14:30", "2023-06-15T14:30:00.", "2023-06-15T1a:30", "2023/06/15"));
+        return inputs;
+    }
+
+    @Test
+    void parseLocalDateTimeMatchesFallback() {
+        for (DateTimeFormatter fallback : FALLBACKS) {
+            for (String text : inputs(new Random(1))) {
+                assertSameOutcome(() -> LocalDateTime.parse(text, fallback),
+                        () -> FastDateParser.parseLocalDateTime(text, fallback), text, fallback);
+            }
+        }
+    }
+
+    @Test
+    void parseLocalDateMatchesFallback() {
+        for (DateTimeFormatter fallback : FALLBACKS) {
+            for (String text : inputs(new Random(2))) {
+                assertSameOutcome(() -> LocalDate.parse(text, fallback),
+                        () -> FastDateParser.parseLocalDate(text, fallback), text, fallback);
+            }
+        }
+    }
+
+    @Test
+    void parseEpochSecondMatchesFallback() {
+        ZoneOffset offset = ZoneOffset.ofHoursMinutes(5, 30);
+        for (DateTimeFormatter fallback : FALLBACKS) {
+            for (String text : inputs(new Random(3))) {
+                String line = "[" + text + "] INFO";
+                assertSameOutcome(() -> {
+                    TemporalAccessor parsed = fallback.parseBest(text, LocalDateTime::from, LocalDate::from);
+                    LocalDateTime dateTime = parsed instanceof LocalDate date
+                            ? date.atStartOfDay() : (LocalDateTime) parsed;
+                    return dateTime.toEpochSecond(offset);
+                }, () -> FastDateParser.parseEpochSecond(line, 1, 1 + text.length(), offset, fallback),
+                        text, fallback);
+            }
+        }
+    }
+
+    @Test
+    void defaultsUseIsoFormatters() {
+        assertEquals(LocalDate.of(2024, 2, 29), FastDateParser.parseLocalDate("2024-02-29"));
+        assertEquals(LocalDateTime.of(2023, 6, 15, 14, 30, 0, 250_000_000),
+                FastDateParser.parseLocalDateTime("2023-06-15T14:30:00.25"));
+        assertEquals(LocalDateTime.of(2023, 6, 15, 5, 30).toEpochSecond(ZoneOffset.UTC),
+                FastDateParser.parseEpochSecond("2023-06-15T14:30", ZoneOffset.ofHours(9)));
+        // ISO 날짜/시간 포맷터가 받지 않는 형식은 기본 메서드에서도 받지 않음
+        assertThrows(DateTimeParseException.class, () -> FastDateParser.parseLocalDateTime("2023/06/15 14:30:00"));
+        assertThrows(DateTimeParseException.class, () -> FastDateParser.parseEpochSecond("2023-06-15", ZoneOffset.UTC));
+    }
+
+    private static void assertSameOutcome(Supplier<Object> expected, Supplier<Object> actual,
+                                          String text, DateTimeFormatter fallback) {
+        Object expectedValue;
+        try {
+            expectedValue = expected.get();
+        } catch (DateTimeException e) {
+            assertThrows(DateTimeException.class, actual::get, () -> text + " / " + fallback);
+            return;
+        }
+        assertEquals(expectedValue, actual.get(), () -> text + " / " + fallback);
+    }
+}
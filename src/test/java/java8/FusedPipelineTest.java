@@ -0,0 +1,161 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java8.StreamApiExample.Student;
+
+class FusedPipelineTest {
+
+    private static final String[] GENDERS = {"남성", "여성"};
+
+    private static List<Student> students(int count) {
+        Random random = new Random(10);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new Student("학생" + i, 17 + random.nextInt(4), GENDERS[random.nextInt(2)],
+                    random.nextInt(101)));
+        }
+        return students;
+    }
+
+    // ArrayList(get 루프), LinkedList(배열 복사), 배열 입력이 모두 같은 결과
+    private static <R> void assertAllSources(R expected, FusedPipeline.Compiled<Student, R> pipeline,
+                                             List<Student> students) {
+        assertEquals(expected, pipeline.apply(students));
+        assertEquals(expected, pipeline.apply(new LinkedList<>(students)));
+        assertEquals(expected, pipeline.apply(students.toArray()));
+    }
+
+    @Test
+    void filterFilterMapToIntSumMatchesStream() {
+        List<Student> students = students(5_000);
+        FusedPipeline.Compiled<Student, Long> fused = FusedPipeline.<Student>start()
+                .filter(student -> student.getAge() == 19)
+                .filter(student -> "남성".equals(student.getGender()))
+                .mapToInt(Student::getScore)
+                .sum();
+        long expected = students.stream()
+                .filter(student -> student.getAge() == 19)
+                .filter(student -> "남성".equals(student.getGender()))
+                .mapToInt(Student::getScore)
+                .sum();
+        assertAllSources(expected, fused, students);
+    }
+
+    @Test
+    void mapFilterCountMatchesStream() {
+        List<Student> students = students(3_000);
+        FusedPipeline.Compiled<Student, Long> fused = FusedPipeline.<Student>start()
+                .map(Student::getName)
+                .filter(name -> name.endsWith("7"))
+                .count();
+        long expected = students.stream().map(Student::getName).filter(name -> name.endsWith("7")).count();
+        assertAllSources(expected, fused, students);
+    }
+
+    @Test
+    void intStagesMatchStream() {
+        List<Student> students = students(3_000);
+        FusedPipeline.Compiled<Student, Long> sum = FusedPipeline.<Student>start()
+                .mapToInt(Student::getScore)
+                .filter(score -> score % 3 == 0)
+                .map(score -> score * 2 + 1)
+                .sum();
+        long expectedSum = students.stream()
+                .mapToInt(Student::getScore)
+                .filter(score -> score % 3 == 0)
+                .map(score -> score * 2 + 1)
+                .asLongStream()
+                .sum();
+        assertAllSources(expectedSum, sum, students);
+
+        FusedPipeline.Compiled<Student, Long> count = FusedPipeline.<Student>start()
+                .mapToInt(Student::getAge)
+                .filter(age -> age >= 18)
+                .count();
+        long expectedCount = students.stream().mapToInt(Student::getAge).filter(age -> age >= 18).count();
+        assertAllSources(expectedCount, count, students);
+    }
+
+    @Test
+    void reduceMatchesStream() {
+        List<Student> students = students(2_000);
+        FusedPipeline.Compiled<Student, String> longestName = FusedPipeline.<Student>start()
+                .filter(student -> student.getScore() > 90)
+                .map(Student::getName)
+                .reduce("", (a, b) -> b.length() >= a.length() ? b : a);
+        String expected = students.stream()
+                .filter(student -> student.getScore() > 90)
+                .map(Student::getName)
+                .reduce("", (a, b) -> b.length() >= a.length() ? b : a);
+        assertAllSources(expected, longestName, students);
+
+        // 조건에 맞는 요소가 없으면 identity
+        FusedPipeline.Compiled<Student, Integer> none = FusedPipeline.<Student>start()
+                .filter(student -> student.getAge() > 100)
+                .map(Student::getScore)
+                .reduce(-1, Integer::sum);
+        assertAllSources(-1, none, students);
+    }
+
+    @Test
+    void forEachVisitsMatchingElementsInOrder() {
+        List<Student> students = students(1_000);
+        List<String> visited = new ArrayList<>();
+        long count = FusedPipeline.<Student>start()
+                .filter(student -> "여성".equals(student.getGender()))
+                .forEach(student -> visited.add(student.getName()))
+                .apply(students);
+        List<String> expected = students.stream()
+                .filter(student -> "여성".equals(student.getGender()))
+                .map(Student::getName)
+                .collect(Collectors.toList());
+        assertEquals(expected, visited);
+        assertEquals(expected.size(), count);
+    }
+
+    @Test
+    void emptySource() {
+        FusedPipeline.Compiled<Student, Long> sum = FusedPipeline.<Student>start().mapToInt(Student::getScore).sum();
+        assertAllSources(0L, sum, List.of());
+    }
+
+    private static FusedPipeline.Compiled<Student, Long> scoresAbove(int threshold) {
+        return FusedPipeline.<Student>start()
+                .filter(student -> student.getScore() > threshold)
+                .mapToInt(Student::getScore)
+                .sum();
+    }
+
+    // 같은 위치의 람다는 캡처 값이 달라도 같은 생성 클래스를 재사용하고, 구성이 다르면 다른 클래스
+    @Test
+    void sameShapeReusesTheGeneratedClass() {
+        List<Student> students = students(2_000);
+        FusedPipeline.Compiled<Student, Long> above50 = scoresAbove(50);
+        FusedPipeline.Compiled<Student, Long> above80 = scoresAbove(80);
+
+        assertSame(above50.kernelClass(), above80.kernelClass());
+        assertEquals(students.stream().mapToInt(Student::getScore).filter(score -> score > 50).asLongStream().sum(),
+                above50.apply(students));
+        assertEquals(students.stream().mapToInt(Student::getScore).filter(score -> score > 80).asLongStream().sum(),
+                above80.apply(students));
+
+        FusedPipeline.Compiled<Student, Long> other = FusedPipeline.<Student>start()
+                .filter(student -> student.getAge() > 18)
+                .mapToInt(Student::getScore)
+                .sum();
+        assertNotSame(above50.kernelClass(), other.kernelClass());
+        assertTrue(above50.kernelClass().isHidden());
+    }
+}
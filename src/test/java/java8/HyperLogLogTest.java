@@ -0,0 +1,80 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    // 표준 오차의 3배 (해시가 고정되어 있으므로 결과는 매번 같음)
+    private static void assertWithinBound(HyperLogLog hll, long actual) {
+        double error = Math.abs(hll.estimate() - actual) / (double) actual;
+        double bound = 3 * hll.getStandardError();
+        assertTrue(error <= bound, () -> "precision " + hll.getPrecision() + ", n=" + actual
+                + ": estimate " + hll.estimate() + " (error " + error + " > " + bound + ")");
+    }
+
+    @Test
+    void estimateStaysWithinStandardErrorBound() {
+        for (int precision : new int[] {10, 12, 14}) {
+            HyperLogLog hll = new HyperLogLog(precision);
+            int added = 0;
+            for (int n : new int[] {100, 1_000, 10_000, 100_000, 1_000_000}) {
+                for (; added < n; added++) {
+                    hll.add("user-" + added);
+                }
+                assertWithinBound(hll, n);
+            }
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeTheEstimate() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (int i = 0; i < 50_000; i++) {
+            hll.add("token" + i);
+        }
+        long estimate = hll.estimate();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50_000; i++) {
+                hll.add("token" + i);
+            }
+        }
+        assertEquals(estimate, hll.estimate());
+        assertWithinBound(hll, 50_000);
+    }
+
+    @Test
+    void rangeAddMatchesStringAdd() {
+        String text = "xx alpha yy";
+        HyperLogLog range = new HyperLogLog(8);
+        HyperLogLog whole = new HyperLogLog(8);
+        range.add(text, 3, 8);
+        whole.add("alpha");
+        assertEquals(whole.estimate(), range.estimate());
+        assertEquals(1, whole.estimate());
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog left = new HyperLogLog(14);
+        HyperLogLog right = new HyperLogLog(14);
+        for (int i = 0; i < 60_000; i++) {
+            left.add("id" + i);
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            right.add("id" + i);
+        }
+        assertWithinBound(left.merge(right), 100_000);
+    }
+
+    @Test
+    void rejectsInvalidPrecisionAndMismatchedMerge() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MIN_PRECISION - 1));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(12)));
+        assertEquals(0, new HyperLogLog(10).estimate());
+    }
+}
@@ -0,0 +1,80 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class IntColumnTest {
+
+    @Test
+    void rangeMatchesIntStreamRange() {
+        int[][] ranges = {{0, 0}, {5, 3}, {-10, 10}, {0, 100_000},
+                {Integer.MAX_VALUE - 3, Integer.MAX_VALUE}, {Integer.MIN_VALUE, Integer.MIN_VALUE + 3}};
+        for (int[] range : ranges) {
+            assertArrayEquals(IntStream.range(range[0], range[1]).toArray(),
+                    IntColumn.range(range[0], range[1]).toArray(), range[0] + ".." + range[1]);
+        }
+    }
+
+    // end - start가 int 범위를 넘는 경우 음수 용량 대신 IllegalArgumentException
+    @Test
+    void rejectsRangesWiderThanAnArray() {
+        assertThrows(IllegalArgumentException.class, () -> IntColumn.range(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> IntColumn.range(-2, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new IntColumn(-1));
+    }
+
+    @Test
+    void addGrowsAndKeepsValues() {
+        IntColumn column = new IntColumn(0);
+        for (int i = 0; i < 1_000; i++) {
+            column.add(i * 3);
+        }
+        column.addAll(7, 8, 9);
+        assertEquals(1_003, column.size());
+        assertEquals(2_997, column.get(999));
+        assertEquals(9, column.get(1_002));
+        column.set(0, -1);
+        assertEquals(-1, column.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(1_003));
+        column.trimToSize();
+        assertEquals(1_003, column.toArray().length);
+        column.clear();
+        assertTrue(column.isEmpty());
+    }
+
+    @Test
+    void parallelAggregatesMatchSequential() {
+        Random random = new Random(1);
+        int[] values = random.ints(200_001, -1_000_000, 1_000_000).toArray();
+        IntColumn column = IntColumn.of(values);
+        assertEquals(IntStream.of(values).asLongStream().sum(), column.sum());
+        assertEquals(column.sum(), column.parallelStream().asLongStream().sum());
+        assertEquals(IntStream.of(values).filter(v -> v % 3 == 0).count(), column.count(v -> v % 3 == 0));
+        assertEquals(column.count(v -> v % 3 == 0), column.parallelCount(v -> v % 3 == 0));
+    }
+
+    // 병렬 분할에 필요한 SIZED/SUBSIZED는 보고하고, set/add로 바뀔 수 있으므로 IMMUTABLE은 보고하지 않음
+    @Test
+    void spliteratorCharacteristics() {
+        IntColumn column = IntColumn.range(0, 1_000);
+        column.add(1_000);
+        Spliterator.OfInt spliterator = column.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(1_001, spliterator.getExactSizeIfKnown());
+
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        assertEquals(1_001, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+    }
+}
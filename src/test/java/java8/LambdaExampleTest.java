@@ -0,0 +1,66 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import java8.LambdaExample.Calculator;
+
+class LambdaExampleTest {
+
+    private static final List<Calculator> BUILT_INS = List.of(
+            Calculator.add(), Calculator.subtract(), Calculator.multiply(),
+            Calculator.scale(3), Calculator.scale(-7));
+
+    private static int[] random(Random random, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            // 오버플로도 calculate와 같게 감싸지는지 확인하도록 전체 범위 사용
+            values[i] = i % 5 == 0 ? random.nextInt() : random.nextInt(2001) - 1000;
+        }
+        return values;
+    }
+
+    // 벡터 길이의 배수가 아닌 길이(나머지 스칼라 구간)를 포함해 요소별 calculate와 같은 결과
+    @Test
+    void calculateAllMatchesCalculateForEveryLength() {
+        Random random = new Random(11);
+        for (int length = 0; length <= 133; length++) {
+            int[] a = random(random, length);
+            int[] b = random(random, length);
+            for (Calculator calculator : BUILT_INS) {
+                int[] expected = new int[length];
+                for (int i = 0; i < length; i++) {
+                    expected[i] = calculator.calculate(a[i], b[i]);
+                }
+                int[] actual = new int[length];
+                calculator.calculateAll(a, b, actual);
+                assertArrayEquals(expected, actual, "length " + length);
+            }
+        }
+    }
+
+    @Test
+    void lambdaCalculatorsUseTheElementwiseFallback() {
+        Calculator lambda = (a, b) -> Math.max(a, b) - Math.min(a, b);
+        int[] a = {1, 9, -4, 7, 0};
+        int[] b = {5, 2, 4, 7, -3};
+        int[] out = new int[a.length];
+        lambda.calculateAll(a, b, out);
+        assertArrayEquals(new int[] {4, 7, 8, 0, 3}, out);
+    }
+
+    @Test
+    void rejectsMismatchedLengths() {
+        for (Calculator calculator : List.of(Calculator.add(), Calculator.scale(2), (a, b) -> a)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculateAll(new int[3], new int[4], new int[3]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculateAll(new int[3], new int[3], new int[2]));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LongColumnTest {
+
+    @Test
+    void rangeMatchesLongStreamRange() {
+        long[][] ranges = {{0, 0}, {5, 3}, {-10, 10}, {Long.MAX_VALUE - 3, Long.MAX_VALUE},
+                {Long.MIN_VALUE, Long.MIN_VALUE + 3}, {Integer.MAX_VALUE - 2L, Integer.MAX_VALUE + 2L}};
+        for (long[] range : ranges) {
+            assertArrayEquals(LongStream.range(range[0], range[1]).toArray(),
+                    LongColumn.range(range[0], range[1]).toArray(), range[0] + ".." + range[1]);
+        }
+    }
+
+    // end - start가 long 범위를 넘으면 빈 컬럼이 아니라 IllegalArgumentException
+    @Test
+    void rejectsRangesWiderThanAnArray() {
+        assertThrows(IllegalArgumentException.class, () -> LongColumn.range(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> LongColumn.range(0, 1L << 40));
+    }
+
+    @Test
+    void parallelAggregatesMatchSequential() {
+        long[] values = new Random(2).longs(100_001, -1L << 40, 1L << 40).toArray();
+        LongColumn column = LongColumn.of(values);
+        assertEquals(LongStream.of(values).sum(), column.sum());
+        assertEquals(column.sum(), column.parallelStream().sum());
+        assertEquals(LongStream.of(values).filter(v -> v > 0).count(), column.parallelCount(v -> v > 0));
+        assertEquals(column.count(v -> v > 0), column.parallelCount(v -> v > 0));
+    }
+
+    @Test
+    void spliteratorCharacteristics() {
+        Spliterator.OfLong spliterator = LongColumn.range(0, 100).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(100, spliterator.getExactSizeIfKnown());
+    }
+}
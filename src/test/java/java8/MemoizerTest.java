@@ -0,0 +1,196 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class MemoizerTest {
+
+    private Memoizer<Integer, Long> fibonacci;
+
+    @Test
+    void cachesResultsAndCountsHits() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer<Integer, Integer> square = Memoizer.builder().build((Integer x) -> {
+            calls.incrementAndGet();
+            return x * x;
+        });
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals((i % 10) * (i % 10), square.apply(i % 10));
+        }
+        assertEquals(10, calls.get());
+        assertEquals(new Memoizer.Stats(90, 10, 0, 0), square.stats());
+    }
+
+    // computeIfAbsent 안에서 계산하면 "Recursive update"로 실패하던 경우
+    @Test
+    void allowsRecursionOnOtherKeys() {
+        fibonacci = Memoizer.builder().maximumSize(1_000)
+                .build((Integer n) -> n < 2 ? (long) n : fibonacci.apply(n - 1) + fibonacci.apply(n - 2));
+
+        assertEquals(12_586_269_025L, fibonacci.apply(50));
+        assertEquals(51, fibonacci.size());
+    }
+
+    @Test
+    void rejectsRecursionOnSameKey() {
+        fibonacci = Memoizer.builder().build((Integer n) -> fibonacci.apply(n));
+
+        assertThrows(IllegalStateException.class, () -> fibonacci.apply(1));
+        assertEquals(0, fibonacci.size());
+    }
+
+    @Test
+    void computesOncePerKeyUnderContention() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Memoizer<Integer, Integer> slow = Memoizer.builder().build((Integer x) -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return x + 1;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> slow.apply(7)));
+            }
+            // 다른 키는 계산 중인 키에 막히지 않음
+            assertEquals(2, Memoizer.builder().build((Integer x) -> x + 1).apply(1));
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(8, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(7, slow.stats().hitCount());
+        assertEquals(1, slow.stats().missCount());
+    }
+
+    @Test
+    void doesNotCacheNullOrFailedResults() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer<Integer, String> memoizer = Memoizer.builder().build((Integer x) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("첫 계산 실패");
+            }
+            return x < 0 ? null : "v" + x;
+        });
+
+        assertThrows(IllegalStateException.class, () -> memoizer.apply(1));
+        assertEquals("v1", memoizer.apply(1));
+        assertNull(memoizer.apply(-1));
+        assertNull(memoizer.apply(-1));
+        assertEquals(4, calls.get());
+        assertEquals(1, memoizer.size());
+    }
+
+    @Test
+    void evictsBeyondMaximumSize() {
+        Memoizer<Integer, Integer> memoizer = Memoizer.builder().maximumSize(100).build((Integer x) -> x);
+
+        for (int i = 0; i < 1_000; i++) {
+            memoizer.apply(i);
+        }
+        assertEquals(100, memoizer.size());
+        assertEquals(900, memoizer.stats().evictionCount());
+    }
+
+    // 한 번만 쓰이는 키가 대량으로 들어와도 자주 쓰이는 키는 남음 (LRU였다면 모두 밀려남)
+    @Test
+    void keepsFrequentlyUsedKeysDuringScan() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer<Integer, Integer> memoizer = Memoizer.builder().maximumSize(100).build((Integer x) -> {
+            calls.incrementAndGet();
+            return x;
+        });
+        for (int round = 0; round < 20; round++) {
+            for (int hot = 0; hot < 10; hot++) {
+                memoizer.apply(hot);
+            }
+        }
+        // 자주 쓰이는 키도 계속 쓰이는 동안 한 번만 쓰이는 키가 대량으로 지나감
+        for (int cold = 1_000; cold < 11_000; cold++) {
+            memoizer.apply(cold);
+            if (cold % 100 == 0) {
+                for (int hot = 0; hot < 10; hot++) {
+                    memoizer.apply(hot);
+                }
+            }
+        }
+
+        calls.set(0);
+        for (int hot = 0; hot < 10; hot++) {
+            memoizer.apply(hot);
+        }
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void recomputesAfterExpiry() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer<Integer, Integer> memoizer = Memoizer.builder().expireAfterWrite(Duration.ofMillis(50))
+                .build((Integer x) -> calls.incrementAndGet());
+
+        assertEquals(1, memoizer.apply(1));
+        assertEquals(1, memoizer.apply(1));
+        Thread.sleep(100);
+        assertEquals(2, memoizer.apply(1));
+        assertEquals(1, memoizer.stats().expirationCount());
+        assertEquals(1, memoizer.size());
+    }
+
+    @Test
+    void invalidateAllClearsEntries() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer<Integer, Integer> memoizer = Memoizer.builder().build((Integer x) -> calls.incrementAndGet());
+        memoizer.apply(1);
+        memoizer.invalidateAll();
+
+        assertEquals(0, memoizer.size());
+        assertEquals(2, memoizer.apply(1));
+    }
+
+    @Test
+    void biMemoizerKeysOnBothArguments() {
+        AtomicInteger calls = new AtomicInteger();
+        Memoizer.BiMemoizer<Integer, Integer, Integer> add = Memoizer.builder().build((Integer a, Integer b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        });
+
+        assertEquals(3, add.apply(1, 2));
+        assertEquals(3, add.apply(2, 1));
+        assertEquals(3, add.apply(1, 2));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().expireAfterWrite(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Memoizer.builder().build((Integer x) -> x).apply(null));
+    }
+}
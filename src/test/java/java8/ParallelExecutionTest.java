@@ -0,0 +1,124 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelExecutionTest {
+
+    // 파이프라인 안의 parallelStream()은 공통 풀이 아니라 작업 부하 전용 풀의 스레드에서 실행되어야 함
+    @Test
+    void parallelStreamRunsOnWorkloadPool() {
+        try (ParallelExecution execution = new ParallelExecution().register("analytics", 2, 1)) {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            long sum = execution.execute("analytics", () -> IntStream.range(0, 100_000).parallel()
+                    .peek(i -> threads.add(Thread.currentThread().getName()))
+                    .asLongStream()
+                    .sum());
+
+            assertEquals(4_999_950_000L, sum);
+            assertTrue(threads.stream().allMatch(name -> name.startsWith("analytics-worker-")), threads::toString);
+            ParallelExecution.Metrics metrics = execution.metrics("analytics");
+            assertTrue(metrics.getPoolSize() <= 2, metrics::toString);
+            assertEquals(2, metrics.getParallelism());
+        }
+    }
+
+    @Test
+    void rejectsWhenSaturatedAndCountsMetrics() throws Exception {
+        try (ParallelExecution execution = new ParallelExecution().register("analytics", 1, 1)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Integer> running = CompletableFuture.supplyAsync(() ->
+                    execution.execute("analytics", () -> {
+                        started.countDown();
+                        await(release);
+                        return 1;
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertEquals(1, execution.metrics("analytics").getInFlight());
+            assertThrows(RejectedExecutionException.class, () -> execution.execute("analytics", () -> 2));
+            assertEquals(1, execution.metrics("analytics").getRejected());
+
+            release.countDown();
+            assertEquals(1, running.get(5, TimeUnit.SECONDS));
+            ParallelExecution.Metrics metrics = execution.metrics("analytics");
+            assertEquals(0, metrics.getInFlight());
+            assertEquals(1, metrics.getCompleted());
+            assertEquals(1, metrics.getRejected());
+        }
+    }
+
+    // 대기 시간이 있으면 자리가 날 때까지 기다렸다가 실행
+    @Test
+    void admissionTimeoutWaitsForFreeSlot() throws Exception {
+        try (ParallelExecution execution =
+                     new ParallelExecution().register("analytics", 1, 1, Duration.ofSeconds(5))) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                    execution.execute("analytics", () -> {
+                        started.countDown();
+                        await(release);
+                        return 1;
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Integer> second =
+                    CompletableFuture.supplyAsync(() -> execution.execute("analytics", () -> 2));
+
+            release.countDown();
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(2, second.get(5, TimeUnit.SECONDS));
+            assertEquals(0, execution.metrics("analytics").getRejected());
+            assertEquals(2, execution.metrics("analytics").getCompleted());
+        }
+    }
+
+    // 예외로 끝난 파이프라인도 자리를 반납하고 완료 수에 포함
+    @Test
+    void failedPipelineReleasesSlot() {
+        try (ParallelExecution execution = new ParallelExecution().register("default", 1, 1)) {
+            assertThrows(IllegalStateException.class, () -> execution.execute("default", () -> {
+                throw new IllegalStateException("실패");
+            }));
+            assertEquals(0, execution.metrics("default").getInFlight());
+            assertEquals(1, execution.metrics("default").getCompleted());
+            assertEquals(3, (int) execution.execute("default", () -> 3));
+        }
+    }
+
+    @Test
+    void validatesRegistrationAndLookup() {
+        try (ParallelExecution execution = new ParallelExecution()
+                .register("default", 1, 1)
+                .register("analytics", 1, 1)) {
+            assertThrows(IllegalArgumentException.class, () -> execution.register("x", 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> execution.register("x", 1, 0));
+            assertThrows(IllegalStateException.class, () -> execution.register("default", 1, 1));
+            assertThrows(NoSuchElementException.class, () -> execution.execute("missing", () -> 1));
+            assertEquals(List.of("analytics", "default"), List.copyOf(execution.metrics().keySet()));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ShapeCacheTest {
+
+    // 로더마다 따로 정의되는 클래스
+    static final class Marker {
+    }
+
+    /**
+     * Marker만 부모에게 위임하지 않고 직접 정의하는 클래스 로더
+     */
+    private static final class IsolatingLoader extends ClassLoader {
+        IsolatingLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Marker.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    String resource = name.replace('.', '/') + ".class";
+                    try (InputStream in = ShapeCacheTest.class.getClassLoader().getResourceAsStream(resource)) {
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+
+    private static Class<?> markerIn(ClassLoader loader) throws ClassNotFoundException {
+        Class<?> marker = loader.loadClass(Marker.class.getName());
+        assertSame(loader, marker.getClassLoader());
+        return marker;
+    }
+
+    private static Object lookup(ShapeCache<Object> cache, List<Object> shape, AtomicInteger created) {
+        return cache.computeIfAbsent(shape, key -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+    }
+
+    @Test
+    void sameShapeReturnsTheCachedValue() {
+        ShapeCache<Object> cache = new ShapeCache<>();
+        AtomicInteger created = new AtomicInteger();
+        Object first = lookup(cache, List.of("filter", Marker.class, "sum"), created);
+        assertSame(first, lookup(cache, List.of("filter", Marker.class, "sum"), created));
+        assertNotSame(first, lookup(cache, List.of("filter", String.class, "sum"), created));
+        assertSame(first, lookup(cache, List.of("filter", Marker.class, "sum"), created));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    void shapesWithoutClassesAreCached() {
+        ShapeCache<Object> cache = new ShapeCache<>();
+        AtomicInteger created = new AtomicInteger();
+        Object first = lookup(cache, List.of("count"), created);
+        assertSame(first, lookup(cache, List.of("count"), created));
+        assertEquals(1, created.get());
+    }
+
+    // 기준 클래스 로더의 상위 로더에서 온 클래스만 섞여 있으면 캐시
+    @Test
+    void cachesWhenEveryClassIsVisibleFromTheAnchor() throws ClassNotFoundException {
+        ClassLoader parent = new IsolatingLoader(ShapeCacheTest.class.getClassLoader());
+        ClassLoader child = new IsolatingLoader(parent);
+        List<Object> shape = List.of(markerIn(parent), markerIn(child), String.class, ShapeCacheTest.class);
+
+        ShapeCache<Object> cache = new ShapeCache<>();
+        AtomicInteger created = new AtomicInteger();
+        assertSame(lookup(cache, shape, created), lookup(cache, shape, created));
+        assertEquals(1, created.get());
+    }
+
+    // 형제 로더의 클래스가 섞여 있으면 한쪽 로더가 다른 쪽을 붙잡지 않도록 캐시하지 않음
+    @Test
+    void doesNotCacheClassesFromSiblingLoaders() throws ClassNotFoundException {
+        ClassLoader application = ShapeCacheTest.class.getClassLoader();
+        List<Object> shape = List.of("map", markerIn(new IsolatingLoader(application)),
+                "filter", markerIn(new IsolatingLoader(application)));
+
+        ShapeCache<Object> cache = new ShapeCache<>();
+        AtomicInteger created = new AtomicInteger();
+        assertNotSame(lookup(cache, shape, created), lookup(cache, shape, created));
+        assertEquals(2, created.get());
+    }
+}
@@ -0,0 +1,154 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java8.StreamApiExample.Student;
+import java8.StudentRepository.Query;
+
+class StudentRepositoryTest {
+
+    private static final String[] GENDERS = {"남성", "여성"};
+
+    private record Case(String name, Query query, Predicate<Student> predicate) {
+    }
+
+    private static final List<Case> CASES = List.of(
+            new Case("age 19", Query.age(19), s -> s.getAge() == 19),
+            new Case("age 19 and male", Query.age(19).and(Query.gender("남성")),
+                    s -> s.getAge() == 19 && s.getGender().equals("남성")),
+            new Case("band >= 8 or age 17", Query.scoreBandAtLeast(8).or(Query.age(17)),
+                    s -> s.getScore() >= 80 || s.getAge() == 17),
+            new Case("age 18..19 and not female", Query.ageBetween(18, 19).and(Query.gender("여성").negate()),
+                    s -> s.getAge() >= 18 && s.getAge() <= 19 && !s.getGender().equals("여성")),
+            new Case("band 5 or band 9", Query.scoreBand(5).or(Query.scoreBand(9)),
+                    s -> s.getScore() / 10 == 5 || s.getScore() / 10 == 9),
+            new Case("(age 20 or female) and band >= 3",
+                    Query.age(20).or(Query.gender("여성")).and(Query.scoreBandAtLeast(3)),
+                    s -> (s.getAge() == 20 || s.getGender().equals("여성")) && s.getScore() >= 30),
+            new Case("missing age", Query.age(99), s -> s.getAge() == 99),
+            new Case("all", Query.all(), s -> true));
+
+    private static Student randomStudent(Random random, int id) {
+        return new Student("학생" + id, 17 + random.nextInt(4), GENDERS[random.nextInt(2)], random.nextInt(101));
+    }
+
+    /**
+     * 조회 결과가 남아 있는 학생을 직접 걸러낸 결과와 같은지 확인합니다.
+     * find는 행 번호 순서이고 행은 재사용되므로, 순서 대신 같은 학생 집합인지 비교합니다.
+     */
+    private static void assertMatches(StudentRepository repository, List<Student> present, String step) {
+        assertEquals(present.size(), repository.size(), step);
+        for (Case c : CASES) {
+            List<Student> expected = present.stream().filter(c.predicate()).collect(Collectors.toList());
+            List<Student> actual = repository.find(c.query());
+            assertEquals(expected.size(), actual.size(), () -> step + " / " + c.name());
+            assertEquals(identities(expected), identities(actual), step + " / " + c.name());
+            assertEquals(expected.size(), repository.count(c.query()), step + " / " + c.name());
+        }
+    }
+
+    private static Map<Student, Boolean> identities(List<Student> students) {
+        Map<Student, Boolean> result = new IdentityHashMap<>();
+        students.forEach(student -> result.put(student, Boolean.TRUE));
+        return result;
+    }
+
+    @Test
+    void queriesMatchStreamFilteringAfterInterleavedInsertsAndRemoves() {
+        Random random = new Random(9);
+        StudentRepository repository = new StudentRepository();
+        List<Student> present = new ArrayList<>();
+        int nextId = 0;
+        for (int round = 0; round < 300; round++) {
+            // 삽입이 조금 더 많도록 섞어서 행 재사용과 새 행 추가가 모두 일어나게 함
+            int inserts = random.nextInt(8);
+            for (int i = 0; i < inserts; i++) {
+                Student student = randomStudent(random, nextId++);
+                repository.insert(student);
+                present.add(student);
+            }
+            int removes = present.isEmpty() ? 0 : random.nextInt(Math.min(present.size(), 7) + 1);
+            for (int i = 0; i < removes; i++) {
+                Student student = present.remove(random.nextInt(present.size()));
+                assertTrue(repository.remove(student));
+            }
+            assertMatches(repository, present, "round " + round);
+        }
+    }
+
+    // 삭제된 행에 다시 넣은 학생이 이전 학생의 인덱스 항목을 물려받지 않아야 함
+    @Test
+    void reinsertingIntoReusedRowsKeepsIndexesExact() {
+        StudentRepository repository = new StudentRepository();
+        List<Student> present = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Student student = new Student("학생" + i, 17, "남성", 95);
+            repository.insert(student);
+            present.add(student);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            assertTrue(repository.remove(present.get(i)));
+        }
+        present.removeIf(student -> Integer.parseInt(student.getName().substring(2)) % 2 == 0);
+        assertMatches(repository, present, "after removes");
+
+        // 재사용된 행은 모두 다른 나이/성별/점수대로 채움
+        for (int i = 0; i < 10; i++) {
+            Student student = new Student("재학생" + i, 20, "여성", 15);
+            repository.insert(student);
+            present.add(student);
+        }
+        assertMatches(repository, present, "after reinserts");
+        assertEquals(10, repository.count(Query.age(17)));
+        assertEquals(10, repository.count(Query.age(20).and(Query.gender("여성")).and(Query.scoreBand(1))));
+        assertEquals(0, repository.count(Query.age(17).and(Query.gender("여성"))));
+
+        // 행이 재사용되었으므로 새 행이 늘어나지 않고 결과는 행 번호 순서
+        List<String> names = repository.find(Query.all()).stream().map(Student::getName).toList();
+        assertEquals(20, names.size());
+        assertTrue(names.get(0).startsWith("재학생"), names::toString);
+    }
+
+    @Test
+    void duplicateInsertAndUnknownRemoveAreIgnored() {
+        StudentRepository repository = new StudentRepository();
+        Student student = new Student("학생", 18, "여성", 70);
+        repository.insert(student);
+        repository.insert(student);
+        assertEquals(1, repository.size());
+        assertFalse(repository.remove(new Student("학생", 18, "여성", 70)));
+        assertTrue(repository.remove(student));
+        assertFalse(repository.remove(student));
+        assertEquals(0, repository.count(Query.all()));
+    }
+
+    // 조회 결과를 바꿔도 인덱스는 바뀌지 않아야 함 (단일 인덱스 조회는 복사본을 반환)
+    @Test
+    void queryResultsDoNotAliasIndexes() {
+        StudentRepository repository = new StudentRepository();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Student student = new Student("학생" + i, 18 + i % 2, GENDERS[i % 2], i * 10);
+            repository.insert(student);
+            students.add(student);
+        }
+        Query age18 = Query.age(18);
+        age18.evaluate(repository).add(9);
+        Query.all().evaluate(repository).remove(0);
+        age18.and(Query.gender("남성")).evaluate(repository).add(7);
+        assertMatches(repository, students, "after mutating results");
+        assertEquals(5, repository.count(age18));
+    }
+}
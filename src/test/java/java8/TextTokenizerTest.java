@@ -0,0 +1,76 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class TextTokenizerTest {
+
+    private static final List<String> EDGE_CASES = List.of(
+            "",
+            " ",
+            "   \t\n ",
+            "word",
+            " leading",
+            "trailing ",
+            "  both  ",
+            "repeated    separators\t\tand\n\nlines",
+            "a b c",
+            "\tmixed \r\n whitespace\f\u000Bkinds ",
+            "한글 토큰도   그대로");
+
+    // 연속 공백을 하나의 구분자로 보고 빈 토큰은 버리는 split
+    private static List<String> split(String text) {
+        return Arrays.stream(text.split("\\s+")).filter(token -> !token.isEmpty()).collect(Collectors.toList());
+    }
+
+    private static List<String> forEachToken(String text) {
+        List<String> tokens = new ArrayList<>();
+        TextTokenizer.forEachToken(text, (start, end) -> tokens.add(text.substring(start, end)));
+        return tokens;
+    }
+
+    private static List<String> tokens(String text) {
+        return TextTokenizer.tokens(text).map(CharSequence::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    void matchesSplitOnEdgeInputs() {
+        for (String text : EDGE_CASES) {
+            assertEquals(split(text), forEachToken(text), () -> "forEachToken [" + text + "]");
+            assertEquals(split(text), tokens(text), () -> "tokens [" + text + "]");
+        }
+    }
+
+    @Test
+    void matchesSplitOnRandomInputs() {
+        Random random = new Random(5);
+        char[] alphabet = {'a', 'b', 'c', ' ', ' ', '\t', '\n', 'x'};
+        for (int round = 0; round < 2_000; round++) {
+            char[] chars = new char[random.nextInt(40)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String text = new String(chars);
+            assertEquals(split(text), forEachToken(text), () -> "forEachToken [" + text + "]");
+            assertEquals(split(text), tokens(text), () -> "tokens [" + text + "]");
+        }
+    }
+
+    @Test
+    void tokenViewsCompareByContent() {
+        List<CharSequence> tokens = TextTokenizer.tokens("alpha beta alpha").collect(Collectors.toList());
+        assertEquals(tokens.get(0), tokens.get(2));
+        assertEquals(tokens.get(0).hashCode(), tokens.get(2).hashCode());
+        assertNotEquals(tokens.get(0), tokens.get(1));
+        assertEquals("lph", tokens.get(0).subSequence(1, 4).toString());
+        assertEquals(2, TextTokenizer.tokens("alpha beta alpha").distinct().count());
+    }
+}
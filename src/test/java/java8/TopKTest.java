@@ -0,0 +1,107 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TopKTest {
+
+    private record Item(int id, long score, int group) {
+    }
+
+    private static List<Item> items(int count, int distinctScores, long seed) {
+        Random random = new Random(seed);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Item(i, random.nextInt(distinctScores) - distinctScores / 2, random.nextInt(7)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> scores(List<Item> items) {
+        return items.stream().map(Item::score).collect(Collectors.toList());
+    }
+
+    /**
+     * 동점이면 어떤 원소가 남을지는 정해져 있지 않으므로, 키 순서가 sorted().limit(k)와 같고
+     * 결과의 원소가 모두 서로 다른 입력 원소인지 확인합니다.
+     */
+    private static void assertTopK(List<Item> input, List<Item> expected, List<Item> actual, String message) {
+        assertEquals(scores(expected), scores(actual), message);
+        Map<Item, Boolean> inputs = new IdentityHashMap<>();
+        input.forEach(item -> inputs.put(item, Boolean.TRUE));
+        Map<Item, Boolean> seen = new IdentityHashMap<>();
+        for (Item item : actual) {
+            assertTrue(seen.put(item, Boolean.TRUE) == null, message + ": 중복 원소 " + item);
+            assertTrue(inputs.containsKey(item), message + ": 입력에 없는 원소 " + item);
+        }
+    }
+
+    @Test
+    void parallelLargestAndSmallestMatchSortedLimit() {
+        for (int distinctScores : new int[] {5, 1_000, 1_000_000}) {
+            List<Item> input = items(50_000, distinctScores, distinctScores);
+            for (int k : new int[] {1, 3, 100, 10_000}) {
+                String message = "k=" + k + ", scores=" + distinctScores;
+                assertTopK(input,
+                        input.stream().sorted(Comparator.comparingLong(Item::score).reversed()).limit(k).toList(),
+                        input.parallelStream().collect(TopK.largest(k, Item::score)), "largest " + message);
+                assertTopK(input,
+                        input.stream().sorted(Comparator.comparingLong(Item::score)).limit(k).toList(),
+                        input.parallelStream().collect(TopK.smallest(k, Item::score)), "smallest " + message);
+            }
+        }
+    }
+
+    // k가 원소 수보다 크면 전체를 정렬한 결과
+    @Test
+    void kLargerThanInputReturnsEverythingSorted() {
+        List<Item> input = items(37, 10, 1);
+        List<Item> largest = input.parallelStream().collect(TopK.largest(1_000, Item::score));
+        assertTopK(input, input.stream().sorted(Comparator.comparingLong(Item::score).reversed()).toList(),
+                largest, "k > n");
+        assertEquals(input.size(), largest.size());
+        assertEquals(List.of(), List.<Item>of().stream().collect(TopK.largest(5, Item::score)));
+    }
+
+    @Test
+    void perGroupMatchesSortedLimitWithinEachGroup() {
+        List<Item> input = items(20_000, 500, 8);
+        Map<Integer, List<Item>> actual = input.parallelStream()
+                .collect(TopK.largestByGroup(4, Item::group, Item::score));
+        Map<Integer, List<Item>> byGroup = input.stream().collect(Collectors.groupingBy(Item::group));
+        assertEquals(byGroup.keySet(), actual.keySet());
+        byGroup.forEach((group, items) -> assertTopK(items,
+                items.stream().sorted(Comparator.comparingLong(Item::score).reversed()).limit(4).toList(),
+                actual.get(group), "group " + group));
+
+        Map<Integer, List<Item>> smallest = input.parallelStream()
+                .collect(TopK.smallestByGroup(4, Item::group, Item::score));
+        byGroup.forEach((group, items) -> assertTopK(items,
+                items.stream().sorted(Comparator.comparingLong(Item::score)).limit(4).toList(),
+                smallest.get(group), "smallest group " + group));
+    }
+
+    // 순차 스트림(누적기 하나)과 병렬 스트림(combiner로 병합)이 같은 키 순서
+    @Test
+    void sequentialAndParallelAgree() {
+        List<Item> input = items(10_000, 50, 4);
+        assertEquals(scores(input.stream().collect(TopK.largest(25, Item::score))),
+                scores(input.parallelStream().collect(TopK.largest(25, Item::score))));
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest(0, Item::score));
+        assertThrows(IllegalArgumentException.class, () -> TopK.smallest(-1, Item::score));
+        assertThrows(IllegalArgumentException.class, () -> TopK.largestByGroup(0, Item::group, Item::score));
+    }
+}
@@ -0,0 +1,225 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserFilter;
+import java8.UserBatchPublisher.UserBatch;
+
+class UserBatchPublisherTest {
+
+    private static ConcurrentSkipListMap<Long, User> users(int count) {
+        ConcurrentSkipListMap<Long, User> source = new ConcurrentSkipListMap<>();
+        for (int i = 0; i < count; i++) {
+            source.put((long) i, new User("user" + i, i % 3 == 0 ? "admin" : "user", 20 + i % 40));
+        }
+        return source;
+    }
+
+    private static final UserFilter ADMINS = user -> "admin".equals(user.getRole());
+
+    private static List<User> expected(ConcurrentSkipListMap<Long, User> source, UserFilter filter) {
+        return source.values().stream().filter(filter::filter).collect(Collectors.toList());
+    }
+
+    /**
+     * 받은 신호를 기록하는 구독자. 신호가 겹쳐 들어오거나 종료 신호 뒤에 신호가 오면 violation에 남깁니다.
+     */
+    private static class Recorder implements Flow.Subscriber<UserBatch> {
+        final List<UserBatch> batches = new ArrayList<>();
+        final AtomicBoolean inSignal = new AtomicBoolean();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+        volatile String violation;
+
+        private void enter(String signal) {
+            if (!inSignal.compareAndSet(false, true)) {
+                violation = signal + "이(가) 다른 신호와 겹침";
+            }
+            if (terminated.getCount() == 0) {
+                violation = "종료 후 " + signal;
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(UserBatch batch) {
+            enter("onNext");
+            batches.add(batch);
+            inSignal.set(false);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            enter("onError");
+            error = throwable;
+            inSignal.set(false);
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            enter("onComplete");
+            completed = true;
+            inSignal.set(false);
+            terminated.countDown();
+        }
+
+        List<User> users() {
+            return batches.stream().flatMap(batch -> batch.users().stream()).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void deliversNoMoreBatchesThanRequested() {
+        ConcurrentSkipListMap<Long, User> source = users(300);
+        Recorder recorder = new Recorder();
+        new UserBatchPublisher(source, ADMINS, 10, null, Runnable::run).subscribe(recorder);
+        assertEquals(0, recorder.batches.size());
+
+        recorder.subscription.request(2);
+        assertEquals(2, recorder.batches.size());
+        assertFalse(recorder.completed);
+
+        recorder.subscription.request(3);
+        assertEquals(5, recorder.batches.size());
+        for (UserBatch batch : recorder.batches) {
+            assertEquals(10, batch.users().size());
+        }
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertTrue(recorder.completed);
+        assertNull(recorder.violation);
+        assertEquals(expected(source, ADMINS), recorder.users());
+    }
+
+    @Test
+    void resumesAfterTheLastReceivedBatch() {
+        ConcurrentSkipListMap<Long, User> source = users(250);
+        Recorder first = new Recorder();
+        new UserBatchPublisher(source, ADMINS, 7, null, Runnable::run).subscribe(first);
+        first.subscription.request(3);
+        String token = first.batches.get(2).resumeToken();
+
+        // 끊긴 사이에 이미 받은 범위와 아직 받지 않은 범위의 사용자가 바뀌어도 중복/누락 없이 이어짐
+        source.remove(0L);
+        source.remove(200L);
+        source.put(1000L, new User("late", "admin", 33));
+
+        Recorder resumed = new Recorder();
+        new UserBatchPublisher(source, ADMINS, 7, token, Runnable::run).subscribe(resumed);
+        resumed.subscription.request(Long.MAX_VALUE);
+        assertTrue(resumed.completed);
+
+        List<User> all = new ArrayList<>(first.users());
+        all.addAll(resumed.users());
+        List<User> expected = new ArrayList<>(first.users());
+        long after = UserBatchPublisher.decodeToken(token);
+        source.tailMap(after, false).values().stream().filter(ADMINS::filter).forEach(expected::add);
+        assertEquals(expected, all);
+        assertTrue(all.stream().anyMatch(user -> user.getName().equals("late")));
+    }
+
+    @Test
+    void rejectsInvalidResumeTokens() {
+        ConcurrentSkipListMap<Long, User> source = users(10);
+        String wrongPrefix = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("x9:5".getBytes(StandardCharsets.US_ASCII));
+        String notANumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("u1:abc".getBytes(StandardCharsets.US_ASCII));
+        for (String token : List.of("", "not base64!", wrongPrefix, notANumber)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new UserBatchPublisher(source, ADMINS, 10, token, Runnable::run), token);
+        }
+        assertEquals(42L, UserBatchPublisher.decodeToken(UserBatchPublisher.encodeToken(42)));
+    }
+
+    @Test
+    void rejectsBatchSizesOutsideTheLimit() {
+        ConcurrentSkipListMap<Long, User> source = users(10);
+        for (int batchSize : new int[] {0, -1, UserBatchPublisher.MAX_BATCH_SIZE + 1}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new UserBatchPublisher(source, ADMINS, batchSize, null, Runnable::run));
+        }
+    }
+
+    @Test
+    void stopsAfterCancel() {
+        ConcurrentSkipListMap<Long, User> source = users(300);
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onNext(UserBatch batch) {
+                super.onNext(batch);
+                if (batches.size() == 2) {
+                    subscription.cancel();
+                }
+            }
+        };
+        new UserBatchPublisher(source, ADMINS, 5, null, Runnable::run).subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+        recorder.subscription.request(10);
+        assertEquals(2, recorder.batches.size());
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+    }
+
+    @Test
+    void nonPositiveRequestEndsWithOnError() {
+        Recorder recorder = new Recorder();
+        new UserBatchPublisher(users(100), ADMINS, 5, null, Runnable::run).subscribe(recorder);
+        recorder.subscription.request(1);
+        recorder.subscription.request(0);
+        recorder.subscription.request(5);
+        assertEquals(1, recorder.batches.size());
+        assertInstanceOf(IllegalArgumentException.class, recorder.error);
+        assertFalse(recorder.completed);
+        assertNull(recorder.violation);
+    }
+
+    // drain이 다른 스레드에서 onNext를 보내는 중에 request(0)이 와도 신호가 겹치거나 onError 뒤에 onNext가 오지 않음
+    @Test
+    void nonPositiveRequestDuringDrainIsSerialized() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int round = 0; round < 200; round++) {
+                Recorder recorder = new Recorder();
+                new UserBatchPublisher(users(3000), ADMINS, 1, null, executor).subscribe(recorder);
+                recorder.subscription.request(Long.MAX_VALUE);
+                recorder.subscription.request(-1);
+                assertTrue(recorder.terminated.await(10, TimeUnit.SECONDS));
+                Thread.sleep(1);
+                assertNull(recorder.violation);
+                assertTrue(recorder.error != null || recorder.completed);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
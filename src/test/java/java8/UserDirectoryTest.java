@@ -0,0 +1,113 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class UserDirectoryTest {
+
+    // 예상 크기보다 훨씬 많이 넣어 세그먼트 배열과 슬롯 테이블이 여러 번 커지게 한 뒤 HashMap과 비교
+    @Test
+    void lookupsMatchHashMapAfterSegmentGrowth() {
+        UserDirectory directory = new UserDirectory(0);
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 200_000; i++) {
+            String username = "user" + random.nextInt(150_000);
+            String name = "이름" + i;
+            directory.put(username, name);
+            expected.put(username, name);
+        }
+
+        assertEquals(expected.size(), directory.size());
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), directory.findName(entry.getKey()), entry.getKey());
+        }
+        for (int i = 0; i < 150_000; i++) {
+            String username = "user" + i;
+            assertEquals(expected.get(username), directory.findName(username), username);
+        }
+    }
+
+    // 없는 사용자는 null이며, 대부분 블룸 필터에서 걸러짐
+    @Test
+    void missingUsersAreRejectedByBloomFilter() {
+        UserDirectory directory = new UserDirectory(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            directory.put("user" + i, "이름" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertNull(directory.findName("missing" + i));
+        }
+        assertFalse(directory.contains("missing"));
+        assertEquals(Optional.empty(), directory.find("missing"));
+        assertTrue(directory.getBloomRejections() > 9_500, () -> "걸러진 조회 " + directory.getBloomRejections());
+    }
+
+    @Test
+    void putReplacesExistingName() {
+        UserDirectory directory = new UserDirectory(4);
+        directory.put("hong", "홍길동");
+        directory.put("hong", "홍길순");
+        assertEquals(1, directory.size());
+        assertEquals(Optional.of("홍길순"), directory.find("hong"));
+        assertThrows(NullPointerException.class, () -> directory.put(null, "이름"));
+        assertThrows(IllegalArgumentException.class, () -> new UserDirectory(-1));
+    }
+
+    // 쓰기(테이블 확장 포함)가 진행되는 동안에도 이미 추가된 사용자는 항상 조회되어야 함
+    @Test
+    void optimisticReadsSeeExistingEntriesDuringGrowth() throws Exception {
+        UserDirectory directory = new UserDirectory(0);
+        for (int i = 0; i < 1_000; i++) {
+            directory.put("user" + i, "이름" + i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 1_000; i < 200_000; i++) {
+                directory.put("user" + i, "이름" + i);
+            }
+            writing.set(false);
+        });
+        Random random = new Random(7);
+        while (writing.get()) {
+            int i = random.nextInt(1_000);
+            assertEquals("이름" + i, directory.findName("user" + i));
+        }
+        writer.get(30, TimeUnit.SECONDS);
+        assertEquals(200_000, directory.size());
+    }
+
+    @Test
+    void loadsTabSeparatedFile() throws IOException {
+        Path file = Files.createTempFile("users", ".tsv");
+        try {
+            Files.write(file, List.of("# 사용자명\t이름", "", "hong\t홍길동", "kim\t김영희"), StandardCharsets.UTF_8);
+            UserDirectory directory = UserDirectory.load(file, 2);
+            assertEquals(2, directory.size());
+            assertEquals("김영희", directory.findName("kim"));
+
+            Files.write(file, List.of("hong 홍길동"), StandardCharsets.UTF_8);
+            assertThrows(IOException.class, () -> UserDirectory.load(file, 1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserFilter;
+
+class UserFilterCompilerTest {
+
+    // 재최적화가 여러 번 일어날 만큼의 호출 수
+    private static final int CALLS = UserFilterCompiler.SAMPLE_RATE * UserFilterCompiler.REOPTIMIZE_INTERVAL * 3;
+
+    private static List<User> users(long seed) {
+        Random random = new Random(seed);
+        String[] roles = {"admin", "manager", "user", "user", "user"};
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String name = random.nextInt(4) == 0 ? null : (random.nextBoolean() ? "김" : "이") + i;
+            users.add(new User(name, roles[random.nextInt(roles.length)], random.nextInt(80)));
+        }
+        return users;
+    }
+
+    private static final List<UserFilter> LEAVES = List.of(
+            UserFilter.getAdminFilter(),
+            UserFilter.getManagerFilter(),
+            UserFilter.getAgeFilter(30),
+            UserFilter.getAgeFilter(70),
+            UserFilter.getRoleFilter("user"),
+            UserFilter.reorderable(user -> user.getAge() % 7 == 0),
+            user -> user.getName() != null,
+            user -> user.getName().length() > 2);
+
+    // 무작위 and/or/negate 트리 (마지막 두 조건은 항상 "이름이 있는지" 검사 뒤에 둠)
+    private static UserFilter randomFilter(Random random, int depth) {
+        if (depth == 0 || random.nextInt(3) == 0) {
+            if (random.nextInt(6) == 0) {
+                return LEAVES.get(6).and(LEAVES.get(7));
+            }
+            return LEAVES.get(random.nextInt(6));
+        }
+        UserFilter left = randomFilter(random, depth - 1);
+        UserFilter right = randomFilter(random, depth - 1);
+        UserFilter combined = switch (random.nextInt(3)) {
+            case 0 -> left.and(right);
+            case 1 -> left.or(right);
+            default -> left.and(right.negate());
+        };
+        return random.nextInt(5) == 0 ? combined.negate() : combined;
+    }
+
+    @Test
+    void compiledFilterMatchesPlainEvaluation() {
+        Random random = new Random(14);
+        List<User> users = users(1);
+        for (int tree = 0; tree < 30; tree++) {
+            UserFilter filter = randomFilter(random, 4);
+            UserFilter compiled = filter.compile();
+            for (int i = 0; i < CALLS / 10; i++) {
+                User user = users.get(i % users.size());
+                assertEquals(filter.filter(user), compiled.filter(user), "tree " + tree + ", user " + i);
+            }
+        }
+    }
+
+    // 표시되지 않은 조건은 선언한 순서를 유지하므로, 앞 조건이 전제인 뒤 조건이 먼저 평가되지 않음
+    @Test
+    void keepsDeclaredOrderOfUnmarkedConditions() {
+        List<User> users = users(2);
+        UserFilter hasName = user -> user.getName() != null;
+        UserFilter startsWithKim = user -> user.getName().startsWith("김");
+        UserFilterCompiler.Compiled compiled = UserFilterCompiler.compile(
+                hasName.and(startsWithKim).and(UserFilter.getAgeFilter(75)));
+
+        long matched = 0;
+        long expected = 0;
+        for (int i = 0; i < CALLS; i++) {
+            User user = users.get(i % users.size());
+            if (compiled.filter(user)) {
+                matched++;
+            }
+            if (user.getName() != null && user.getName().startsWith("김") && user.getAge() >= 75) {
+                expected++;
+            }
+        }
+        assertEquals(expected, matched);
+        assertTrue(compiled.plan().startsWith("(L0 & L1"), compiled.plan());
+    }
+
+    @Test
+    void reordersRunsOfMarkedConditions() {
+        List<User> users = users(3);
+        UserFilter slowAndPermissive = UserFilter.reorderable(user -> {
+            double sum = 0;
+            for (int i = 0; i < 200; i++) {
+                sum += Math.sqrt(i + user.getAge());
+            }
+            return sum > 0;
+        });
+        UserFilter selective = UserFilter.reorderable(user -> user.getAge() < 4);
+        UserFilter unmarked = user -> user.getRole() != null;
+        UserFilterCompiler.Compiled compiled = UserFilterCompiler.compile(
+                slowAndPermissive.and(selective).and(unmarked));
+
+        for (int i = 0; i < CALLS; i++) {
+            compiled.filter(users.get(i % users.size()));
+        }
+        assertTrue(compiled.getReoptimizations() > 0);
+        // 표시된 두 조건만 자리를 바꾸고, 표시되지 않은 조건은 그대로 마지막
+        assertEquals("(L1 & L0 & L2)", compiled.plan());
+    }
+
+    @Test
+    void skipsSamplingWithoutReorderableConditions() {
+        List<User> users = users(4);
+        UserFilter first = user -> user.getAge() > 10;
+        UserFilter second = user -> user.getAge() < 20;
+        UserFilterCompiler.Compiled compiled = UserFilterCompiler.compile(
+                first.or(second).and(UserFilter.getAdminFilter()));
+
+        for (int i = 0; i < CALLS; i++) {
+            compiled.filter(users.get(i % users.size()));
+        }
+        assertEquals(0, compiled.getReoptimizations());
+    }
+
+    @Test
+    void rejectsNullFilters() {
+        assertThrows(IllegalArgumentException.class, () -> UserFilter.reorderable(null));
+        assertThrows(IllegalArgumentException.class, () -> UserFilterCompiler.compile(null));
+    }
+}
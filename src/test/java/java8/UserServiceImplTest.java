@@ -0,0 +1,109 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java8.InterfaceEnhancementsExample.User;
+import java8.InterfaceEnhancementsExample.UserServiceImpl;
+
+class UserServiceImplTest {
+
+    private static final String[] ROLES = {"admin", "user", "manager", "guest"};
+
+    private static User randomUser(Random random, int id) {
+        return new User("user" + id, ROLES[random.nextInt(ROLES.length)], 18 + random.nextInt(50));
+    }
+
+    // 집계가 전체 사용자를 다시 훑은 결과와 같은지 확인
+    private static void assertMatchesRescan(UserServiceImpl service, String step) {
+        List<User> all = service.getAllUsers();
+        Map<String, Long> counts = all.stream().collect(Collectors.groupingBy(User::getRole, Collectors.counting()));
+        double average = all.stream().mapToInt(User::getAge).average().orElse(0);
+        assertEquals(counts, service.countUsersByRole(), step);
+        assertEquals(average, service.getAverageAge(), 1e-9, step);
+    }
+
+    @Test
+    void aggregatesMatchRescanAfterMixedUpdates() {
+        Random random = new Random(15);
+        List<User> initial = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            initial.add(randomUser(random, i));
+        }
+        UserServiceImpl service = new UserServiceImpl(initial);
+        List<User> registered = new ArrayList<>(initial);
+        List<User> removed = new ArrayList<>();
+        assertMatchesRescan(service, "initial");
+
+        int nextId = initial.size();
+        for (int step = 0; step < 5_000; step++) {
+            int action = random.nextInt(6);
+            if (action == 0 || registered.isEmpty()) {
+                User user = randomUser(random, nextId++);
+                service.addUser(user);
+                registered.add(user);
+            } else if (action == 1) {
+                User user = registered.remove(random.nextInt(registered.size()));
+                service.removeUser(user);
+                removed.add(user);
+            } else if (action == 2) {
+                service.updateRole(registered.get(random.nextInt(registered.size())),
+                        ROLES[random.nextInt(ROLES.length)]);
+            } else if (action == 3) {
+                service.updateAge(registered.get(random.nextInt(registered.size())), 18 + random.nextInt(50));
+            } else if (action == 4 && !removed.isEmpty()) {
+                // 삭제된 사용자는 집계에 없으므로 변경해도 집계가 바뀌지 않아야 함
+                User user = removed.get(random.nextInt(removed.size()));
+                service.updateRole(user, ROLES[random.nextInt(ROLES.length)]);
+                service.updateAge(user, 18 + random.nextInt(50));
+            } else {
+                // 한 번도 등록되지 않은 사용자
+                User stranger = randomUser(random, -1);
+                service.updateRole(stranger, "admin");
+                service.updateAge(stranger, 99);
+                assertEquals("admin", stranger.getRole());
+                assertEquals(99, stranger.getAge());
+                assertFalse(service.removeUser(stranger));
+            }
+            assertMatchesRescan(service, "step " + step);
+        }
+        assertEquals(registered.size(), service.getAllUsers().size());
+    }
+
+    @Test
+    void removingEveryUserLeavesEmptyAggregates() {
+        List<User> users = List.of(new User("a", "admin", 30), new User("b", "user", 40));
+        UserServiceImpl service = new UserServiceImpl(users);
+        users.forEach(service::removeUser);
+        assertEquals(Map.of(), service.countUsersByRole());
+        assertEquals(0.0, service.getAverageAge(), 0.0);
+    }
+
+    @Test
+    void rejectsDuplicateRegistration() {
+        User user = new User("a", "admin", 30);
+        UserServiceImpl service = new UserServiceImpl(List.of(user));
+        assertThrows(IllegalArgumentException.class, () -> service.addUser(user));
+        assertMatchesRescan(service, "after duplicate");
+    }
+
+    @Test
+    void getAllUsersIsAReadOnlySnapshot() {
+        User first = new User("a", "admin", 30);
+        UserServiceImpl service = new UserServiceImpl(List.of(first));
+        List<User> snapshot = service.getAllUsers();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new User("b", "user", 20)));
+        service.addUser(new User("c", "user", 25));
+        assertEquals(List.of(first), snapshot);
+        assertEquals(2, service.getAllUsers().size());
+    }
+}
@@ -0,0 +1,127 @@
+package java8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ZoneBatchConverterTest {
+
+    private static final List<ZoneId> ZONES = List.of(
+            ZoneOffset.UTC,
+            ZoneOffset.ofHoursMinutes(-3, -30),
+            ZoneId.of("Asia/Seoul"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"),
+            ZoneId.of("Pacific/Apia"),
+            ZoneId.of("Asia/Kolkata"));
+
+    private static final long MIN_MILLIS = Instant.parse("1800-01-01T00:00:00Z").toEpochMilli();
+    private static final long MAX_MILLIS = Instant.parse("2300-01-01T00:00:00Z").toEpochMilli();
+
+    // 전환 시점 바로 앞뒤와 2100년 이후(ZoneRules 직접 계산)를 포함한 시각
+    private static long[] instants(ZoneId zone, Random random) {
+        List<Long> instants = new ArrayList<>();
+        ZoneRules rules = zone.getRules();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(MIN_MILLIS));
+        while (transition != null && transition.getInstant().toEpochMilli() < MAX_MILLIS) {
+            long at = transition.getInstant().toEpochMilli();
+            instants.add(at - 1);
+            instants.add(at);
+            instants.add(at + 1);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        for (int i = 0; i < 20_000; i++) {
+            instants.add(MIN_MILLIS + (long) (random.nextDouble() * (MAX_MILLIS - MIN_MILLIS)));
+        }
+        long[] result = instants.stream().mapToLong(Long::longValue).toArray();
+        // 정렬된 구간과 무작위 순서를 모두 확인 (hint 구간 탐색과 이진 탐색)
+        Arrays.sort(result, 0, result.length / 2);
+        return result;
+    }
+
+    @Test
+    void offsetsMatchZoneRules() {
+        Random random = new Random(24);
+        for (ZoneId zone : ZONES) {
+            ZoneBatchConverter converter = ZoneBatchConverter.of(zone);
+            long[] epochMillis = instants(zone, random);
+            int[] offsets = new int[epochMillis.length];
+            converter.offsets(epochMillis, offsets);
+            for (int i = 0; i < epochMillis.length; i++) {
+                ZoneOffset expected = zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis[i]));
+                assertEquals(expected.getTotalSeconds(), offsets[i], zone + " " + Instant.ofEpochMilli(epochMillis[i]));
+                assertEquals(expected, converter.getOffset(epochMillis[i]));
+            }
+        }
+    }
+
+    @Test
+    void localTimesMatchInstantAtZone() {
+        Random random = new Random(25);
+        for (ZoneId zone : ZONES) {
+            ZoneBatchConverter converter = ZoneBatchConverter.of(zone);
+            long[] epochMillis = instants(zone, random);
+            long[] localMillis = new long[epochMillis.length];
+            int[] epochDays = new int[epochMillis.length];
+            int[] millisOfDay = new int[epochMillis.length];
+            converter.toLocalEpochMillis(epochMillis, localMillis);
+            converter.toLocal(epochMillis, epochDays, millisOfDay);
+            for (int i = 0; i < epochMillis.length; i++) {
+                LocalDateTime expected = Instant.ofEpochMilli(epochMillis[i]).atZone(zone).toLocalDateTime();
+                String message = zone + " " + Instant.ofEpochMilli(epochMillis[i]);
+                assertEquals(expected, converter.toLocalDateTime(epochMillis[i]), message);
+                assertEquals(expected.toInstant(ZoneOffset.UTC).toEpochMilli(), localMillis[i], message);
+                assertEquals(expected.toLocalDate().toEpochDay(), epochDays[i], message);
+                assertEquals(expected.toLocalTime().toNanoOfDay() / 1_000_000, millisOfDay[i], message);
+            }
+        }
+    }
+
+    @Test
+    void dstTransitionsInSeoulHistoryAndNewYork() {
+        ZoneBatchConverter newYork = ZoneBatchConverter.of(ZoneId.of("America/New_York"));
+        long springForward = Instant.parse("2024-03-10T07:00:00Z").toEpochMilli();
+        assertEquals(LocalDateTime.of(2024, 3, 10, 1, 59, 59, 999_000_000), newYork.toLocalDateTime(springForward - 1));
+        assertEquals(LocalDateTime.of(2024, 3, 10, 3, 0), newYork.toLocalDateTime(springForward));
+        long fallBack = Instant.parse("2024-11-03T06:00:00Z").toEpochMilli();
+        assertEquals(LocalDateTime.of(2024, 11, 3, 1, 59, 59, 999_000_000), newYork.toLocalDateTime(fallBack - 1));
+        assertEquals(LocalDateTime.of(2024, 11, 3, 1, 0), newYork.toLocalDateTime(fallBack));
+
+        // 서울은 1988년 이후 일광 절약 시간이 없음
+        ZoneBatchConverter seoul = ZoneBatchConverter.of(ZoneId.of("Asia/Seoul"));
+        assertEquals(ZoneOffset.ofHours(10), seoul.getOffset(Instant.parse("1988-06-01T00:00:00Z").toEpochMilli()));
+        assertEquals(ZoneOffset.ofHours(9), seoul.getOffset(Instant.parse("2024-06-01T00:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void fixedOffsetsHaveNoTransitions() {
+        assertEquals(0, ZoneBatchConverter.of(ZoneOffset.ofHours(9)).getTransitionCount());
+        assertEquals(ZoneOffset.ofHours(9), ZoneBatchConverter.of(ZoneOffset.ofHours(9)).getOffset(Long.MIN_VALUE / 2));
+        assertTrue(ZoneBatchConverter.of(ZoneId.of("Europe/London")).getTransitionCount() > 100);
+    }
+
+    @Test
+    void cachesConvertersAndChecksOutputLength() {
+        ZoneId zone = ZoneId.of("Europe/London");
+        assertSame(ZoneBatchConverter.of(zone), ZoneBatchConverter.of(zone));
+        assertThrows(IllegalArgumentException.class,
+                () -> ZoneBatchConverter.of(zone).offsets(new long[3], new int[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> ZoneBatchConverter.of(zone).toLocal(new long[3], new int[3], new int[2]));
+    }
+}